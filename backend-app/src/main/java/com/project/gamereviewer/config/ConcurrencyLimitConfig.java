@@ -0,0 +1,63 @@
+package com.project.gamereviewer.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.project.gamereviewer.constant.ApiConstants;
+import com.project.gamereviewer.limit.ConcurrencyLimiter;
+import com.project.gamereviewer.limit.ConcurrencyLimiters;
+import com.project.gamereviewer.limit.ConcurrencyLimitInterceptor;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Adaptive concurrency limits per route group. The check runs as a handler interceptor rather than a
+ * filter so that rejections get the CORS headers and the usual error body.
+ */
+@Configuration
+@RequiredArgsConstructor
+@EnableConfigurationProperties(ConcurrencyLimitProperties.class)
+@ConditionalOnProperty(name = "app.concurrency-limit.enabled", havingValue = "true", matchIfMissing = true)
+public class ConcurrencyLimitConfig implements WebMvcConfigurer {
+
+    private final ConcurrencyLimitProperties properties;
+
+    @Bean
+    public ConcurrencyLimiters concurrencyLimiters() {
+        return new ConcurrencyLimiters(properties.groups().stream()
+            .map(group -> ConcurrencyLimiters.group(group.name(), group.paths(),
+                group.initialLimit(), group.minLimit(), group.maxLimit()))
+            .toList());
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new ConcurrencyLimitInterceptor(concurrencyLimiters()))
+            .addPathPatterns(ApiConstants.API_BASE_PATH + "/**");
+    }
+
+    @Bean
+    public MeterBinder concurrencyLimitMetrics(ConcurrencyLimiters limiters) {
+        return registry -> limiters.all().forEach(limiter -> {
+            Gauge.builder("app.concurrency.limit", limiter, ConcurrencyLimiter::limit)
+                .tag("group", limiter.group())
+                .description("Current adaptive concurrency limit")
+                .register(registry);
+            Gauge.builder("app.concurrency.in-flight", limiter, ConcurrencyLimiter::inFlight)
+                .tag("group", limiter.group())
+                .description("Requests currently holding a permit")
+                .register(registry);
+            FunctionCounter.builder("app.concurrency.rejected", limiter, ConcurrencyLimiter::rejected)
+                .tag("group", limiter.group())
+                .description("Requests rejected with 503 because the group was at its limit")
+                .register(registry);
+        });
+    }
+}
@@ -0,0 +1,26 @@
+package com.project.gamereviewer.config;
+
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * {@code app.concurrency-limit}: each group caps the concurrent requests to its {@code paths} (Ant
+ * patterns) with a limit that adapts to latency between {@code min-limit} and {@code max-limit}. A request
+ * counts against the first group it matches; requests outside every group are not limited.
+ */
+@ConfigurationProperties("app.concurrency-limit")
+public record ConcurrencyLimitProperties(
+    @DefaultValue("true") boolean enabled,
+    @DefaultValue List<Group> groups
+) {
+
+    public record Group(
+        String name,
+        List<String> paths,
+        @DefaultValue("20") int initialLimit,
+        @DefaultValue("2") int minLimit,
+        @DefaultValue("200") int maxLimit
+    ) {}
+}
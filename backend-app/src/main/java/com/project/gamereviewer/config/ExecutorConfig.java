@@ -0,0 +1,68 @@
+package com.project.gamereviewer.config;
+
+import java.util.List;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.core.task.support.CompositeTaskDecorator;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import com.project.gamereviewer.datasource.ReadReplicaRouting;
+import com.project.gamereviewer.datasource.WorkloadRouting;
+import com.project.gamereviewer.sql.SqlStatementCounter;
+
+@Configuration
+public class ExecutorConfig {
+
+    public static final String GAME_DETAIL_EXECUTOR = "gameDetailExecutor";
+    public static final String MVC_ASYNC_EXECUTOR = "mvcAsyncExecutor";
+
+    /** Carries the request's SQL statement counter, primary pin and workload class over to the executor threads. */
+    static TaskDecorator requestContextPropagating() {
+        return new CompositeTaskDecorator(List.of(SqlStatementCounter.propagating(), ReadReplicaRouting.propagating(),
+            WorkloadRouting.propagating()));
+    }
+
+    /**
+     * Runs the sub-queries of a game detail request. Each task holds a pooled connection, so the pool
+     * size should stay well below the datasource maximum; when the queue is full the caller runs the
+     * task itself instead of failing. {@link VirtualThreadConfig} replaces it when virtual threads are on.
+     */
+    @Bean(GAME_DETAIL_EXECUTOR)
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public ThreadPoolTaskExecutor gameDetailExecutor(
+            @Value("${app.game-detail.pool-size:4}") int poolSize,
+            @Value("${app.game-detail.queue-capacity:100}") int queueCapacity
+    ) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("game-detail-");
+        executor.setTaskDecorator(requestContextPropagating());
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        return executor;
+    }
+
+    /**
+     * Writes asynchronous MVC responses: streaming exports and the elements of reactive return values.
+     * Without it Spring MVC falls back to a new thread per task, which for a reactive stream means a
+     * thread per written chunk.
+     */
+    @Bean(MVC_ASYNC_EXECUTOR)
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public ThreadPoolTaskExecutor mvcAsyncExecutor(@Value("${app.mvc-async.pool-size:32}") int poolSize) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setThreadNamePrefix("mvc-async-");
+        executor.setTaskDecorator(requestContextPropagating());
+        return executor;
+    }
+}
@@ -5,8 +5,10 @@ import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
 
+import com.project.gamereviewer.repository.BaseJpaRepository;
+
 @Configuration
-@EnableJpaRepositories(basePackages = "com.project.gamereviewer.repository")
+@EnableJpaRepositories(basePackages = "com.project.gamereviewer.repository", repositoryBaseClass = BaseJpaRepository.class)
 @EnableTransactionManagement
 @EnableJpaAuditing
 public class JpaConfig {
@@ -0,0 +1,29 @@
+package com.project.gamereviewer.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Service timers next to what Spring Boot meters on its own: {@code http.server.requests} per route,
+ * {@code hikaricp.connections.*}, {@code hibernate.*} (while Hibernate statistics are on, see
+ * {@code app.second-level-cache.statistics}), {@code spring.data.repository.invocations} and the
+ * executors. Everything is scraped from {@code /actuator/prometheus}.
+ */
+@Configuration
+public class MetricsConfig {
+
+    /**
+     * Timer of every public service method, tagged with {@code class} and {@code method}. Not applied to
+     * {@code ReactiveCatalogService}, whose methods return before their queries run.
+     */
+    public static final String SERVICE_TIMER = "app.service";
+
+    /** Applies class-level {@code @Timed(SERVICE_TIMER)} on the services. */
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+}
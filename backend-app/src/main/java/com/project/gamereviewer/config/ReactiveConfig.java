@@ -0,0 +1,77 @@
+package com.project.gamereviewer.config;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.util.StringUtils;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Non-blocking connection pool for the reactive read API. The pool is deliberately not exposed as a
+ * {@code ConnectionFactory} bean: Spring Boot backs off its JDBC {@code DataSource} as soon as one
+ * exists, and JPA keeps using JDBC. Spring Boot's own R2DBC auto-configuration is excluded in
+ * {@code application.yml} for the same reason. Without {@code app.reactive.url} the host, port and
+ * database of the JDBC URL and the datasource credentials are reused; JDBC driver parameters are not
+ * carried over.
+ */
+@Configuration
+public class ReactiveConfig {
+
+    private static final String JDBC_URL_PREFIX = "jdbc:";
+    private static final String R2DBC_URL_PREFIX = "r2dbc:";
+
+    private final ConnectionPool connectionPool;
+
+    public ReactiveConfig(
+            @Value("${app.reactive.url:}") String url,
+            @Value("${spring.datasource.url}") String jdbcUrl,
+            @Value("${app.reactive.username:${spring.datasource.username:}}") String username,
+            @Value("${app.reactive.password:${spring.datasource.password:}}") String password,
+            @Value("${app.reactive.pool.initial-size:1}") int initialSize,
+            @Value("${app.reactive.pool.max-size:10}") int maxSize,
+            @Value("${app.reactive.pool.max-idle-time:PT30M}") Duration maxIdleTime,
+            @Value("${app.reactive.pool.max-acquire-time:PT30S}") Duration maxAcquireTime
+    ) {
+        ConnectionFactoryOptions.Builder options = ConnectionFactoryOptions
+            .parse(StringUtils.hasText(url) ? url : toR2dbcUrl(jdbcUrl))
+            .mutate();
+        if (StringUtils.hasText(username)) {
+            options.option(ConnectionFactoryOptions.USER, username);
+        }
+        if (StringUtils.hasText(password)) {
+            options.option(ConnectionFactoryOptions.PASSWORD, password);
+        }
+        this.connectionPool = new ConnectionPool(ConnectionPoolConfiguration
+            .builder(ConnectionFactories.get(options.build()))
+            .name("reactive-pool")
+            .initialSize(initialSize)
+            .maxSize(maxSize)
+            .maxIdleTime(maxIdleTime)
+            .maxAcquireTime(maxAcquireTime)
+            .build());
+    }
+
+    @Bean
+    public DatabaseClient reactiveDatabaseClient() {
+        return DatabaseClient.create(connectionPool);
+    }
+
+    private static String toR2dbcUrl(String jdbcUrl) {
+        String address = jdbcUrl.substring(JDBC_URL_PREFIX.length());
+        int query = address.indexOf('?');
+        return R2DBC_URL_PREFIX + (query < 0 ? address : address.substring(0, query));
+    }
+
+    @PreDestroy
+    public void closeConnectionPool() {
+        connectionPool.dispose();
+    }
+}
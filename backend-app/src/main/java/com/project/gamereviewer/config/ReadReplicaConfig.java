@@ -0,0 +1,102 @@
+package com.project.gamereviewer.config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.project.gamereviewer.datasource.DataSourceDecorator;
+import com.project.gamereviewer.datasource.FairDataSource;
+import com.project.gamereviewer.datasource.PrimaryAfterWriteFilter;
+import com.project.gamereviewer.datasource.ReadReplicaDataSource;
+import com.project.gamereviewer.datasource.ReadReplicas;
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Sends read-only transactions to read replicas. The primary is wrapped in a
+ * {@link LazyConnectionDataSourceProxy}, which fetches the real connection at the first statement,
+ * after the transaction has marked it read-only, and then takes it from the replicas. Non-transactional
+ * reads, such as the version check of a game detail, still go to the primary.
+ */
+@Configuration
+@EnableConfigurationProperties(ReadReplicaProperties.class)
+@ConditionalOnProperty(name = "app.datasource.read-replicas.enabled", havingValue = "true")
+public class ReadReplicaConfig {
+
+    /** Each replica gets a pool configured like the primary's ({@code spring.datasource.hikari}). */
+    @Bean(destroyMethod = "close")
+    public ReadReplicas readReplicas(ReadReplicaProperties properties, DataSourceProperties dataSourceProperties,
+            Environment environment) {
+        boolean fairQueue = VirtualThreadConfig.fairQueueEnabled(environment);
+
+        List<ReadReplicas.Replica> replicas = new ArrayList<>();
+        for (int i = 0; i < properties.replicas().size(); i++) {
+            ReadReplicaProperties.Replica replica = properties.replicas().get(i);
+            String name = replica.name() != null ? replica.name() : String.valueOf(i + 1);
+
+            DataSourceBuilder<HikariDataSource> builder = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .url(replica.url());
+            if (replica.username() != null) {
+                builder.username(replica.username());
+            }
+            if (replica.password() != null) {
+                builder.password(replica.password());
+            }
+            HikariDataSource pool = builder.build();
+            Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(pool));
+            pool.setPoolName("replica-" + name);
+            pool.setReadOnly(true);
+            if (replica.maximumPoolSize() != null) {
+                pool.setMaximumPoolSize(replica.maximumPoolSize());
+            }
+
+            replicas.add(new ReadReplicas.Replica(name, pool, fairQueue ? FairDataSource.of(pool) : pool));
+        }
+        return new ReadReplicas(replicas, properties.maxLag());
+    }
+
+    @Bean
+    public static DataSourceDecorator readReplicaRoutingDecorator(ObjectProvider<ReadReplicas> replicas) {
+        return new DataSourceDecorator(DataSourceDecorator.READ_REPLICA_ROUTING, primary -> {
+            LazyConnectionDataSourceProxy routing = new LazyConnectionDataSourceProxy(primary);
+            routing.setReadOnlyDataSource(new ReadReplicaDataSource(primary, replicas.getObject()));
+            return routing;
+        });
+    }
+
+    @Bean
+    public FilterRegistrationBean<PrimaryAfterWriteFilter> primaryAfterWriteFilter(ReadReplicaProperties properties) {
+        return new FilterRegistrationBean<>(new PrimaryAfterWriteFilter(properties.primaryAfterWrite()));
+    }
+
+    /** The replica pools' {@code hikaricp_*} metrics, by pool name, and each replica's last measured lag. */
+    @Bean
+    public MeterBinder readReplicaMetrics(ReadReplicas replicas) {
+        return registry -> replicas.replicas().forEach(replica -> {
+            if (replica.pool().getMetricRegistry() == null) {
+                replica.pool().setMetricRegistry(registry);
+            }
+            Gauge.builder("app.datasource.replica.lag", replica,
+                    r -> r.lag() == null ? Double.NaN : r.lag().toMillis() / 1000.0)
+                .tag("replica", replica.name())
+                .baseUnit("seconds")
+                .description("Replay lag behind the primary at the last check, NaN while unreachable")
+                .register(registry);
+        });
+    }
+}
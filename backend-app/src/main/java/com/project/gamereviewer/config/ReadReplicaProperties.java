@@ -0,0 +1,29 @@
+package com.project.gamereviewer.config;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * {@code app.datasource.read-replicas}: replicas serve read-only transactions while they lag at most
+ * {@code max-lag}; for {@code primary-after-write} after a write the writing client reads from the
+ * primary. A replica without username, password or pool size takes those of {@code spring.datasource}.
+ */
+@ConfigurationProperties("app.datasource.read-replicas")
+public record ReadReplicaProperties(
+    @DefaultValue("false") boolean enabled,
+    @DefaultValue("5s") Duration maxLag,
+    @DefaultValue("10s") Duration primaryAfterWrite,
+    @DefaultValue List<Replica> replicas
+) {
+
+    public record Replica(
+        String name,
+        String url,
+        String username,
+        String password,
+        Integer maximumPoolSize
+    ) {}
+}
@@ -0,0 +1,92 @@
+package com.project.gamereviewer.config;
+
+import java.net.URI;
+import java.time.Duration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+
+import org.ehcache.config.builders.CacheConfigurationBuilder;
+import org.ehcache.config.builders.ExpiryPolicyBuilder;
+import org.ehcache.config.builders.ResourcePoolsBuilder;
+import org.ehcache.core.config.DefaultConfiguration;
+import org.ehcache.expiry.ExpiryPolicy;
+import org.ehcache.jsr107.Eh107Configuration;
+import org.ehcache.jsr107.EhcacheCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.project.gamereviewer.constant.CacheRegions;
+
+/**
+ * Hibernate second-level cache for the reference entities. Every region is created here with a
+ * bounded heap size and a time-to-live, and Hibernate is told to fail on any region that is not, so
+ * an unbounded cache cannot appear by adding a {@code @Cache} annotation alone.
+ */
+@Configuration
+public class SecondLevelCacheConfig {
+
+    private static final URI CACHE_MANAGER_URI = URI.create("urn:game-reviewer:second-level-cache");
+
+    @Value("${app.second-level-cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.second-level-cache.statistics:true}")
+    private boolean statistics;
+
+    @Value("${app.second-level-cache.entity.max-entries:5000}")
+    private long entityMaxEntries;
+
+    @Value("${app.second-level-cache.entity.ttl:PT1H}")
+    private Duration entityTtl;
+
+    @Value("${app.second-level-cache.query.max-entries:200}")
+    private long queryMaxEntries;
+
+    @Value("${app.second-level-cache.query.ttl:PT10M}")
+    private Duration queryTtl;
+
+    @Bean(destroyMethod = "close")
+    public CacheManager secondLevelCacheManager() {
+        EhcacheCachingProvider provider = (EhcacheCachingProvider) Caching.getCachingProvider(EhcacheCachingProvider.class.getName());
+        CacheManager cacheManager = provider.getCacheManager(CACHE_MANAGER_URI, new DefaultConfiguration(getClass().getClassLoader()));
+
+        for (String region : CacheRegions.ENTITY_REGIONS) {
+            createCache(cacheManager, region, entityMaxEntries, ExpiryPolicyBuilder.timeToLiveExpiration(entityTtl));
+        }
+        createCache(cacheManager, CacheRegions.QUERY_RESULTS, queryMaxEntries,
+            ExpiryPolicyBuilder.timeToLiveExpiration(queryTtl));
+        // One entry per table; expiring these would let stale query results be served.
+        createCache(cacheManager, CacheRegions.UPDATE_TIMESTAMPS, 1000, ExpiryPolicyBuilder.noExpiration());
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager secondLevelCacheManager) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, enabled);
+            properties.put(AvailableSettings.USE_QUERY_CACHE, enabled);
+            properties.put(AvailableSettings.GENERATE_STATISTICS, statistics);
+            if (enabled) {
+                properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+                properties.put(ConfigSettings.CACHE_MANAGER, secondLevelCacheManager);
+                properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+            }
+        };
+    }
+
+    private static void createCache(CacheManager cacheManager, String region, long maxEntries,
+            ExpiryPolicy<Object, Object> expiry) {
+        if (cacheManager.getCache(region) != null) {
+            return;
+        }
+        cacheManager.createCache(region, Eh107Configuration.fromEhcacheCacheConfiguration(
+            CacheConfigurationBuilder.newCacheConfigurationBuilder(Object.class, Object.class, ResourcePoolsBuilder.heap(maxEntries))
+                .withExpiry(expiry)
+        ));
+    }
+}
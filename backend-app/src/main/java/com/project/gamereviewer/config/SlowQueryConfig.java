@@ -0,0 +1,48 @@
+package com.project.gamereviewer.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import com.project.gamereviewer.datasource.DataSourceDecorator;
+import com.project.gamereviewer.sql.SlowQueryDataSource;
+import com.project.gamereviewer.sql.SlowQueryRecorder;
+
+@Configuration
+@EnableConfigurationProperties(SlowQueryProperties.class)
+public class SlowQueryConfig {
+
+    public static final String EXPLAIN_EXECUTOR = "slowQueryExplainExecutor";
+
+    /**
+     * Explains sampled slow queries off the request thread, one at a time. Each explain borrows a pooled
+     * connection; a full queue drops the plan rather than queueing more work behind a slow database.
+     */
+    @Bean(EXPLAIN_EXECUTOR)
+    public ThreadPoolTaskExecutor slowQueryExplainExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(16);
+        executor.setThreadNamePrefix("slow-query-explain-");
+        return executor;
+    }
+
+    @Bean
+    public SlowQueryRecorder slowQueryRecorder(SlowQueryProperties properties,
+            @Qualifier(EXPLAIN_EXECUTOR) ThreadPoolTaskExecutor explainExecutor) {
+        return new SlowQueryRecorder(properties.threshold(), properties.capacity(), properties.explainSampleRate(),
+            explainExecutor);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.slow-query.enabled", havingValue = "true", matchIfMissing = true)
+    public static DataSourceDecorator slowQueryDataSourceDecorator(ObjectProvider<SlowQueryRecorder> recorder) {
+        return new DataSourceDecorator(DataSourceDecorator.SLOW_QUERY_TIMING,
+            dataSource -> new SlowQueryDataSource(dataSource, recorder.getObject()));
+    }
+}
@@ -0,0 +1,18 @@
+package com.project.gamereviewer.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * {@code app.slow-query}: statements running at least {@code threshold} are kept, the last
+ * {@code capacity} of them, and {@code explain-sample-rate} of the slow SELECTs (0 to 1) are explained.
+ */
+@ConfigurationProperties("app.slow-query")
+public record SlowQueryProperties(
+    @DefaultValue("true") boolean enabled,
+    @DefaultValue("200ms") Duration threshold,
+    @DefaultValue("200") int capacity,
+    @DefaultValue("0.1") double explainSampleRate
+) {}
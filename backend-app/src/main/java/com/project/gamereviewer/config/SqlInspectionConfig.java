@@ -0,0 +1,32 @@
+package com.project.gamereviewer.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.project.gamereviewer.sql.CountingStatementInspector;
+import com.project.gamereviewer.sql.SqlStatementFilter;
+
+/**
+ * Per-request SQL statement counting. Only statements prepared by Hibernate are seen; the
+ * {@code JdbcTemplate} queries of count estimates and review staging are not counted.
+ */
+@Configuration
+@EnableConfigurationProperties(SqlInspectionProperties.class)
+@ConditionalOnProperty(name = "app.sql-inspection.enabled", havingValue = "true", matchIfMissing = true)
+public class SqlInspectionConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer statementInspectorCustomizer() {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, new CountingStatementInspector());
+    }
+
+    @Bean
+    public FilterRegistrationBean<SqlStatementFilter> sqlStatementFilter(SqlInspectionProperties properties) {
+        return new FilterRegistrationBean<>(new SqlStatementFilter(properties));
+    }
+}
@@ -0,0 +1,29 @@
+package com.project.gamereviewer.config;
+
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * {@code app.sql-inspection}: statement budgets per endpoint, keyed by method and route pattern as in
+ * {@code "[GET /api/v1/games/{id}]"}. A budget of 0 means no limit.
+ */
+@ConfigurationProperties("app.sql-inspection")
+public record SqlInspectionProperties(
+    @DefaultValue("true") boolean enabled,
+    @DefaultValue("5") int repeatedSelectThreshold,
+    @DefaultValue("0") int defaultBudget,
+    @DefaultValue Map<String, Integer> budgets,
+    @DefaultValue("warn") OnViolation onViolation
+) {
+
+    public enum OnViolation {
+        WARN,
+        FAIL
+    }
+
+    public int budgetFor(String endpoint) {
+        return budgets.getOrDefault(endpoint, defaultBudget);
+    }
+}
@@ -0,0 +1,66 @@
+package com.project.gamereviewer.config;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+import com.project.gamereviewer.datasource.DataSourceDecorator;
+import com.project.gamereviewer.datasource.FairDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Active with {@code spring.threads.virtual.enabled=true} on Java 21+ (the {@code virtual-threads}
+ * Maven and Spring profiles). Spring Boot then serves Tomcat requests, {@code @Async} and
+ * {@code @Scheduled} work on virtual threads; this adds the application's own executors and keeps
+ * waits for the connection pool in arrival order.
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+
+    /** Whether pools built by the application itself should get a fair queue like the primary's. */
+    static boolean fairQueueEnabled(Environment environment) {
+        return Threading.VIRTUAL.isActive(environment)
+            && environment.getProperty("app.datasource.fair-queue.enabled", Boolean.class, true);
+    }
+
+    /**
+     * One virtual thread per game detail sub-query. The concurrency limit plays the part of the
+     * platform pool size: a submitter past the limit blocks, which only parks its virtual thread.
+     */
+    @Bean(ExecutorConfig.GAME_DETAIL_EXECUTOR)
+    public SimpleAsyncTaskExecutor gameDetailExecutor(@Value("${app.game-detail.pool-size:4}") int poolSize) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("game-detail-");
+        executor.setVirtualThreads(true);
+        executor.setConcurrencyLimit(poolSize);
+        executor.setTaskDecorator(ExecutorConfig.requestContextPropagating());
+        executor.setTaskTerminationTimeout(Duration.ofSeconds(30).toMillis());
+        return executor;
+    }
+
+    @Bean(ExecutorConfig.MVC_ASYNC_EXECUTOR)
+    public SimpleAsyncTaskExecutor mvcAsyncExecutor() {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("mvc-async-");
+        executor.setVirtualThreads(true);
+        executor.setTaskDecorator(ExecutorConfig.requestContextPropagating());
+        return executor;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.datasource.fair-queue.enabled", havingValue = "true", matchIfMissing = true)
+    public static DataSourceDecorator fairDataSourceDecorator() {
+        return new DataSourceDecorator(DataSourceDecorator.FAIR_QUEUE, dataSource -> {
+            if (dataSource instanceof HikariDataSource hikari) {
+                return FairDataSource.of(hikari);
+            }
+            return dataSource;
+        });
+    }
+}
@@ -0,0 +1,83 @@
+package com.project.gamereviewer.config;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import com.project.gamereviewer.datasource.DataSourceDecorator;
+import com.project.gamereviewer.datasource.FairDataSource;
+import com.project.gamereviewer.datasource.WorkloadAspect;
+import com.project.gamereviewer.datasource.WorkloadClass;
+import com.project.gamereviewer.datasource.WorkloadDataSource;
+import com.project.gamereviewer.datasource.WorkloadPools;
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Bulkheads the primary database by workload class, see {@link com.project.gamereviewer.datasource.Workload}.
+ * Read-only transactions routed to a read replica use the replica's pool whatever their class.
+ */
+@Configuration
+@EnableConfigurationProperties(WorkloadPoolProperties.class)
+@ConditionalOnProperty(name = "app.datasource.workload-pools.enabled", havingValue = "true")
+public class WorkloadPoolConfig {
+
+    @Bean(destroyMethod = "close")
+    public WorkloadPools workloadPools(WorkloadPoolProperties properties, DataSourceProperties dataSourceProperties,
+            Environment environment) {
+        boolean fairQueue = VirtualThreadConfig.fairQueueEnabled(environment);
+
+        List<WorkloadPools.Pool> pools = new ArrayList<>();
+        for (Map.Entry<WorkloadClass, WorkloadPoolProperties.Pool> entry : properties.pools().entrySet()) {
+            WorkloadPoolProperties.Pool settings = entry.getValue();
+
+            HikariDataSource pool = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+            Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(pool));
+            pool.setPoolName(entry.getKey().poolName());
+            pool.setMaximumPoolSize(settings.maximumPoolSize());
+            if (pool.getMinimumIdle() > settings.maximumPoolSize()) {
+                pool.setMinimumIdle(settings.maximumPoolSize());
+            }
+            if (settings.statementTimeout() != null) {
+                pool.setConnectionInitSql("SET statement_timeout = " + settings.statementTimeout().toMillis());
+            }
+
+            pools.add(new WorkloadPools.Pool(entry.getKey(), pool, fairQueue ? FairDataSource.of(pool) : pool));
+        }
+        return new WorkloadPools(pools);
+    }
+
+    @Bean
+    public static DataSourceDecorator workloadPoolsDecorator(ObjectProvider<WorkloadPools> pools) {
+        return new DataSourceDecorator(DataSourceDecorator.WORKLOAD_POOLS,
+            main -> new WorkloadDataSource(main, pools.getObject()));
+    }
+
+    @Bean
+    public WorkloadAspect workloadAspect() {
+        return new WorkloadAspect();
+    }
+
+    /** The workload pools' {@code hikaricp_*} metrics, by pool name. */
+    @Bean
+    public MeterBinder workloadPoolMetrics(WorkloadPools pools) {
+        return registry -> pools.pools().forEach(pool -> {
+            if (pool.hikari().getMetricRegistry() == null) {
+                pool.hikari().setMetricRegistry(registry);
+            }
+        });
+    }
+}
@@ -0,0 +1,26 @@
+package com.project.gamereviewer.config;
+
+import java.time.Duration;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import com.project.gamereviewer.datasource.WorkloadClass;
+
+/**
+ * {@code app.datasource.workload-pools}: a pool of {@code maximum-pool-size} connections per workload
+ * class, configured otherwise like the main pool ({@code spring.datasource.hikari}). Statements on it are
+ * cancelled after {@code statement-timeout}, when set. Classes without an entry use the main pool.
+ */
+@ConfigurationProperties("app.datasource.workload-pools")
+public record WorkloadPoolProperties(
+    @DefaultValue("false") boolean enabled,
+    @DefaultValue Map<WorkloadClass, Pool> pools
+) {
+
+    public record Pool(
+        @DefaultValue("4") int maximumPoolSize,
+        Duration statementTimeout
+    ) {}
+}
@@ -16,4 +16,16 @@ public final class ApiConstants {
     public static final String SYSTEM_REQUIREMENTS = API_BASE_PATH + "/system-requirements";
     public static final String COMPANY_TYPES = API_BASE_PATH + "/company-types";
     public static final String SYSTEM_REQUIREMENT_TYPES = API_BASE_PATH + "/system-requirement-types";
+    public static final String CACHE = API_BASE_PATH + "/cache";
+    public static final String REACTIVE = API_BASE_PATH + "/reactive";
+    public static final String SLOW_QUERIES = API_BASE_PATH + "/slow-queries";
+    public static final String CONCURRENCY_LIMITS = API_BASE_PATH + "/concurrency-limits";
+    
+    public static final String NDJSON_MEDIA_TYPE = "application/x-ndjson";
+    public static final String CSV_MEDIA_TYPE = "text/csv";
+    public static final String COLUMNAR_JSON_MEDIA_TYPE = "application/vnd.game-reviewer.columnar+json";
+    
+    public static final String GAMES_EXPORT_NAME = "games";
+    public static final String REVIEWS_EXPORT_NAME = "reviews";
+    public static final String SYSTEM_REQUIREMENTS_EXPORT_NAME = "system-requirements";
 }
@@ -0,0 +1,26 @@
+package com.project.gamereviewer.constant;
+
+public final class CacheRegions {
+    
+    private CacheRegions() {
+    }
+    
+    public static final String GENRES = "genres";
+    public static final String COMPANY_TYPES = "company-types";
+    public static final String SYSTEM_REQUIREMENT_TYPES = "system-requirement-types";
+    public static final String MEDIA_OUTLETS = "media-outlets";
+    public static final String PRODUCTION_COMPANIES = "production-companies";
+    public static final String GAME_GENRES = "game-genres";
+    
+    public static final String QUERY_RESULTS = "default-query-results-region";
+    public static final String UPDATE_TIMESTAMPS = "default-update-timestamps-region";
+    
+    public static final String[] ENTITY_REGIONS = {
+        GENRES,
+        COMPANY_TYPES,
+        SYSTEM_REQUIREMENT_TYPES,
+        MEDIA_OUTLETS,
+        PRODUCTION_COMPANIES,
+        GAME_GENRES
+    };
+}
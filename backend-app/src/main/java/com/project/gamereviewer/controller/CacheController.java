@@ -0,0 +1,33 @@
+package com.project.gamereviewer.controller;
+
+import java.util.List;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.project.gamereviewer.constant.ApiConstants;
+import com.project.gamereviewer.dto.response.CacheRegionStatisticsResponse;
+import com.project.gamereviewer.service.SecondLevelCacheService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping(ApiConstants.CACHE)
+@RequiredArgsConstructor
+@Tag(name = "Cache", description = "Second-level cache diagnostics (read-only)")
+public class CacheController {
+    
+    private final SecondLevelCacheService secondLevelCacheService;
+    
+    @GetMapping("/statistics")
+    @Operation(summary = "Get cache statistics", description = "Returns hit, miss and put counts per second-level cache region since startup")
+    @ApiResponse(responseCode = "200", description = "Successfully retrieved cache statistics")
+    public ResponseEntity<List<CacheRegionStatisticsResponse>> getStatistics() {
+        return ResponseEntity.ok(secondLevelCacheService.getStatistics());
+    }
+}
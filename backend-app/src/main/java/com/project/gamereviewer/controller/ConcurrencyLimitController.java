@@ -0,0 +1,33 @@
+package com.project.gamereviewer.controller;
+
+import java.util.List;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.project.gamereviewer.constant.ApiConstants;
+import com.project.gamereviewer.dto.response.ConcurrencyLimitResponse;
+import com.project.gamereviewer.service.ConcurrencyLimitService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping(ApiConstants.CONCURRENCY_LIMITS)
+@RequiredArgsConstructor
+@Tag(name = "Concurrency limits", description = "Adaptive per-route-group concurrency limits (admin)")
+public class ConcurrencyLimitController {
+
+    private final ConcurrencyLimitService concurrencyLimitService;
+
+    @GetMapping
+    @Operation(summary = "Get concurrency limits", description = "Returns each route group's current limit, requests in flight, rejections so far and average latency")
+    @ApiResponse(responseCode = "200", description = "Successfully retrieved concurrency limits")
+    public ResponseEntity<List<ConcurrencyLimitResponse>> getLimits() {
+        return ResponseEntity.ok(concurrencyLimitService.getLimits());
+    }
+}
@@ -1,12 +1,17 @@
 package com.project.gamereviewer.controller;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
+import java.util.Optional;
 
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -17,15 +22,28 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.project.gamereviewer.constant.ApiConstants;
 import com.project.gamereviewer.dto.filter.GameFilterDto;
 import com.project.gamereviewer.dto.request.GameCreateRequest;
 import com.project.gamereviewer.dto.request.GameUpdateRequest;
 import com.project.gamereviewer.dto.response.GameDetailResponse;
+import com.project.gamereviewer.dto.response.GameFacetsResponse;
+import com.project.gamereviewer.dto.response.GameImportResponse;
 import com.project.gamereviewer.dto.response.GameListResponse;
 import com.project.gamereviewer.dto.response.PageResponse;
+import com.project.gamereviewer.export.ExportFormat;
+import com.project.gamereviewer.fields.FieldSet;
+import com.project.gamereviewer.pagination.IndexedPage;
+import com.project.gamereviewer.pagination.KeysetRequest;
+import com.project.gamereviewer.pagination.TotalCountMode;
+import com.project.gamereviewer.service.CatalogExportService;
+import com.project.gamereviewer.service.GameFacetService;
+import com.project.gamereviewer.service.GameImportService;
 import com.project.gamereviewer.service.GameService;
+import com.project.gamereviewer.specification.GameSpecification;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -41,38 +59,119 @@ import lombok.RequiredArgsConstructor;
 @Tag(name = "Games", description = "Operations related to games")
 public class GameController {
     
+    public static final String GAME_INDEX_AGE_HEADER = "X-Game-Index-Age";
+    
     private final GameService gameService;
+    private final GameFacetService gameFacetService;
+    private final GameImportService gameImportService;
+    private final CatalogExportService catalogExportService;
     
     @GetMapping
     @Operation(summary = "Get all games with pagination", description = "Returns paginated list of games. Sort by 'averageRating' for rating-based sorting.")
     @ApiResponses(value = {
-        @ApiResponse(responseCode = "200", description = "Successfully retrieved games")
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved games"),
+        @ApiResponse(responseCode = "304", description = "Not modified since the ETag given in If-None-Match")
     })
     public ResponseEntity<PageResponse<GameListResponse>> getAllGames(
             @Parameter(description = "Page number (0-based)") @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "Page size") @RequestParam(defaultValue = "10") int size,
             @Parameter(description = "Sort field (id, title, releaseYear, averageRating)") @RequestParam(defaultValue = "id") String sortBy,
-            @Parameter(description = "Sort direction (ASC/DESC)") @RequestParam(defaultValue = "ASC") String sortDirection
+            @Parameter(description = "Sort direction (ASC/DESC)") @RequestParam(defaultValue = "ASC") String sortDirection,
+            @Parameter(description = "Opaque keyset cursor; pass an empty value for the first page, then the returned nextCursor. When set, 'page' is ignored and totals are omitted") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Total count mode: exact (default), estimate (cached or planner estimate) or false (no count query)") @RequestParam(defaultValue = "exact") String withTotal,
+            @Parameter(description = "Comma-separated fields to return, id is always included; associations and collections left out are not loaded") @RequestParam(required = false) String fields,
+            WebRequest webRequest
     ) {
         Sort.Direction direction = Sort.Direction.fromString(sortDirection);
+        FieldSet<GameListResponse> fieldSet = FieldSet.of(fields, GameListResponse.class);
+        
+        if (cursor != null) {
+            KeysetRequest keyset = KeysetRequest.of(cursor, size, sortBy, direction, GameService.KEYSET_SORT_FIELDS);
+            return ResponseEntity.ok(PageResponse.of(gameService.scrollGames(keyset, fieldSet), keyset));
+        }
+        
         Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortBy));
-        Page<GameListResponse> gamesPage = gameService.getAllGames(pageable);
+        Optional<Slice<GameListResponse>> gamesPage = gameService.getAllGames(pageable, TotalCountMode.fromParameter(withTotal),
+            fieldSet, webRequest::checkNotModified);
+        if (gamesPage.isEmpty()) {
+            return null; // 304 already written by checkNotModified
+        }
         
-        PageResponse<GameListResponse> response = PageResponse.of(gamesPage);
+        PageResponse<GameListResponse> response = PageResponse.of(gamesPage.get());
         
         return ResponseEntity.ok(response);
     }
     
+    @GetMapping("/export")
+    @Operation(
+        summary = "Export games",
+        description = "Streams every game matching the optional filters as NDJSON or CSV in id order, from a server-side cursor"
+    )
+    @ApiResponse(responseCode = "200", description = "Export stream")
+    public ResponseEntity<StreamingResponseBody> exportGames(
+            @Parameter(description = "Game title (partial match, case-insensitive)") 
+            @RequestParam(required = false) String title,
+            
+            @Parameter(description = "Minimum release year (inclusive)") 
+            @RequestParam(required = false) Integer yearFrom,
+            
+            @Parameter(description = "Maximum release year (inclusive)") 
+            @RequestParam(required = false) Integer yearTo,
+            
+            @Parameter(description = "List of genre IDs (game must have ALL specified genres)") 
+            @RequestParam(required = false) List<Integer> genreIds,
+            
+            @Parameter(description = "Developer company ID") 
+            @RequestParam(required = false) Integer developerId,
+            
+            @Parameter(description = "Publisher company ID") 
+            @RequestParam(required = false) Integer publisherId,
+            
+            @Parameter(description = "Minimum average rating (inclusive)") 
+            @RequestParam(required = false) Double ratingFrom,
+            
+            @Parameter(description = "Maximum average rating (inclusive)") 
+            @RequestParam(required = false) Double ratingTo,
+            
+            @Parameter(description = "Export format: ndjson (default) or csv") 
+            @RequestParam(defaultValue = "ndjson") String format
+    ) {
+        GameFilterDto filter = new GameFilterDto(
+            title, 
+            yearFrom, 
+            yearTo, 
+            genreIds, 
+            developerId, 
+            publisherId,
+            ratingFrom,
+            ratingTo
+        );
+        ExportFormat exportFormat = ExportFormat.fromParameter(format);
+        
+        return ResponseEntity.ok()
+            .contentType(exportFormat.mediaType())
+            .header(HttpHeaders.CONTENT_DISPOSITION, exportFormat.attachment(ApiConstants.GAMES_EXPORT_NAME))
+            .body(output -> catalogExportService.exportGames(filter, exportFormat, output));
+    }
+    
     @GetMapping("/{id}")
     @Operation(summary = "Get game by ID", description = "Returns detailed information about a specific game")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Successfully retrieved game"),
+        @ApiResponse(responseCode = "304", description = "Not modified since the ETag given in If-None-Match"),
         @ApiResponse(responseCode = "404", description = "Game not found")
     })
     public ResponseEntity<GameDetailResponse> getGameById(
-            @Parameter(description = "Game ID") @PathVariable Integer id
+            @Parameter(description = "Game ID") @PathVariable Integer id,
+            @Parameter(description = "Comma-separated fields to return, id is always included; associations and collections left out are not loaded") @RequestParam(required = false) String fields,
+            WebRequest webRequest
     ) {
-        return ResponseEntity.ok(gameService.getGameById(id));
+        Optional<GameDetailResponse> game = gameService.getGameById(id, FieldSet.of(fields, GameDetailResponse.class),
+            webRequest::checkNotModified);
+        if (game.isEmpty()) {
+            return null; // 304 already written by checkNotModified
+        }
+        return ResponseEntity.ok(game.get());
     }
     
     @GetMapping("/filter")
@@ -81,7 +180,8 @@ public class GameController {
         description = "Filter games by title, release year range, genres, developer, publisher, and average rating. Sort by 'averageRating' for rating-based sorting."
     )
     @ApiResponses(value = {
-        @ApiResponse(responseCode = "200", description = "Successfully retrieved filtered games")
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved filtered games"),
+        @ApiResponse(responseCode = "304", description = "Not modified since the ETag given in If-None-Match")
     })
     public ResponseEntity<PageResponse<GameListResponse>> filterGames(
             @Parameter(description = "Game title (partial match, case-insensitive)") 
@@ -114,11 +214,25 @@ public class GameController {
             @Parameter(description = "Page size") 
             @RequestParam(defaultValue = "10") int size,
             
-            @Parameter(description = "Sort field (id, title, releaseYear, averageRating)") 
-            @RequestParam(defaultValue = "id") String sortBy,
+            @Parameter(description = "Sort field (id, title, releaseYear, averageRating, relevance). Defaults to relevance (exact, then prefix, then closest title matches) when a title is given, otherwise id") 
+            @RequestParam(required = false) String sortBy,
             
             @Parameter(description = "Sort direction (ASC/DESC)") 
-            @RequestParam(defaultValue = "ASC") String sortDirection
+            @RequestParam(defaultValue = "ASC") String sortDirection,
+            
+            @Parameter(description = "Opaque keyset cursor; pass an empty value for the first page, then the returned nextCursor. When set, 'page' is ignored and totals are omitted") 
+            @RequestParam(required = false) String cursor,
+            
+            @Parameter(description = "Total count mode: exact (default), estimate (cached or planner estimate) or false (no count query)") 
+            @RequestParam(defaultValue = "exact") String withTotal,
+            
+            @Parameter(description = "Serve the filter from the in-memory bitmap index (defaults to app.game-index.use-by-default); ignored with a cursor. Index age is reported in the X-Game-Index-Age header") 
+            @RequestParam(required = false) Boolean useIndex,
+            
+            @Parameter(description = "Comma-separated fields to return, id is always included; associations and collections left out are not loaded") 
+            @RequestParam(required = false) String fields,
+            
+            WebRequest webRequest
     ) {
         GameFilterDto filter = new GameFilterDto(
             title, 
@@ -132,14 +246,97 @@ public class GameController {
         );
         
         Sort.Direction direction = Sort.Direction.fromString(sortDirection);
+        FieldSet<GameListResponse> fieldSet = FieldSet.of(fields, GameListResponse.class);
+        if (sortBy == null) {
+            sortBy = cursor == null && title != null && !title.isBlank()
+                ? GameSpecification.RELEVANCE_SORT
+                : KeysetRequest.ID_FIELD;
+        }
+        
+        if (cursor != null) {
+            KeysetRequest keyset = KeysetRequest.of(cursor, size, sortBy, direction, GameService.KEYSET_SORT_FIELDS);
+            return ResponseEntity.ok(PageResponse.of(gameService.scrollFilteredGames(filter, keyset, fieldSet), keyset));
+        }
+        
         Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortBy));
         
-        Page<GameListResponse> gamesPage = gameService.filterGames(filter, pageable);
-        PageResponse<GameListResponse> response = PageResponse.of(gamesPage);
+        Optional<Slice<GameListResponse>> gamesPage = gameService.filterGames(filter, pageable,
+            TotalCountMode.fromParameter(withTotal), useIndex, fieldSet, webRequest::checkNotModified);
+        if (gamesPage.isEmpty()) {
+            return null; // 304 already written by checkNotModified
+        }
+        PageResponse<GameListResponse> response = PageResponse.of(gamesPage.get());
         
+        if (gamesPage.get() instanceof IndexedPage<GameListResponse> indexedPage) {
+            return ResponseEntity.ok()
+                .header(GAME_INDEX_AGE_HEADER, indexedPage.getIndexAge().toString())
+                .body(response);
+        }
         return ResponseEntity.ok(response);
     }
     
+    @GetMapping("/facets")
+    @Operation(
+        summary = "Facet counts for a game filter",
+        description = "Takes the same filter parameters as /filter and returns, in one pass over the in-memory index, counts per genre, developer and publisher plus release-year and rating histograms. Genre counts are drill-downs within the current result; the other facets ignore their own filter so each option shows what selecting it would return."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully computed facet counts"),
+        @ApiResponse(responseCode = "400", description = "Invalid bucket size or limit"),
+        @ApiResponse(responseCode = "503", description = "Game index is disabled or still being built")
+    })
+    public ResponseEntity<GameFacetsResponse> getFacets(
+            @Parameter(description = "Game title (partial match, case-insensitive)") 
+            @RequestParam(required = false) String title,
+            
+            @Parameter(description = "Minimum release year (inclusive)") 
+            @RequestParam(required = false) Integer yearFrom,
+            
+            @Parameter(description = "Maximum release year (inclusive)") 
+            @RequestParam(required = false) Integer yearTo,
+            
+            @Parameter(description = "List of genre IDs (game must have ALL specified genres)") 
+            @RequestParam(required = false) List<Integer> genreIds,
+            
+            @Parameter(description = "Developer company ID") 
+            @RequestParam(required = false) Integer developerId,
+            
+            @Parameter(description = "Publisher company ID") 
+            @RequestParam(required = false) Integer publisherId,
+            
+            @Parameter(description = "Minimum average rating (inclusive)") 
+            @RequestParam(required = false) Double ratingFrom,
+            
+            @Parameter(description = "Maximum average rating (inclusive)") 
+            @RequestParam(required = false) Double ratingTo,
+            
+            @Parameter(description = "Release year histogram bucket width in years") 
+            @RequestParam(defaultValue = "1") int yearBucketSize,
+            
+            @Parameter(description = "Rating histogram bucket width in points") 
+            @RequestParam(defaultValue = "10") int ratingBucketSize,
+            
+            @Parameter(description = "Maximum number of developers and publishers returned") 
+            @RequestParam(defaultValue = "20") int companyLimit
+    ) {
+        GameFilterDto filter = new GameFilterDto(
+            title, 
+            yearFrom, 
+            yearTo, 
+            genreIds, 
+            developerId, 
+            publisherId,
+            ratingFrom,
+            ratingTo
+        );
+        
+        GameFacetsResponse response = gameFacetService.getFacets(filter, yearBucketSize, ratingBucketSize, companyLimit);
+        
+        return ResponseEntity.ok()
+            .header(GAME_INDEX_AGE_HEADER, response.indexAge().toString())
+            .body(response);
+    }
+    
     @PostMapping
     @Operation(summary = "Create new game", description = "Creates a new game")
     @ApiResponses(value = {
@@ -154,6 +351,16 @@ public class GameController {
         return new ResponseEntity<>(created, HttpStatus.CREATED);
     }
     
+    @PostMapping(value = "/import", consumes = {ApiConstants.NDJSON_MEDIA_TYPE, MediaType.APPLICATION_JSON_VALUE})
+    @Operation(summary = "Bulk import games", description = "Streams games as NDJSON or a JSON array of create requests. " +
+        "Rows are inserted in batches; invalid, duplicate or unresolvable rows are reported without rolling back the rest")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Import finished; see the per-record errors")
+    })
+    public ResponseEntity<GameImportResponse> importGames(InputStream body) throws IOException {
+        return ResponseEntity.ok(gameImportService.importGames(body));
+    }
+    
     @PutMapping("/{id}")
     @Operation(summary = "Update game", description = "Updates an existing game")
     @ApiResponses(value = {
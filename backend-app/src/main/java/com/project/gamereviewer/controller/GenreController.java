@@ -1,6 +1,7 @@
 package com.project.gamereviewer.controller;
 
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -12,6 +13,7 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import com.project.gamereviewer.constant.ApiConstants;
 import com.project.gamereviewer.dto.request.GenreCreateRequest;
@@ -36,9 +38,16 @@ public class GenreController {
     
     @GetMapping
     @Operation(summary = "Get all genres", description = "Returns list of all genres")
-    @ApiResponse(responseCode = "200", description = "Successfully retrieved genres")
-    public ResponseEntity<List<GenreResponse>> getAllGenres() {
-        return ResponseEntity.ok(genreService.getAllGenres());
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved genres"),
+        @ApiResponse(responseCode = "304", description = "Not modified since the ETag given in If-None-Match")
+    })
+    public ResponseEntity<List<GenreResponse>> getAllGenres(WebRequest webRequest) {
+        Optional<List<GenreResponse>> genres = genreService.getAllGenres(webRequest::checkNotModified);
+        if (genres.isEmpty()) {
+            return null; // 304 already written by checkNotModified
+        }
+        return ResponseEntity.ok(genres.get());
     }
     
     @GetMapping("/{id}")
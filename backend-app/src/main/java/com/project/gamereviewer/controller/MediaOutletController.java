@@ -1,8 +1,10 @@
 package com.project.gamereviewer.controller;
 
-import org.springframework.data.domain.Page;
+import java.util.Optional;
+
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -15,11 +17,13 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import com.project.gamereviewer.constant.ApiConstants;
 import com.project.gamereviewer.dto.request.MediaOutletCreateRequest;
 import com.project.gamereviewer.dto.response.MediaOutletResponse;
 import com.project.gamereviewer.dto.response.PageResponse;
+import com.project.gamereviewer.pagination.TotalCountMode;
 import com.project.gamereviewer.service.MediaOutletService;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -40,18 +44,27 @@ public class MediaOutletController {
     
     @GetMapping
     @Operation(summary = "Get all media outlets", description = "Returns paginated list of media outlets")
-    @ApiResponse(responseCode = "200", description = "Successfully retrieved media outlets")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved media outlets"),
+        @ApiResponse(responseCode = "304", description = "Not modified since the ETag given in If-None-Match")
+    })
     public ResponseEntity<PageResponse<MediaOutletResponse>> getAllMediaOutlets(
             @Parameter(description = "Page number (0-based)") @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "Page size") @RequestParam(defaultValue = "10") int size,
             @Parameter(description = "Sort field") @RequestParam(defaultValue = "id") String sortBy,
-            @Parameter(description = "Sort direction (ASC/DESC)") @RequestParam(defaultValue = "ASC") String sortDirection
+            @Parameter(description = "Sort direction (ASC/DESC)") @RequestParam(defaultValue = "ASC") String sortDirection,
+            @Parameter(description = "Total count mode: exact (default), estimate (cached or planner estimate) or false (no count query)") @RequestParam(defaultValue = "exact") String withTotal,
+            WebRequest webRequest
     ) {
         Sort.Direction direction = Sort.Direction.fromString(sortDirection);
         Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortBy));
-        Page<MediaOutletResponse> outletsPage = mediaOutletService.getAllMediaOutlets(pageable);
+        Optional<Slice<MediaOutletResponse>> outletsPage = mediaOutletService.getAllMediaOutlets(pageable,
+            TotalCountMode.fromParameter(withTotal), webRequest::checkNotModified);
+        if (outletsPage.isEmpty()) {
+            return null; // 304 already written by checkNotModified
+        }
         
-        PageResponse<MediaOutletResponse> response = PageResponse.of(outletsPage);
+        PageResponse<MediaOutletResponse> response = PageResponse.of(outletsPage.get());
         
         return ResponseEntity.ok(response);
     }
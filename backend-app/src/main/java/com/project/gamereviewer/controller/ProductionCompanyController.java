@@ -1,8 +1,10 @@
 package com.project.gamereviewer.controller;
 
-import org.springframework.data.domain.Page;
+import java.util.Optional;
+
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -15,10 +17,13 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import com.project.gamereviewer.constant.ApiConstants;
 import com.project.gamereviewer.dto.request.ProductionCompanyCreateRequest;
 import com.project.gamereviewer.dto.response.PageResponse;
+import com.project.gamereviewer.fields.FieldSet;
+import com.project.gamereviewer.pagination.TotalCountMode;
 import com.project.gamereviewer.dto.response.ProductionCompanyResponse;
 import com.project.gamereviewer.service.ProductionCompanyService;
 
@@ -40,18 +45,28 @@ public class ProductionCompanyController {
     
     @GetMapping
     @Operation(summary = "Get all production companies", description = "Returns paginated list of production companies")
-    @ApiResponse(responseCode = "200", description = "Successfully retrieved companies")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved companies"),
+        @ApiResponse(responseCode = "304", description = "Not modified since the ETag given in If-None-Match")
+    })
     public ResponseEntity<PageResponse<ProductionCompanyResponse>> getAllCompanies(
             @Parameter(description = "Page number (0-based)") @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "Page size") @RequestParam(defaultValue = "10") int size,
             @Parameter(description = "Sort field") @RequestParam(defaultValue = "id") String sortBy,
-            @Parameter(description = "Sort direction (ASC/DESC)") @RequestParam(defaultValue = "ASC") String sortDirection
+            @Parameter(description = "Sort direction (ASC/DESC)") @RequestParam(defaultValue = "ASC") String sortDirection,
+            @Parameter(description = "Total count mode: exact (default), estimate (cached or planner estimate) or false (no count query)") @RequestParam(defaultValue = "exact") String withTotal,
+            @Parameter(description = "Comma-separated fields to return, id is always included; associations and collections left out are not loaded") @RequestParam(required = false) String fields,
+            WebRequest webRequest
     ) {
         Sort.Direction direction = Sort.Direction.fromString(sortDirection);
         Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortBy));
-        Page<ProductionCompanyResponse> companiesPage = productionCompanyService.getAllCompanies(pageable);
+        Optional<Slice<ProductionCompanyResponse>> companiesPage = productionCompanyService.getAllCompanies(pageable,
+            TotalCountMode.fromParameter(withTotal), FieldSet.of(fields, ProductionCompanyResponse.class), webRequest::checkNotModified);
+        if (companiesPage.isEmpty()) {
+            return null; // 304 already written by checkNotModified
+        }
         
-        PageResponse<ProductionCompanyResponse> response = PageResponse.of(companiesPage);
+        PageResponse<ProductionCompanyResponse> response = PageResponse.of(companiesPage.get());
         
         return ResponseEntity.ok(response);
     }
@@ -63,9 +78,10 @@ public class ProductionCompanyController {
         @ApiResponse(responseCode = "404", description = "Company not found")
     })
     public ResponseEntity<ProductionCompanyResponse> getCompanyById(
-            @Parameter(description = "Company ID") @PathVariable Integer id
+            @Parameter(description = "Company ID") @PathVariable Integer id,
+            @Parameter(description = "Comma-separated fields to return, id is always included; associations and collections left out are not loaded") @RequestParam(required = false) String fields
     ) {
-        return ResponseEntity.ok(productionCompanyService.getCompanyById(id));
+        return ResponseEntity.ok(productionCompanyService.getCompanyById(id, FieldSet.of(fields, ProductionCompanyResponse.class)));
     }
     
     @PostMapping
@@ -0,0 +1,120 @@
+package com.project.gamereviewer.controller;
+
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.project.gamereviewer.constant.ApiConstants;
+import com.project.gamereviewer.dto.response.CompanyTypeResponse;
+import com.project.gamereviewer.dto.response.GameDetailResponse;
+import com.project.gamereviewer.dto.response.GameListResponse;
+import com.project.gamereviewer.dto.response.GenreResponse;
+import com.project.gamereviewer.dto.response.MediaOutletResponse;
+import com.project.gamereviewer.dto.response.ProductionCompanyResponse;
+import com.project.gamereviewer.dto.response.ReviewResponse;
+import com.project.gamereviewer.dto.response.SystemRequirementTypeResponse;
+import com.project.gamereviewer.export.NdjsonEncoder;
+import com.project.gamereviewer.service.ReactiveCatalogService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Read-only catalog endpoints backed by R2DBC. Lists stream as NDJSON with backpressure; no request
+ * thread is held while a query runs.
+ */
+@RestController
+@RequestMapping(ApiConstants.REACTIVE)
+@RequiredArgsConstructor
+@Tag(name = "Reactive catalog", description = "Non-blocking read-only catalog browsing")
+public class ReactiveCatalogController {
+
+    private final ReactiveCatalogService reactiveCatalogService;
+    private final NdjsonEncoder ndjsonEncoder;
+
+    @GetMapping(value = "/games", produces = ApiConstants.NDJSON_MEDIA_TYPE)
+    @Operation(summary = "Stream games", description = "Streams games in id order as NDJSON, optionally resuming after a given id")
+    @ApiResponse(responseCode = "200", description = "Game stream",
+        content = @Content(mediaType = ApiConstants.NDJSON_MEDIA_TYPE, schema = @Schema(implementation = GameListResponse.class)))
+    public Flux<String> streamGames(
+            @Parameter(description = "Return only games with a greater id") @RequestParam(defaultValue = "0") int afterId,
+            @Parameter(description = "Maximum number of games; all when omitted") @RequestParam(required = false) Integer limit
+    ) {
+        return ndjsonEncoder.encode(reactiveCatalogService.getGames(afterId, limit));
+    }
+
+    @GetMapping("/games/{id}")
+    @Operation(summary = "Get game by ID", description = "Returns detailed information about a specific game")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved game"),
+        @ApiResponse(responseCode = "404", description = "Game not found")
+    })
+    public Mono<GameDetailResponse> getGameById(
+            @Parameter(description = "Game ID") @PathVariable Integer id
+    ) {
+        return reactiveCatalogService.getGameById(id);
+    }
+
+    @GetMapping(value = "/reviews/game/{gameId}", produces = ApiConstants.NDJSON_MEDIA_TYPE)
+    @Operation(summary = "Stream reviews by game ID", description = "Streams all reviews of a game as NDJSON, best score first")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Review stream",
+            content = @Content(mediaType = ApiConstants.NDJSON_MEDIA_TYPE, schema = @Schema(implementation = ReviewResponse.class))),
+        @ApiResponse(responseCode = "404", description = "Game not found")
+    })
+    public Flux<String> streamReviewsByGameId(
+            @Parameter(description = "Game ID") @PathVariable Integer gameId
+    ) {
+        return ndjsonEncoder.encode(reactiveCatalogService.getReviewsByGameId(gameId));
+    }
+
+    @GetMapping(value = "/genres", produces = ApiConstants.NDJSON_MEDIA_TYPE)
+    @Operation(summary = "Stream genres", description = "Streams all genres as NDJSON")
+    @ApiResponse(responseCode = "200", description = "Genre stream",
+        content = @Content(mediaType = ApiConstants.NDJSON_MEDIA_TYPE, schema = @Schema(implementation = GenreResponse.class)))
+    public Flux<String> streamGenres() {
+        return ndjsonEncoder.encode(reactiveCatalogService.getAllGenres());
+    }
+
+    @GetMapping(value = "/company-types", produces = ApiConstants.NDJSON_MEDIA_TYPE)
+    @Operation(summary = "Stream company types", description = "Streams all company types as NDJSON")
+    @ApiResponse(responseCode = "200", description = "Company type stream",
+        content = @Content(mediaType = ApiConstants.NDJSON_MEDIA_TYPE, schema = @Schema(implementation = CompanyTypeResponse.class)))
+    public Flux<String> streamCompanyTypes() {
+        return ndjsonEncoder.encode(reactiveCatalogService.getAllCompanyTypes());
+    }
+
+    @GetMapping(value = "/system-requirement-types", produces = ApiConstants.NDJSON_MEDIA_TYPE)
+    @Operation(summary = "Stream system requirement types", description = "Streams all system requirement types as NDJSON")
+    @ApiResponse(responseCode = "200", description = "System requirement type stream",
+        content = @Content(mediaType = ApiConstants.NDJSON_MEDIA_TYPE, schema = @Schema(implementation = SystemRequirementTypeResponse.class)))
+    public Flux<String> streamSystemRequirementTypes() {
+        return ndjsonEncoder.encode(reactiveCatalogService.getAllSystemRequirementTypes());
+    }
+
+    @GetMapping(value = "/media-outlets", produces = ApiConstants.NDJSON_MEDIA_TYPE)
+    @Operation(summary = "Stream media outlets", description = "Streams all media outlets as NDJSON")
+    @ApiResponse(responseCode = "200", description = "Media outlet stream",
+        content = @Content(mediaType = ApiConstants.NDJSON_MEDIA_TYPE, schema = @Schema(implementation = MediaOutletResponse.class)))
+    public Flux<String> streamMediaOutlets() {
+        return ndjsonEncoder.encode(reactiveCatalogService.getAllMediaOutlets());
+    }
+
+    @GetMapping(value = "/production-companies", produces = ApiConstants.NDJSON_MEDIA_TYPE)
+    @Operation(summary = "Stream production companies", description = "Streams all production companies as NDJSON")
+    @ApiResponse(responseCode = "200", description = "Production company stream",
+        content = @Content(mediaType = ApiConstants.NDJSON_MEDIA_TYPE, schema = @Schema(implementation = ProductionCompanyResponse.class)))
+    public Flux<String> streamProductionCompanies() {
+        return ndjsonEncoder.encode(reactiveCatalogService.getAllCompanies());
+    }
+}
@@ -1,10 +1,15 @@
 package com.project.gamereviewer.controller;
 
-import org.springframework.data.domain.Page;
+import java.io.IOException;
+import java.io.InputStream;
+
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -12,14 +17,24 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.project.gamereviewer.constant.ApiConstants;
 import com.project.gamereviewer.dto.request.ReviewCreateRequest;
 import com.project.gamereviewer.dto.response.PageResponse;
+import com.project.gamereviewer.dto.response.ReviewIngestionResponse;
 import com.project.gamereviewer.dto.response.ReviewResponse;
+import com.project.gamereviewer.export.ExportFormat;
+import com.project.gamereviewer.fields.FieldSet;
+import com.project.gamereviewer.pagination.KeysetRequest;
+import com.project.gamereviewer.pagination.TotalCountMode;
+import com.project.gamereviewer.service.CatalogExportService;
+import com.project.gamereviewer.service.ReviewIngestionService;
+import com.project.gamereviewer.service.ReviewIngestionService.FeedFormat;
 import com.project.gamereviewer.service.ReviewService;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -37,6 +52,8 @@ import lombok.RequiredArgsConstructor;
 public class ReviewController {
     
     private final ReviewService reviewService;
+    private final CatalogExportService catalogExportService;
+    private final ReviewIngestionService reviewIngestionService;
     
     @GetMapping
     @Operation(summary = "Get all reviews", description = "Returns paginated list of all reviews")
@@ -45,11 +62,21 @@ public class ReviewController {
             @Parameter(description = "Page number (0-based)") @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "Page size") @RequestParam(defaultValue = "10") int size,
             @Parameter(description = "Sort field") @RequestParam(defaultValue = "id") String sortBy,
-            @Parameter(description = "Sort direction (ASC/DESC)") @RequestParam(defaultValue = "ASC") String sortDirection
+            @Parameter(description = "Sort direction (ASC/DESC)") @RequestParam(defaultValue = "ASC") String sortDirection,
+            @Parameter(description = "Opaque keyset cursor; pass an empty value for the first page, then the returned nextCursor. When set, 'page' is ignored and totals are omitted") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Total count mode: exact (default), estimate (cached or planner estimate) or false (no count query)") @RequestParam(defaultValue = "exact") String withTotal,
+            @Parameter(description = "Comma-separated fields to return, id is always included; associations and collections left out are not loaded") @RequestParam(required = false) String fields
     ) {
         Sort.Direction direction = Sort.Direction.fromString(sortDirection);
+        FieldSet<ReviewResponse> fieldSet = FieldSet.of(fields, ReviewResponse.class);
+        
+        if (cursor != null) {
+            KeysetRequest keyset = KeysetRequest.of(cursor, size, sortBy, direction, ReviewService.KEYSET_SORT_FIELDS);
+            return ResponseEntity.ok(PageResponse.of(reviewService.scrollReviews(keyset, fieldSet), keyset));
+        }
+        
         Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortBy));
-        Page<ReviewResponse> reviewsPage = reviewService.getAllReviews(pageable);
+        Slice<ReviewResponse> reviewsPage = reviewService.getAllReviews(pageable, TotalCountMode.fromParameter(withTotal), fieldSet);
         
         PageResponse<ReviewResponse> response = PageResponse.of(reviewsPage);
         
@@ -65,16 +92,42 @@ public class ReviewController {
     public ResponseEntity<PageResponse<ReviewResponse>> getReviewsByGameId(
             @Parameter(description = "Game ID") @PathVariable Integer gameId,
             @Parameter(description = "Page number (0-based)") @RequestParam(defaultValue = "0") int page,
-            @Parameter(description = "Page size") @RequestParam(defaultValue = "10") int size
+            @Parameter(description = "Page size") @RequestParam(defaultValue = "10") int size,
+            @Parameter(description = "Opaque keyset cursor; pass an empty value for the first page, then the returned nextCursor. When set, 'page' is ignored and totals are omitted") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Total count mode: exact (default), estimate (cached or planner estimate) or false (no count query)") @RequestParam(defaultValue = "exact") String withTotal,
+            @Parameter(description = "Comma-separated fields to return, id is always included; associations and collections left out are not loaded") @RequestParam(required = false) String fields
     ) {
+        FieldSet<ReviewResponse> fieldSet = FieldSet.of(fields, ReviewResponse.class);
+        
+        if (cursor != null) {
+            KeysetRequest keyset = KeysetRequest.of(cursor, size, "score", Sort.Direction.DESC, ReviewService.KEYSET_SORT_FIELDS);
+            return ResponseEntity.ok(PageResponse.of(reviewService.scrollReviewsByGameId(gameId, keyset, fieldSet), keyset));
+        }
+        
         Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "score"));
-        Page<ReviewResponse> reviewsPage = reviewService.getReviewsByGameId(gameId, pageable);
+        Slice<ReviewResponse> reviewsPage = reviewService.getReviewsByGameId(gameId, pageable, TotalCountMode.fromParameter(withTotal),
+            fieldSet);
         
         PageResponse<ReviewResponse> response = PageResponse.of(reviewsPage);
         
         return ResponseEntity.ok(response);
     }
     
+    @GetMapping("/export")
+    @Operation(summary = "Export reviews", description = "Streams every review, optionally of one game, as NDJSON or CSV in id order, from a server-side cursor")
+    @ApiResponse(responseCode = "200", description = "Export stream")
+    public ResponseEntity<StreamingResponseBody> exportReviews(
+            @Parameter(description = "Only export rows of this game") @RequestParam(required = false) Integer gameId,
+            @Parameter(description = "Export format: ndjson (default) or csv") @RequestParam(defaultValue = "ndjson") String format
+    ) {
+        ExportFormat exportFormat = ExportFormat.fromParameter(format);
+        
+        return ResponseEntity.ok()
+            .contentType(exportFormat.mediaType())
+            .header(HttpHeaders.CONTENT_DISPOSITION, exportFormat.attachment(ApiConstants.REVIEWS_EXPORT_NAME))
+            .body(output -> catalogExportService.exportReviews(gameId, exportFormat, output));
+    }
+    
     @GetMapping("/{id}")
     @Operation(summary = "Get review by ID", description = "Returns a specific review")
     @ApiResponses(value = {
@@ -82,9 +135,10 @@ public class ReviewController {
         @ApiResponse(responseCode = "404", description = "Review not found")
     })
     public ResponseEntity<ReviewResponse> getReviewById(
-            @Parameter(description = "Review ID") @PathVariable Integer id
+            @Parameter(description = "Review ID") @PathVariable Integer id,
+            @Parameter(description = "Comma-separated fields to return, id is always included; associations and collections left out are not loaded") @RequestParam(required = false) String fields
     ) {
-        return ResponseEntity.ok(reviewService.getReviewById(id));
+        return ResponseEntity.ok(reviewService.getReviewById(id, FieldSet.of(fields, ReviewResponse.class)));
     }
     
     @PostMapping
@@ -102,6 +156,23 @@ public class ReviewController {
         return new ResponseEntity<>(created, HttpStatus.CREATED);
     }
     
+    @PostMapping(value = "/import", consumes = {ApiConstants.NDJSON_MEDIA_TYPE, MediaType.APPLICATION_JSON_VALUE, ApiConstants.CSV_MEDIA_TYPE})
+    @Operation(summary = "Bulk ingest reviews", description = "Streams a review feed (NDJSON, JSON array or CSV with a " +
+        "gameId,mediaOutletId,score,summary header) through COPY. Existing reviews of the same game and media outlet " +
+        "are updated; invalid or unresolvable records are rejected without failing the feed")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Feed ingested; see the counts and per-record errors")
+    })
+    public ResponseEntity<ReviewIngestionResponse> importReviews(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+            InputStream body
+    ) throws IOException {
+        FeedFormat format = MediaType.parseMediaType(ApiConstants.CSV_MEDIA_TYPE).includes(contentType)
+            ? FeedFormat.CSV
+            : FeedFormat.JSON;
+        return ResponseEntity.ok(reviewIngestionService.ingest(body, format));
+    }
+    
     @PutMapping("/{id}")
     @Operation(summary = "Update review", description = "Updates an existing review")
     @ApiResponses(value = {
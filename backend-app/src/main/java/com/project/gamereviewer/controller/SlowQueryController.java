@@ -0,0 +1,55 @@
+package com.project.gamereviewer.controller;
+
+import java.util.List;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.project.gamereviewer.constant.ApiConstants;
+import com.project.gamereviewer.dto.response.SlowQueryResponse;
+import com.project.gamereviewer.dto.response.SlowQuerySummaryResponse;
+import com.project.gamereviewer.service.SlowQueryService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping(ApiConstants.SLOW_QUERIES)
+@RequiredArgsConstructor
+@Tag(name = "Slow queries", description = "Recent SQL statements over the slow-query threshold (admin)")
+public class SlowQueryController {
+
+    private final SlowQueryService slowQueryService;
+
+    @GetMapping
+    @Operation(summary = "Get slow queries", description = "Returns the most recent slow statements, newest first, with their parameters and, when sampled, their execution plan")
+    @ApiResponse(responseCode = "200", description = "Successfully retrieved slow queries")
+    public ResponseEntity<List<SlowQueryResponse>> getSlowQueries(
+            @Parameter(description = "Only statements issued in this context, e.g. a game filter combination")
+            @RequestParam(required = false) String context
+    ) {
+        return ResponseEntity.ok(slowQueryService.getSlowQueries(context));
+    }
+
+    @GetMapping("/summary")
+    @Operation(summary = "Get slow query summary", description = "Groups the recent slow statements by context and statement shape, most total time first")
+    @ApiResponse(responseCode = "200", description = "Successfully retrieved slow query summary")
+    public ResponseEntity<List<SlowQuerySummaryResponse>> getSummary() {
+        return ResponseEntity.ok(slowQueryService.getSummary());
+    }
+
+    @DeleteMapping
+    @Operation(summary = "Clear slow queries", description = "Empties the slow query buffer")
+    @ApiResponse(responseCode = "204", description = "Slow queries cleared")
+    public ResponseEntity<Void> clear() {
+        slowQueryService.clear();
+        return ResponseEntity.noContent().build();
+    }
+}
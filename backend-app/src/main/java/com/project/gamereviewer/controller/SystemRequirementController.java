@@ -1,9 +1,10 @@
 package com.project.gamereviewer.controller;
 
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -15,11 +16,16 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.project.gamereviewer.constant.ApiConstants;
 import com.project.gamereviewer.dto.request.SystemRequirementCreateRequest;
 import com.project.gamereviewer.dto.response.PageResponse;
 import com.project.gamereviewer.dto.response.SystemRequirementResponse;
+import com.project.gamereviewer.export.ExportFormat;
+import com.project.gamereviewer.pagination.KeysetRequest;
+import com.project.gamereviewer.pagination.TotalCountMode;
+import com.project.gamereviewer.service.CatalogExportService;
 import com.project.gamereviewer.service.SystemRequirementService;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -37,6 +43,7 @@ import lombok.RequiredArgsConstructor;
 public class SystemRequirementController {
     
     private final SystemRequirementService systemRequirementService;
+    private final CatalogExportService catalogExportService;
     
     @GetMapping
     @Operation(summary = "Get all system requirements", description = "Returns paginated list of all system requirements")
@@ -45,11 +52,19 @@ public class SystemRequirementController {
             @Parameter(description = "Page number (0-based)") @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "Page size") @RequestParam(defaultValue = "10") int size,
             @Parameter(description = "Sort field") @RequestParam(defaultValue = "id") String sortBy,
-            @Parameter(description = "Sort direction (ASC/DESC)") @RequestParam(defaultValue = "ASC") String sortDirection
+            @Parameter(description = "Sort direction (ASC/DESC)") @RequestParam(defaultValue = "ASC") String sortDirection,
+            @Parameter(description = "Opaque keyset cursor; pass an empty value for the first page, then the returned nextCursor. When set, 'page' is ignored and totals are omitted") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Total count mode: exact (default), estimate (cached or planner estimate) or false (no count query)") @RequestParam(defaultValue = "exact") String withTotal
     ) {
         Sort.Direction direction = Sort.Direction.fromString(sortDirection);
+        
+        if (cursor != null) {
+            KeysetRequest keyset = KeysetRequest.of(cursor, size, sortBy, direction, SystemRequirementService.KEYSET_SORT_FIELDS);
+            return ResponseEntity.ok(PageResponse.of(systemRequirementService.scrollSystemRequirements(keyset), keyset));
+        }
+        
         Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortBy));
-        Page<SystemRequirementResponse> requirementsPage = systemRequirementService.getAllSystemRequirements(pageable);
+        Slice<SystemRequirementResponse> requirementsPage = systemRequirementService.getAllSystemRequirements(pageable, TotalCountMode.fromParameter(withTotal));
         
         PageResponse<SystemRequirementResponse> response = PageResponse.of(requirementsPage);
         
@@ -65,16 +80,38 @@ public class SystemRequirementController {
     public ResponseEntity<PageResponse<SystemRequirementResponse>> getSystemRequirementsByGameId(
             @Parameter(description = "Game ID") @PathVariable Integer gameId,
             @Parameter(description = "Page number (0-based)") @RequestParam(defaultValue = "0") int page,
-            @Parameter(description = "Page size") @RequestParam(defaultValue = "10") int size
+            @Parameter(description = "Page size") @RequestParam(defaultValue = "10") int size,
+            @Parameter(description = "Opaque keyset cursor; pass an empty value for the first page, then the returned nextCursor. When set, 'page' is ignored and totals are omitted") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Total count mode: exact (default), estimate (cached or planner estimate) or false (no count query)") @RequestParam(defaultValue = "exact") String withTotal
     ) {
+        if (cursor != null) {
+            KeysetRequest keyset = KeysetRequest.of(cursor, size, KeysetRequest.ID_FIELD, Sort.Direction.ASC, SystemRequirementService.KEYSET_SORT_FIELDS);
+            return ResponseEntity.ok(PageResponse.of(systemRequirementService.scrollSystemRequirementsByGameId(gameId, keyset), keyset));
+        }
+        
         Pageable pageable = PageRequest.of(page, size);
-        Page<SystemRequirementResponse> requirementsPage = systemRequirementService.getSystemRequirementsByGameId(gameId, pageable);
+        Slice<SystemRequirementResponse> requirementsPage = systemRequirementService.getSystemRequirementsByGameId(gameId, pageable, TotalCountMode.fromParameter(withTotal));
         
         PageResponse<SystemRequirementResponse> response = PageResponse.of(requirementsPage);
         
         return ResponseEntity.ok(response);
     }
     
+    @GetMapping("/export")
+    @Operation(summary = "Export system requirements", description = "Streams every system requirement, optionally of one game, as NDJSON or CSV in id order, from a server-side cursor")
+    @ApiResponse(responseCode = "200", description = "Export stream")
+    public ResponseEntity<StreamingResponseBody> exportSystemRequirements(
+            @Parameter(description = "Only export rows of this game") @RequestParam(required = false) Integer gameId,
+            @Parameter(description = "Export format: ndjson (default) or csv") @RequestParam(defaultValue = "ndjson") String format
+    ) {
+        ExportFormat exportFormat = ExportFormat.fromParameter(format);
+        
+        return ResponseEntity.ok()
+            .contentType(exportFormat.mediaType())
+            .header(HttpHeaders.CONTENT_DISPOSITION, exportFormat.attachment(ApiConstants.SYSTEM_REQUIREMENTS_EXPORT_NAME))
+            .body(output -> catalogExportService.exportSystemRequirements(gameId, exportFormat, output));
+    }
+    
     @GetMapping("/{id}")
     @Operation(summary = "Get system requirement by ID", description = "Returns a specific system requirement")
     @ApiResponses(value = {
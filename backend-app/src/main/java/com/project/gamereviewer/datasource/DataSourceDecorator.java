@@ -0,0 +1,41 @@
+package com.project.gamereviewer.datasource;
+
+import java.util.function.UnaryOperator;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.Ordered;
+
+/**
+ * Wraps the application's {@code DataSource} bean. The decorators apply in order, so from the pool
+ * outwards the chain is: fair queue, workload pools, read replica routing, slow-query timing. Timing
+ * sits outside the routing so statements on replicas are timed too, and the fair queue wraps the
+ * primary pool alone.
+ * Beans registering one must declare this type, not {@code BeanPostProcessor}, for the order to count.
+ */
+public class DataSourceDecorator implements BeanPostProcessor, Ordered {
+
+    public static final int FAIR_QUEUE = Ordered.HIGHEST_PRECEDENCE;
+    public static final int WORKLOAD_POOLS = -1;
+    public static final int READ_REPLICA_ROUTING = 0;
+    public static final int SLOW_QUERY_TIMING = Ordered.LOWEST_PRECEDENCE;
+
+    private final int order;
+    private final UnaryOperator<DataSource> decorator;
+
+    public DataSourceDecorator(int order, UnaryOperator<DataSource> decorator) {
+        this.order = order;
+        this.decorator = decorator;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        return bean instanceof DataSource dataSource ? decorator.apply(dataSource) : bean;
+    }
+
+    @Override
+    public int getOrder() {
+        return order;
+    }
+}
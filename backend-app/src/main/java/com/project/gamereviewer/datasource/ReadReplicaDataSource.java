@@ -0,0 +1,43 @@
+package com.project.gamereviewer.datasource;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Optional;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Connections for read-only transactions: from a replica in rotation, or from the primary when the
+ * request is pinned to it, no replica is in rotation or the chosen one fails to hand out a connection.
+ * Replicas connect with the credentials of their own pools, so explicit credentials go to the primary.
+ */
+@RequiredArgsConstructor
+public class ReadReplicaDataSource extends AbstractDataSource {
+
+    private final DataSource primary;
+    private final ReadReplicas replicas;
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!ReadReplicaRouting.isPinnedToPrimary()) {
+            Optional<ReadReplicas.Replica> replica = replicas.choose();
+            if (replica.isPresent()) {
+                try {
+                    return replica.get().dataSource().getConnection();
+                } catch (SQLException ex) {
+                    logger.debug("Read replica " + replica.get().name() + " failed, reading from the primary", ex);
+                }
+            }
+        }
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return primary.getConnection(username, password);
+    }
+}
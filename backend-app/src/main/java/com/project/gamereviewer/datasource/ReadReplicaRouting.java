@@ -0,0 +1,48 @@
+package com.project.gamereviewer.datasource;
+
+import org.springframework.core.task.TaskDecorator;
+
+/**
+ * Whether the current request must read from the primary. {@link PrimaryAfterWriteFilter} pins requests
+ * of clients that wrote recently, so they read their own writes however far the replicas lag; the pin
+ * is carried to executor threads working on the same request by {@link #propagating()}.
+ */
+public final class ReadReplicaRouting {
+
+    private static final ThreadLocal<Boolean> PINNED_TO_PRIMARY = new ThreadLocal<>();
+
+    private ReadReplicaRouting() {
+    }
+
+    public static void pinToPrimary() {
+        PINNED_TO_PRIMARY.set(Boolean.TRUE);
+    }
+
+    public static void clear() {
+        PINNED_TO_PRIMARY.remove();
+    }
+
+    public static boolean isPinnedToPrimary() {
+        return PINNED_TO_PRIMARY.get() != null;
+    }
+
+    /** Runs tasks pinned to the primary when the submitting thread is. */
+    public static TaskDecorator propagating() {
+        return task -> {
+            if (!isPinnedToPrimary()) {
+                return task;
+            }
+            return () -> {
+                boolean pinned = isPinnedToPrimary();
+                pinToPrimary();
+                try {
+                    task.run();
+                } finally {
+                    if (!pinned) {
+                        clear();
+                    }
+                }
+            };
+        };
+    }
+}
@@ -0,0 +1,124 @@
+package com.project.gamereviewer.datasource;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * The replica pools and how far each lags behind the primary. A replica serves reads only while its
+ * last measured lag is within the tolerance; one that cannot be reached or is too far behind is left
+ * out until a later check finds it caught up.
+ */
+@Slf4j
+public class ReadReplicas implements AutoCloseable {
+
+    /** Replay delay in seconds; 0 on a caught-up standby, and on a server that is not a standby at all. */
+    private static final String LAG_QUERY = """
+        SELECT CASE
+            WHEN NOT pg_is_in_recovery() OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+            ELSE EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp())
+        END""";
+
+    private final List<Replica> replicas;
+    private final Duration maxLag;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReadReplicas(List<Replica> replicas, Duration maxLag) {
+        this.replicas = List.copyOf(replicas);
+        this.maxLag = maxLag;
+    }
+
+    public List<Replica> replicas() {
+        return replicas;
+    }
+
+    /** A replica within the lag tolerance, the available ones taking turns; empty when there is none. */
+    Optional<Replica> choose() {
+        List<Replica> available = replicas.stream().filter(Replica::isAvailable).toList();
+        if (available.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(available.get(Math.floorMod(next.getAndIncrement(), available.size())));
+    }
+
+    public void checkLag() {
+        for (Replica replica : replicas) {
+            Duration lag = measureLag(replica);
+            boolean wasAvailable = replica.isAvailable();
+            replica.lag = lag;
+            replica.available = lag != null && lag.compareTo(maxLag) <= 0;
+
+            if (wasAvailable && !replica.available) {
+                log.warn("Read replica {} taken out of rotation, lag {}", replica.name, lag == null ? "unknown" : lag);
+            } else if (!wasAvailable && replica.available) {
+                log.info("Read replica {} in rotation, lag {}", replica.name, lag);
+            }
+        }
+    }
+
+    private static Duration measureLag(Replica replica) {
+        try (Connection connection = replica.dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet result = statement.executeQuery(LAG_QUERY)) {
+            result.next();
+            double seconds = result.getDouble(1);
+            return result.wasNull() ? null : Duration.ofMillis(Math.round(seconds * 1000));
+        } catch (SQLException ex) {
+            log.debug("Could not measure the lag of read replica {}", replica.name, ex);
+            return null;
+        }
+    }
+
+    @Override
+    public void close() {
+        replicas.forEach(replica -> replica.pool.close());
+    }
+
+    /** {@code dataSource} is {@code pool}, possibly behind a {@link FairDataSource}. */
+    public static final class Replica {
+
+        private final String name;
+        private final HikariDataSource pool;
+        private final DataSource dataSource;
+        private volatile Duration lag;
+        private volatile boolean available;
+
+        public Replica(String name, HikariDataSource pool, DataSource dataSource) {
+            this.name = name;
+            this.pool = pool;
+            this.dataSource = dataSource;
+        }
+
+        public String name() {
+            return name;
+        }
+
+        public HikariDataSource pool() {
+            return pool;
+        }
+
+        DataSource dataSource() {
+            return dataSource;
+        }
+
+        /** Last measured lag, {@code null} before the first check and while unreachable. */
+        public Duration lag() {
+            return lag;
+        }
+
+        public boolean isAvailable() {
+            return available;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.project.gamereviewer.datasource;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares the workload class of a service or controller method. Its transactions take connections from
+ * that class's pool; the outermost annotated call decides, because a transaction keeps the connection it
+ * started with. Unannotated work uses the main pool.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Workload {
+
+    WorkloadClass value();
+}
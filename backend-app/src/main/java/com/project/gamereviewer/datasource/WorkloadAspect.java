@@ -0,0 +1,26 @@
+package com.project.gamereviewer.datasource;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.annotation.Order;
+
+/**
+ * Runs {@link Workload} methods as their class. Ordered before the transaction advisor, which has the
+ * lowest precedence and opens the connection, but not first, where Spring keeps the advisor that exposes
+ * the invocation for argument binding.
+ */
+@Aspect
+@Order(0)
+public class WorkloadAspect {
+
+    @Around("@annotation(workload)")
+    public Object route(ProceedingJoinPoint joinPoint, Workload workload) throws Throwable {
+        WorkloadClass previous = WorkloadRouting.enter(workload.value());
+        try {
+            return joinPoint.proceed();
+        } finally {
+            WorkloadRouting.restore(previous);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.project.gamereviewer.datasource;
+
+/** The kinds of database work that get a connection pool of their own. */
+public enum WorkloadClass {
+
+    /** Reads of one row by key and its small associations. */
+    POINT_LOOKUP,
+
+    /** Paged listings, filters, sorts and facet counts. */
+    LISTING,
+
+    /** Inserts, updates and deletes. */
+    WRITE;
+
+    public String poolName() {
+        return name().toLowerCase().replace('_', '-');
+    }
+}
@@ -0,0 +1,30 @@
+package com.project.gamereviewer.datasource;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * Hands out connections from the pool of the current {@link WorkloadClass}, so a burst of slow listings
+ * cannot take the connections point lookups need. Work without a class, or whose class has no pool,
+ * uses the main pool this wraps.
+ */
+public class WorkloadDataSource extends DelegatingDataSource {
+
+    private final WorkloadPools pools;
+
+    public WorkloadDataSource(DataSource main, WorkloadPools pools) {
+        super(main);
+        this.pools = pools;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        WorkloadClass workload = WorkloadRouting.current();
+        DataSource pool = workload != null ? pools.dataSource(workload) : null;
+        return pool != null ? pool.getConnection() : super.getConnection();
+    }
+}
@@ -0,0 +1,38 @@
+package com.project.gamereviewer.datasource;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+/** The connection pools of the workload classes that have one. */
+public class WorkloadPools implements AutoCloseable {
+
+    private final Map<WorkloadClass, Pool> pools = new EnumMap<>(WorkloadClass.class);
+
+    public WorkloadPools(Collection<Pool> pools) {
+        pools.forEach(pool -> this.pools.put(pool.workload(), pool));
+    }
+
+    public Collection<Pool> pools() {
+        return pools.values();
+    }
+
+    /** Null when the class has no pool of its own. */
+    DataSource dataSource(WorkloadClass workload) {
+        Pool pool = pools.get(workload);
+        return pool != null ? pool.dataSource() : null;
+    }
+
+    @Override
+    public void close() {
+        pools.values().forEach(pool -> pool.hikari().close());
+    }
+
+    /** {@code dataSource} is the pool itself or the fair queue in front of it. */
+    public record Pool(WorkloadClass workload, HikariDataSource hikari, DataSource dataSource) {
+    }
+}
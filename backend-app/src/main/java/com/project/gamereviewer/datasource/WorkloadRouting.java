@@ -0,0 +1,53 @@
+package com.project.gamereviewer.datasource;
+
+import org.springframework.core.task.TaskDecorator;
+
+/**
+ * The workload class of the current thread's work, set by {@link WorkloadAspect} and carried to executor
+ * threads working on the same request by {@link #propagating()}.
+ */
+public final class WorkloadRouting {
+
+    private static final ThreadLocal<WorkloadClass> CURRENT = new ThreadLocal<>();
+
+    private WorkloadRouting() {
+    }
+
+    /** Null outside any annotated call. */
+    public static WorkloadClass current() {
+        return CURRENT.get();
+    }
+
+    /** Makes {@code workload} current and returns the class to {@link #restore} afterwards. */
+    public static WorkloadClass enter(WorkloadClass workload) {
+        WorkloadClass previous = CURRENT.get();
+        CURRENT.set(workload);
+        return previous;
+    }
+
+    public static void restore(WorkloadClass previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+
+    /** Runs tasks as the submitting thread's workload class. */
+    public static TaskDecorator propagating() {
+        return task -> {
+            WorkloadClass workload = current();
+            if (workload == null) {
+                return task;
+            }
+            return () -> {
+                WorkloadClass previous = enter(workload);
+                try {
+                    task.run();
+                } finally {
+                    restore(previous);
+                }
+            };
+        };
+    }
+}
@@ -0,0 +1,8 @@
+package com.project.gamereviewer.dto.response;
+
+public record CacheRegionStatisticsResponse(
+    String region,
+    long hitCount,
+    long missCount,
+    long putCount
+) {}
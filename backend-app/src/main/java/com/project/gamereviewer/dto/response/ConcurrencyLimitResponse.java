@@ -0,0 +1,9 @@
+package com.project.gamereviewer.dto.response;
+
+public record ConcurrencyLimitResponse(
+    String group,
+    int limit,
+    int inFlight,
+    long rejected,
+    long averageLatencyMs
+) {}
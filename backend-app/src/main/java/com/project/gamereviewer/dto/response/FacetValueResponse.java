@@ -0,0 +1,7 @@
+package com.project.gamereviewer.dto.response;
+
+public record FacetValueResponse(
+    Integer id,
+    String name,
+    long count
+) {}
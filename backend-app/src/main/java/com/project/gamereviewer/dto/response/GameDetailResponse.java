@@ -12,5 +12,7 @@ public record GameDetailResponse(
     List<GenreResponse> genres,
     List<SystemRequirementResponse> systemRequirements,
     List<ReviewResponse> reviews,
+    Integer reviewCount,
+    String reviewsUrl,
     Double averageRating
 ) {}
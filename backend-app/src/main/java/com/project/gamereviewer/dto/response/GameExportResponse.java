@@ -0,0 +1,16 @@
+package com.project.gamereviewer.dto.response;
+
+import java.util.List;
+
+public record GameExportResponse(
+    Integer id,
+    String title,
+    Integer releaseYear,
+    Integer developerId,
+    String developerName,
+    Integer publisherId,
+    String publisherName,
+    List<String> genreNames,
+    Double averageRating,
+    Integer reviewCount
+) {}
@@ -0,0 +1,14 @@
+package com.project.gamereviewer.dto.response;
+
+import java.time.Duration;
+import java.util.List;
+
+public record GameFacetsResponse(
+    long total,
+    List<FacetValueResponse> genres,
+    List<FacetValueResponse> developers,
+    List<FacetValueResponse> publishers,
+    List<HistogramBucketResponse> releaseYears,
+    List<HistogramBucketResponse> ratings,
+    Duration indexAge
+) {}
@@ -0,0 +1,7 @@
+package com.project.gamereviewer.dto.response;
+
+public record GameImportErrorResponse(
+    long record,
+    String title,
+    String message
+) {}
@@ -0,0 +1,10 @@
+package com.project.gamereviewer.dto.response;
+
+import java.util.List;
+
+public record GameImportResponse(
+    long imported,
+    long failed,
+    List<GameImportErrorResponse> errors,
+    boolean errorsTruncated
+) {}
@@ -0,0 +1,7 @@
+package com.project.gamereviewer.dto.response;
+
+public record HistogramBucketResponse(
+    int from,
+    int to,
+    long count
+) {}
@@ -2,24 +2,62 @@ package com.project.gamereviewer.dto.response;
 
 import java.util.List;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+
+import com.project.gamereviewer.pagination.EstimatedPage;
+import com.project.gamereviewer.pagination.KeysetPage;
+import com.project.gamereviewer.pagination.KeysetRequest;
+
 public record PageResponse<T>(
     List<T> content,
-    int pageNumber,
+    Integer pageNumber,
     int pageSize,
-    long totalElements,
-    int totalPages,
+    Long totalElements,
+    Integer totalPages,
+    Boolean totalEstimated,
     boolean first,
-    boolean last
+    boolean last,
+    String nextCursor
 ) {
-    public static <T> PageResponse<T> of(org.springframework.data.domain.Page<T> page) {
+    public static <T> PageResponse<T> of(Slice<T> slice) {
+        if (slice instanceof Page<T> page) {
+            return new PageResponse<>(
+                page.getContent(),
+                page.getNumber(),
+                page.getSize(),
+                page.getTotalElements(),
+                page.getTotalPages(),
+                page instanceof EstimatedPage<T> ? Boolean.TRUE : null,
+                page.isFirst(),
+                page.isLast(),
+                null
+            );
+        }
+        return new PageResponse<>(
+            slice.getContent(),
+            slice.getNumber(),
+            slice.getSize(),
+            null,
+            null,
+            null,
+            slice.isFirst(),
+            slice.isLast(),
+            null
+        );
+    }
+
+    public static <T> PageResponse<T> of(KeysetPage<T> page, KeysetRequest request) {
         return new PageResponse<>(
-            page.getContent(),
-            page.getNumber(),
-            page.getSize(),
-            page.getTotalElements(),
-            page.getTotalPages(),
-            page.isFirst(),
-            page.isLast()
+            page.content(),
+            null,
+            request.size(),
+            null,
+            null,
+            null,
+            request.isFirst(),
+            page.nextCursor() == null,
+            page.nextCursor()
         );
     }
 }
@@ -0,0 +1,11 @@
+package com.project.gamereviewer.dto.response;
+
+public record ReviewExportResponse(
+    Integer id,
+    Integer gameId,
+    String gameTitle,
+    Integer mediaOutletId,
+    String mediaOutletName,
+    Integer score,
+    String summary
+) {}
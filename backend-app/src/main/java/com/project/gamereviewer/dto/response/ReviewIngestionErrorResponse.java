@@ -0,0 +1,6 @@
+package com.project.gamereviewer.dto.response;
+
+public record ReviewIngestionErrorResponse(
+    long record,
+    String message
+) {}
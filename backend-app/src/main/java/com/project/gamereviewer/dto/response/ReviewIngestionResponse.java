@@ -0,0 +1,15 @@
+package com.project.gamereviewer.dto.response;
+
+import java.util.List;
+
+public record ReviewIngestionResponse(
+    long received,
+    long inserted,
+    long updated,
+    long unchanged,
+    long rejected,
+    List<ReviewIngestionErrorResponse> errors,
+    boolean errorsTruncated,
+    long elapsedMillis,
+    double rowsPerSecond
+) {}
@@ -0,0 +1,13 @@
+package com.project.gamereviewer.dto.response;
+
+import java.time.Instant;
+import java.util.List;
+
+public record SlowQueryResponse(
+    Instant recordedAt,
+    long durationMs,
+    String context,
+    String sql,
+    List<String> parameters,
+    String plan
+) {}
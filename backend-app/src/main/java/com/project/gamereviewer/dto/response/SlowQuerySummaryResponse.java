@@ -0,0 +1,12 @@
+package com.project.gamereviewer.dto.response;
+
+import java.time.Instant;
+
+public record SlowQuerySummaryResponse(
+    String context,
+    String shape,
+    int count,
+    long maxDurationMs,
+    long averageDurationMs,
+    Instant lastRecordedAt
+) {}
@@ -0,0 +1,15 @@
+package com.project.gamereviewer.dto.response;
+
+import java.math.BigDecimal;
+
+public record SystemRequirementExportResponse(
+    Integer id,
+    Integer gameId,
+    Integer typeId,
+    String typeName,
+    Integer storageGb,
+    Integer ramGb,
+    BigDecimal cpuGhz,
+    BigDecimal gpuTflops,
+    Integer vramGb
+) {}
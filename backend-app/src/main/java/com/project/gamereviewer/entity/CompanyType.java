@@ -1,5 +1,10 @@
 package com.project.gamereviewer.entity;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import com.project.gamereviewer.constant.CacheRegions;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
@@ -13,6 +18,7 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY, region = CacheRegions.COMPANY_TYPES)
 @Table(name = "company_types")
 @Getter
 @Setter
@@ -3,7 +3,11 @@ package com.project.gamereviewer.entity;
 import java.util.HashSet;
 import java.util.Set;
 
-import org.hibernate.annotations.Formula;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.SecondaryRow;
+
+import com.project.gamereviewer.constant.CacheRegions;
 
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
@@ -17,8 +21,12 @@ import jakarta.persistence.JoinTable;
 import jakarta.persistence.ManyToMany;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.PrimaryKeyJoinColumn;
+import jakarta.persistence.SecondaryTable;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
@@ -30,16 +38,25 @@ import lombok.ToString;
 @Table(name = "games", uniqueConstraints = {
     @UniqueConstraint(columnNames = {"title", "release_year"})
 })
+@SecondaryTable(name = "game_rating_stats", pkJoinColumns = @PrimaryKeyJoinColumn(name = "game_id"))
+@SecondaryRow(table = "game_rating_stats", owned = false)
 @Getter
 @Setter
 @EqualsAndHashCode(onlyExplicitlyIncluded = true)
 @NoArgsConstructor
 @AllArgsConstructor
 @ToString(exclude = {"genres", "reviews", "systemRequirements"})
-public class Game {
+public class Game implements Versioned {
+
+    /**
+     * Must match the INCREMENT BY of games_id_seq; ids are handed out from pooled blocks so that
+     * inserts can be batched, which IDENTITY columns prevent.
+     */
+    public static final int ID_ALLOCATION_SIZE = 50;
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "games_id_seq")
+    @SequenceGenerator(name = "games_id_seq", sequenceName = "games_id_seq", allocationSize = ID_ALLOCATION_SIZE)
     @EqualsAndHashCode.Include
     private Integer id;
 
@@ -61,6 +78,7 @@ public class Game {
     private ProductionCompany publisher;
 
     @ManyToMany(fetch = FetchType.LAZY)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.GAME_GENRES)
     @JoinTable(
         name = "games_genres",
         joinColumns = @JoinColumn(name = "game_id"),
@@ -74,6 +92,13 @@ public class Game {
     @OneToMany(mappedBy = "game", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     private Set<SystemRequirement> systemRequirements = new HashSet<>();
     
-    @Formula("(SELECT COALESCE(AVG(r.score), 0.0) FROM reviews r WHERE r.game_id = id)")
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
+    @Column(table = "game_rating_stats", name = "average_rating", insertable = false, updatable = false)
     private Double averageRating;
+
+    @Column(table = "game_rating_stats", name = "review_count", insertable = false, updatable = false)
+    private Integer reviewCount;
 }
@@ -0,0 +1,66 @@
+package com.project.gamereviewer.entity;
+
+import org.hibernate.annotations.Formula;
+import org.hibernate.annotations.Immutable;
+import org.hibernate.annotations.SecondaryRow;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PrimaryKeyJoinColumn;
+import jakarta.persistence.SecondaryTable;
+import jakarta.persistence.Table;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Read-only view of {@code games} for list endpoints: skips the description column and
+ * resolves company names in the same statement instead of initializing the associations.
+ */
+@Entity
+@Immutable
+@Table(name = "games")
+@SecondaryTable(name = "game_rating_stats", pkJoinColumns = @PrimaryKeyJoinColumn(name = "game_id"))
+@SecondaryRow(table = "game_rating_stats", owned = false)
+@Getter
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+@NoArgsConstructor
+public class GameListItem implements Versioned {
+
+    @Id
+    @EqualsAndHashCode.Include
+    private Integer id;
+
+    @Column(nullable = false, length = 150)
+    private String title;
+
+    @Column(name = "release_year")
+    private Integer releaseYear;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "developer_id", insertable = false, updatable = false)
+    private ProductionCompany developer;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "publisher_id", insertable = false, updatable = false)
+    private ProductionCompany publisher;
+
+    @Formula("(SELECT pc.name FROM production_companies pc WHERE pc.id = developer_id)")
+    private String developerName;
+
+    @Formula("(SELECT pc.name FROM production_companies pc WHERE pc.id = publisher_id)")
+    private String publisherName;
+
+    @Column(nullable = false)
+    private Long version;
+
+    @Column(table = "game_rating_stats", name = "average_rating", insertable = false, updatable = false)
+    private Double averageRating;
+
+    @Column(table = "game_rating_stats", name = "review_count", insertable = false, updatable = false)
+    private Integer reviewCount;
+}
@@ -0,0 +1,41 @@
+package com.project.gamereviewer.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Entity
+@Table(name = "game_rating_stats")
+@Getter
+@Setter
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class GameRatingStats {
+
+    @Id
+    @Column(name = "game_id")
+    @EqualsAndHashCode.Include
+    private Integer gameId;
+
+    @Column(name = "review_count", nullable = false)
+    private Integer reviewCount;
+
+    @Column(name = "score_sum", nullable = false)
+    private Long scoreSum;
+
+    @Column(name = "average_rating", nullable = false)
+    private Double averageRating;
+
+    @Column(name = "min_score")
+    private Integer minScore;
+
+    @Column(name = "max_score")
+    private Integer maxScore;
+}
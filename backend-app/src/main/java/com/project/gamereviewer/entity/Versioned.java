@@ -0,0 +1,11 @@
+package com.project.gamereviewer.entity;
+
+/**
+ * Row whose {@code version} changes whenever anything in its API representation changes.
+ */
+public interface Versioned {
+
+    Integer getId();
+
+    Long getVersion();
+}
@@ -0,0 +1,100 @@
+package com.project.gamereviewer.etag;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.springframework.util.DigestUtils;
+
+import com.project.gamereviewer.entity.Versioned;
+import com.project.gamereviewer.fields.FieldSet;
+
+/**
+ * Weak entity tags built from row versions, so a conditional GET can be answered before any
+ * mapping or serialization. The tag does not depend on the negotiated encoding, which is why it is
+ * weak: JSON, Smile, CBOR and columnar bodies are equivalent but not byte-identical. Callers pass the
+ * request's {@code checkNotModified} as the predicate; an empty result means the client's copy is current.
+ * Responses cut down with {@code fields} also mix in {@link FieldSet#canonical()}, so each selection has
+ * its own tag; requesting every field gives the same tag as no selection.
+ */
+public final class ETags {
+
+    private static final String WEAK_PREFIX = "W/";
+
+    private ETags() {
+    }
+
+    public static String of(Integer id, Long version) {
+        return WEAK_PREFIX + "\"" + id + "-" + version + "\"";
+    }
+
+    public static String of(Integer id, Long version, FieldSet<?> fields) {
+        if (fields.isAll()) {
+            return of(id, version);
+        }
+        return WEAK_PREFIX + "\"" + id + "-" + version + "-" + md5(fields.canonical()) + "\"";
+    }
+
+    public static String of(List<? extends Versioned> rows) {
+        StringBuilder key = new StringBuilder();
+        appendRows(key, rows);
+        return digest(key);
+    }
+
+    /**
+     * Covers everything the page envelope shows besides the rows: its position, whether more
+     * follow and, for pages, the (possibly estimated) total.
+     */
+    public static String of(Slice<? extends Versioned> slice) {
+        return digest(sliceKey(slice));
+    }
+
+    public static String of(Slice<? extends Versioned> slice, FieldSet<?> fields) {
+        StringBuilder key = sliceKey(slice);
+        if (!fields.isAll()) {
+            key.append("fields:").append(fields.canonical());
+        }
+        return digest(key);
+    }
+
+    public static <T extends Versioned> Optional<List<T>> unlessNotModified(List<T> rows, Predicate<String> notModified) {
+        return notModified.test(of(rows)) ? Optional.empty() : Optional.of(rows);
+    }
+
+    public static <T extends Versioned> Optional<Slice<T>> unlessNotModified(Slice<T> slice, Predicate<String> notModified) {
+        return notModified.test(of(slice)) ? Optional.empty() : Optional.of(slice);
+    }
+
+    public static <T extends Versioned> Optional<Slice<T>> unlessNotModified(Slice<T> slice, FieldSet<?> fields,
+            Predicate<String> notModified) {
+        return notModified.test(of(slice, fields)) ? Optional.empty() : Optional.of(slice);
+    }
+
+    private static StringBuilder sliceKey(Slice<? extends Versioned> slice) {
+        StringBuilder key = new StringBuilder()
+            .append(slice.getClass().getSimpleName()).append(':')
+            .append(slice.getNumber()).append(':')
+            .append(slice.getSize()).append(':')
+            .append(slice.hasNext()).append(':');
+        if (slice instanceof Page<?> page) {
+            key.append(page.getTotalElements()).append(':');
+        }
+        appendRows(key, slice.getContent());
+        return key;
+    }
+
+    private static void appendRows(StringBuilder key, List<? extends Versioned> rows) {
+        rows.forEach(row -> key.append(row.getId()).append('-').append(row.getVersion()).append(','));
+    }
+
+    private static String digest(StringBuilder key) {
+        return WEAK_PREFIX + "\"" + md5(key.toString()) + "\"";
+    }
+
+    private static String md5(String key) {
+        return DigestUtils.md5DigestAsHex(key.getBytes(StandardCharsets.UTF_8));
+    }
+}
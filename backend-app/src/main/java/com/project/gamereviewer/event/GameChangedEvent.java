@@ -0,0 +1,17 @@
+package com.project.gamereviewer.event;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Set;
+
+public record GameChangedEvent(
+    Set<Integer> gameIds
+) {
+    public static GameChangedEvent of(Integer... gameIds) {
+        return of(Arrays.asList(gameIds));
+    }
+
+    public static GameChangedEvent of(Collection<Integer> gameIds) {
+        return new GameChangedEvent(Set.copyOf(gameIds));
+    }
+}
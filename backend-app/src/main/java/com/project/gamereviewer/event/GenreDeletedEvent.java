@@ -0,0 +1,5 @@
+package com.project.gamereviewer.event;
+
+public record GenreDeletedEvent(
+    Integer genreId
+) {}
@@ -0,0 +1,5 @@
+package com.project.gamereviewer.event;
+
+public record ProductionCompanyDeletedEvent(
+    Integer companyId
+) {}
@@ -0,0 +1,8 @@
+package com.project.gamereviewer.exception;
+
+public class BadRequestException extends RuntimeException {
+    
+    public BadRequestException(String message) {
+        super(message);
+    }
+}
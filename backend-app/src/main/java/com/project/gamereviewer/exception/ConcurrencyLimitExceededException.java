@@ -0,0 +1,17 @@
+package com.project.gamereviewer.exception;
+
+import java.time.Duration;
+
+public class ConcurrencyLimitExceededException extends ServiceUnavailableException {
+
+    private final Duration retryAfter;
+
+    public ConcurrencyLimitExceededException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
@@ -0,0 +1,8 @@
+package com.project.gamereviewer.exception;
+
+public class ServiceUnavailableException extends RuntimeException {
+    
+    public ServiceUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,41 @@
+package com.project.gamereviewer.export;
+
+import java.util.Arrays;
+
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.MediaType;
+
+import com.project.gamereviewer.constant.ApiConstants;
+import com.project.gamereviewer.exception.BadRequestException;
+
+public enum ExportFormat {
+    NDJSON("ndjson", ApiConstants.NDJSON_MEDIA_TYPE),
+    CSV("csv", ApiConstants.CSV_MEDIA_TYPE);
+
+    private final String parameterValue;
+    private final MediaType mediaType;
+
+    ExportFormat(String parameterValue, String mediaType) {
+        this.parameterValue = parameterValue;
+        this.mediaType = MediaType.parseMediaType(mediaType);
+    }
+
+    public static ExportFormat fromParameter(String value) {
+        return Arrays.stream(values())
+            .filter(format -> format.parameterValue.equalsIgnoreCase(value))
+            .findFirst()
+            .orElseThrow(() -> new BadRequestException(
+                "Invalid format value '" + value + "', expected one of: ndjson, csv"));
+    }
+
+    public MediaType mediaType() {
+        return mediaType;
+    }
+
+    public String attachment(String baseName) {
+        return ContentDisposition.attachment()
+            .filename(baseName + "." + parameterValue)
+            .build()
+            .toString();
+    }
+}
@@ -0,0 +1,49 @@
+package com.project.gamereviewer.export;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+
+/**
+ * Opens row-at-a-time writers for exports. Writers buffer internally and never flush per row;
+ * closing one flushes it but leaves the underlying stream open.
+ */
+@Component
+public class ExportWriterFactory {
+
+    private static final String NDJSON_SEPARATOR = "\n";
+
+    private final ObjectMapper objectMapper;
+    private final CsvMapper csvMapper;
+
+    public ExportWriterFactory(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        // columns follow the record declaration order instead of CsvMapper's alphabetical default
+        this.csvMapper = CsvMapper.builder()
+            .disable(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY)
+            .build();
+    }
+
+    public SequenceWriter open(ExportFormat format, Class<?> rowType, OutputStream output) throws IOException {
+        return switch (format) {
+            case NDJSON -> objectMapper.writerFor(rowType)
+                .without(SerializationFeature.INDENT_OUTPUT)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .withRootValueSeparator(NDJSON_SEPARATOR)
+                .writeValues(output);
+            case CSV -> csvMapper.writer(csvMapper.schemaFor(rowType).withHeader())
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .writeValues(output);
+        };
+    }
+}
@@ -0,0 +1,46 @@
+package com.project.gamereviewer.export;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
+
+/**
+ * Encodes reactive streams as NDJSON text for Spring MVC. MVC's own JSON streaming writes each
+ * element with the application mapper, which indents in dev, and flushes after every element; here
+ * rows are written compactly and grouped into chunks of {@code app.reactive.fetch-size} lines, so a
+ * chunk costs one write and one flush. Demand is passed upstream a chunk at a time.
+ */
+@Component
+public class NdjsonEncoder {
+
+    private static final String NDJSON_SEPARATOR = "\n";
+
+    private final ObjectWriter writer;
+    private final int chunkSize;
+
+    public NdjsonEncoder(ObjectMapper objectMapper, @Value("${app.reactive.fetch-size:256}") int chunkSize) {
+        this.writer = objectMapper.writer().without(SerializationFeature.INDENT_OUTPUT);
+        this.chunkSize = chunkSize;
+    }
+
+    public Flux<String> encode(Flux<?> rows) {
+        return rows.map(this::line)
+            .buffer(chunkSize)
+            .map(lines -> String.join("", lines));
+    }
+
+    private String line(Object row) {
+        try {
+            return writer.writeValueAsString(row) + NDJSON_SEPARATOR;
+        } catch (JsonProcessingException ex) {
+            throw Exceptions.propagate(ex);
+        }
+    }
+}
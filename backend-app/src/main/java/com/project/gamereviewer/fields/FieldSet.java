@@ -0,0 +1,146 @@
+package com.project.gamereviewer.fields;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.RecordComponent;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import com.project.gamereviewer.exception.BadRequestException;
+
+/**
+ * The top-level fields of a response record a client asked for with {@code fields=a,b}; {@code id} is
+ * always included and no parameter means every field. Services check {@link #includes} before loading
+ * what backs a field, and {@link #apply} clears the fields that were not asked for, which
+ * {@code default-property-inclusion: non_null} then leaves out of every encoding.
+ */
+public final class FieldSet<T extends Record> {
+
+    public static final String ID_FIELD = "id";
+
+    private static final ClassValue<Shape> SHAPES = new ClassValue<>() {
+        @Override
+        protected Shape computeValue(Class<?> type) {
+            return Shape.of(type);
+        }
+    };
+
+    private final Shape shape;
+    private final Set<String> names;
+    private final String canonical;
+
+    private FieldSet(Shape shape, Set<String> names) {
+        this.shape = shape;
+        this.names = names;
+        this.canonical = names == null ? "" : names.stream().sorted().collect(Collectors.joining(","));
+    }
+
+    public static <T extends Record> FieldSet<T> all(Class<T> type) {
+        return new FieldSet<>(SHAPES.get(type), null);
+    }
+
+    public static <T extends Record> FieldSet<T> of(String fields, Class<T> type) {
+        if (fields == null || fields.isBlank()) {
+            return all(type);
+        }
+
+        Shape shape = SHAPES.get(type);
+        Set<String> names = new LinkedHashSet<>();
+        names.add(ID_FIELD);
+        List<String> unknown = new ArrayList<>();
+        for (String field : fields.split(",")) {
+            String name = field.trim();
+            if (name.isEmpty()) {
+                continue;
+            }
+            if (shape.indexOf(name) < 0) {
+                unknown.add(name);
+            } else {
+                names.add(name);
+            }
+        }
+        if (!unknown.isEmpty()) {
+            throw new BadRequestException("Unknown fields " + unknown + ", expected any of: " + String.join(", ", shape.names));
+        }
+        return new FieldSet<>(shape, names.size() == shape.names.length ? null : Set.copyOf(names));
+    }
+
+    public boolean isAll() {
+        return names == null;
+    }
+
+    /** Sorted field names, empty for every field; the same for any order or repetition in the request. */
+    public String canonical() {
+        return canonical;
+    }
+
+    public boolean includes(String field) {
+        if (shape.indexOf(field) < 0) {
+            throw new IllegalArgumentException("No field '" + field + "' in " + shape.type.getSimpleName());
+        }
+        return names == null || names.contains(field);
+    }
+
+    public T apply(T value) {
+        if (names == null || value == null) {
+            return value;
+        }
+
+        Object[] values = new Object[shape.names.length];
+        try {
+            for (int i = 0; i < values.length; i++) {
+                if (names.contains(shape.names[i])) {
+                    values[i] = shape.accessors[i].invoke(value);
+                }
+            }
+            @SuppressWarnings("unchecked")
+            T pruned = (T) shape.constructor.newInstance(values);
+            return pruned;
+        } catch (InvocationTargetException ex) {
+            throw new IllegalStateException("Could not copy " + shape.type.getSimpleName(), ex.getTargetException());
+        } catch (ReflectiveOperationException ex) {
+            throw new IllegalStateException("Could not copy " + shape.type.getSimpleName(), ex);
+        }
+    }
+
+    /** Component names, accessors and canonical constructor of a record; components must be reference types. */
+    private record Shape(Class<?> type, String[] names, Method[] accessors, Constructor<?> constructor) {
+
+        static Shape of(Class<?> type) {
+            RecordComponent[] components = type.getRecordComponents();
+            if (components == null) {
+                throw new IllegalArgumentException(type.getName() + " is not a record");
+            }
+            for (RecordComponent component : components) {
+                if (component.getType().isPrimitive()) {
+                    throw new IllegalArgumentException("Field '" + component.getName() + "' of " + type.getName()
+                        + " is primitive and cannot be left out");
+                }
+            }
+            try {
+                return new Shape(
+                    type,
+                    Arrays.stream(components).map(RecordComponent::getName).toArray(String[]::new),
+                    Arrays.stream(components).map(RecordComponent::getAccessor).toArray(Method[]::new),
+                    type.getDeclaredConstructor(Arrays.stream(components).map(RecordComponent::getType).toArray(Class<?>[]::new))
+                );
+            } catch (NoSuchMethodException ex) {
+                throw new IllegalStateException("No canonical constructor in " + type.getName(), ex);
+            }
+        }
+
+        int indexOf(String name) {
+            for (int i = 0; i < names.length; i++) {
+                if (names[i].equals(name)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.project.gamereviewer.limit;
+
+import java.io.IOException;
+
+import org.springframework.web.cors.CorsUtils;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.util.UrlPathHelper;
+
+import com.project.gamereviewer.exception.ConcurrencyLimitExceededException;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Admits a request while its route group is below its limit and otherwise fails it at once with a 503
+ * and {@code Retry-After}, before it waits for a connection. Asynchronous requests (exports, reactive
+ * reads) hold their permit until the response is complete.
+ */
+@RequiredArgsConstructor
+public class ConcurrencyLimitInterceptor implements AsyncHandlerInterceptor {
+
+    public static final String LIMIT_EXCEEDED_EXCEPTION_MESSAGE = "Too many concurrent %s requests, retry later";
+
+    private static final String PERMIT_ATTRIBUTE = ConcurrencyLimitInterceptor.class.getName() + ".permit";
+    private static final UrlPathHelper URL_PATH_HELPER = new UrlPathHelper();
+
+    private final ConcurrencyLimiters limiters;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // the async dispatch of a request that already holds a permit
+        if (request.getAttribute(PERMIT_ATTRIBUTE) != null || CorsUtils.isPreFlightRequest(request)) {
+            return true;
+        }
+
+        limiters.forPath(URL_PATH_HELPER.getPathWithinApplication(request)).ifPresent(limiter -> {
+            ConcurrencyLimiter.Permit permit = limiter.tryAcquire()
+                .orElseThrow(() -> new ConcurrencyLimitExceededException(
+                    String.format(LIMIT_EXCEEDED_EXCEPTION_MESSAGE, limiter.group()), limiter.retryAfter()));
+            request.setAttribute(PERMIT_ATTRIBUTE, permit);
+        });
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (request.getAttribute(PERMIT_ATTRIBUTE) instanceof ConcurrencyLimiter.Permit permit) {
+            // also covers async requests that time out or fail without dispatching back
+            request.getAsyncContext().addListener(new AsyncListener() {
+                @Override
+                public void onComplete(AsyncEvent event) {
+                    permit.release();
+                }
+
+                @Override
+                public void onTimeout(AsyncEvent event) {
+                }
+
+                @Override
+                public void onError(AsyncEvent event) {
+                }
+
+                @Override
+                public void onStartAsync(AsyncEvent event) {
+                }
+            });
+        }
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex)
+            throws IOException {
+        if (!request.isAsyncStarted() && request.getAttribute(PERMIT_ATTRIBUTE) instanceof ConcurrencyLimiter.Permit permit) {
+            permit.release();
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.project.gamereviewer.limit;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/** The adaptive limit of one route group, its requests in flight and how many it turned away. */
+public class ConcurrencyLimiter {
+
+    private final String group;
+    private final GradientLimit limit;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder rejected = new LongAdder();
+
+    ConcurrencyLimiter(String group, int initialLimit, int minLimit, int maxLimit) {
+        this.group = group;
+        this.limit = new GradientLimit(initialLimit, minLimit, maxLimit);
+    }
+
+    /** A permit to run one request, or empty when the group is at its limit. */
+    Optional<Permit> tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit.limit()) {
+                rejected.increment();
+                return Optional.empty();
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return Optional.of(new Permit());
+            }
+        }
+    }
+
+    public String group() {
+        return group;
+    }
+
+    public int limit() {
+        return limit.limit();
+    }
+
+    public int inFlight() {
+        return inFlight.get();
+    }
+
+    public long rejected() {
+        return rejected.sum();
+    }
+
+    public Duration averageLatency() {
+        return Duration.ofNanos((long) limit.averageLatencyNanos());
+    }
+
+    /** How long a turned away client should wait: the group's average latency, at least a second. */
+    Duration retryAfter() {
+        return Duration.ofSeconds(Math.max(1, (long) Math.ceil(limit.averageLatencyNanos() / 1e9)));
+    }
+
+    /** Released once, when the request completes; its latency feeds the limit. */
+    final class Permit {
+
+        private final long startNanos = System.nanoTime();
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        void release() {
+            if (released.compareAndSet(false, true)) {
+                int current = inFlight.getAndDecrement();
+                limit.onSample(System.nanoTime() - startNanos, current);
+            }
+        }
+    }
+}
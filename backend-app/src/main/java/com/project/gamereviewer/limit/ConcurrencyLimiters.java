@@ -0,0 +1,37 @@
+package com.project.gamereviewer.limit;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.PathMatcher;
+
+/** The route groups in configuration order; a request belongs to the first group with a matching path. */
+public class ConcurrencyLimiters {
+
+    private static final PathMatcher PATH_MATCHER = new AntPathMatcher();
+
+    private final List<Group> groups;
+
+    public ConcurrencyLimiters(List<Group> groups) {
+        this.groups = List.copyOf(groups);
+    }
+
+    public List<ConcurrencyLimiter> all() {
+        return groups.stream().map(Group::limiter).toList();
+    }
+
+    Optional<ConcurrencyLimiter> forPath(String path) {
+        return groups.stream()
+            .filter(group -> group.paths().stream().anyMatch(pattern -> PATH_MATCHER.match(pattern, path)))
+            .map(Group::limiter)
+            .findFirst();
+    }
+
+    public static Group group(String name, List<String> paths, int initialLimit, int minLimit, int maxLimit) {
+        return new Group(paths, new ConcurrencyLimiter(name, initialLimit, minLimit, maxLimit));
+    }
+
+    public record Group(List<String> paths, ConcurrencyLimiter limiter) {
+    }
+}
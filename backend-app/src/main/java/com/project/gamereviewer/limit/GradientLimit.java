@@ -0,0 +1,64 @@
+package com.project.gamereviewer.limit;
+
+/**
+ * A concurrency limit that follows latency, after the gradient algorithm of Netflix's
+ * concurrency-limits. Each completed request compares its latency with a slow moving average of
+ * past latencies: while it stays within {@link #TOLERANCE} of the average the limit grows by up to
+ * {@link #QUEUE_SIZE}, and as latency climbs above that the limit shrinks in proportion, down to half
+ * per step. The limit does not grow while less than half of it is in use, so it stays near the
+ * concurrency the group actually reaches.
+ */
+final class GradientLimit {
+
+    private static final double TOLERANCE = 1.5;
+    private static final double SMOOTHING = 0.2;
+    private static final int QUEUE_SIZE = 4;
+    private static final int LONG_WINDOW = 600;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private double estimatedLimit;
+    private double longRtt;
+    private volatile int limit;
+    private volatile double averageLatencyNanos;
+
+    GradientLimit(int initialLimit, int minLimit, int maxLimit) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.estimatedLimit = initialLimit;
+        this.limit = initialLimit;
+    }
+
+    int limit() {
+        return limit;
+    }
+
+    /** The slow moving average latency, 0 before the first sample. */
+    double averageLatencyNanos() {
+        return averageLatencyNanos;
+    }
+
+    synchronized void onSample(long rttNanos, int inFlight) {
+        double shortRtt = Math.max(1, rttNanos);
+        if (longRtt == 0) {
+            longRtt = shortRtt;
+        } else {
+            longRtt += (shortRtt - longRtt) / LONG_WINDOW;
+        }
+        // latency came back down after a long overload, let the average follow faster
+        if (longRtt / shortRtt > 2) {
+            longRtt *= 0.95;
+        }
+        averageLatencyNanos = longRtt;
+
+        if (inFlight < estimatedLimit / 2) {
+            return;
+        }
+
+        double gradient = Math.max(0.5, Math.min(1.0, TOLERANCE * longRtt / shortRtt));
+        double newLimit = estimatedLimit * gradient + QUEUE_SIZE;
+        newLimit = estimatedLimit * (1 - SMOOTHING) + newLimit * SMOOTHING;
+        estimatedLimit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+        limit = (int) estimatedLimit;
+    }
+}
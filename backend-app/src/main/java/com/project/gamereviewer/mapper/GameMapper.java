@@ -2,16 +2,19 @@ package com.project.gamereviewer.mapper;
 
 import com.project.gamereviewer.dto.request.GameCreateRequest;
 import com.project.gamereviewer.dto.response.GameDetailResponse;
+import com.project.gamereviewer.dto.response.GameExportResponse;
 import com.project.gamereviewer.dto.response.GameListResponse;
+import com.project.gamereviewer.dto.response.GenreResponse;
+import com.project.gamereviewer.dto.response.ProductionCompanyResponse;
+import com.project.gamereviewer.dto.response.ReviewResponse;
+import com.project.gamereviewer.dto.response.SystemRequirementResponse;
 import com.project.gamereviewer.entity.Game;
+import com.project.gamereviewer.entity.GameListItem;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.MappingConstants;
-import org.mapstruct.Named;
 
 import java.util.List;
-import java.util.Set;
-import java.util.stream.Collectors;
 
 @Mapper(
     componentModel = MappingConstants.ComponentModel.SPRING,
@@ -19,12 +22,33 @@ import java.util.stream.Collectors;
 )
 public interface GameMapper {
     
-    @Mapping(source = "developer.name", target = "developerName")
-    @Mapping(source = "publisher.name", target = "publisherName")
-    @Mapping(source = "genres", target = "genreNames", qualifiedByName = "genresToNames")
-    GameListResponse toListResponse(Game game);
+    @Mapping(target = "averageRating", defaultValue = "0.0")
+    GameListResponse toListResponse(GameListItem game, List<String> genreNames);
     
-    GameDetailResponse toDetailResponse(Game game);
+    @Mapping(source = "game.developer.id", target = "developerId")
+    @Mapping(source = "game.publisher.id", target = "publisherId")
+    @Mapping(target = "averageRating", defaultValue = "0.0")
+    @Mapping(target = "reviewCount", defaultValue = "0")
+    GameExportResponse toExportResponse(GameListItem game, List<String> genreNames);
+    
+    @Mapping(source = "game.id", target = "id")
+    @Mapping(source = "developer", target = "developer")
+    @Mapping(source = "publisher", target = "publisher")
+    @Mapping(source = "genres", target = "genres")
+    @Mapping(source = "systemRequirements", target = "systemRequirements")
+    @Mapping(source = "reviews", target = "reviews")
+    @Mapping(source = "game.reviewCount", target = "reviewCount", defaultValue = "0")
+    @Mapping(source = "reviewsUrl", target = "reviewsUrl")
+    @Mapping(source = "game.averageRating", target = "averageRating", defaultValue = "0.0")
+    GameDetailResponse toDetailResponse(
+        Game game,
+        ProductionCompanyResponse developer,
+        ProductionCompanyResponse publisher,
+        List<GenreResponse> genres,
+        List<SystemRequirementResponse> systemRequirements,
+        List<ReviewResponse> reviews,
+        String reviewsUrl
+    );
     
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "developer", ignore = true)
@@ -33,15 +57,7 @@ public interface GameMapper {
     @Mapping(target = "reviews", ignore = true)
     @Mapping(target = "systemRequirements", ignore = true)
     @Mapping(target = "averageRating", ignore = true)
+    @Mapping(target = "reviewCount", ignore = true)
+    @Mapping(target = "version", ignore = true)
     Game toEntity(GameCreateRequest request);
-    
-    @Named("genresToNames")
-    default List<String> genresToNames(Set<com.project.gamereviewer.entity.Genre> genres) {
-        if (genres == null) {
-            return List.of();
-        }
-        return genres.stream()
-            .map(com.project.gamereviewer.entity.Genre::getName)
-            .collect(Collectors.toList());
-    }
 }
@@ -13,5 +13,6 @@ public interface GenreMapper {
     GenreResponse toResponse(Genre genre);
     
     @Mapping(target = "id", ignore = true)
+    @Mapping(target = "version", ignore = true)
     Genre toEntity(GenreCreateRequest request);
 }
@@ -13,5 +13,6 @@ public interface MediaOutletMapper {
     MediaOutletResponse toResponse(MediaOutlet mediaOutlet);
     
     @Mapping(target = "id", ignore = true)
+    @Mapping(target = "version", ignore = true)
     MediaOutlet toEntity(MediaOutletCreateRequest request);
 }
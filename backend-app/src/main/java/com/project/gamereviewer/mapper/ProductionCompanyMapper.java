@@ -13,7 +13,12 @@ public interface ProductionCompanyMapper {
     @Mapping(source = "companyType.name", target = "companyTypeName")
     ProductionCompanyResponse toResponse(ProductionCompany company);
     
+    @Mapping(source = "company.id", target = "id")
+    @Mapping(source = "companyTypeName", target = "companyTypeName")
+    ProductionCompanyResponse toResponse(ProductionCompany company, String companyTypeName);
+    
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "companyType", ignore = true)
+    @Mapping(target = "version", ignore = true)
     ProductionCompany toEntity(ProductionCompanyCreateRequest request);
 }
@@ -1,6 +1,8 @@
 package com.project.gamereviewer.mapper;
 
 import com.project.gamereviewer.dto.request.ReviewCreateRequest;
+import com.project.gamereviewer.dto.response.MediaOutletResponse;
+import com.project.gamereviewer.dto.response.ReviewExportResponse;
 import com.project.gamereviewer.dto.response.ReviewResponse;
 import com.project.gamereviewer.entity.Review;
 import org.mapstruct.Mapper;
@@ -17,6 +19,23 @@ public interface ReviewMapper {
     @Mapping(source = "game.title", target = "gameTitle")
     ReviewResponse toResponse(Review review);
     
+    @Mapping(source = "review.id", target = "id")
+    @Mapping(source = "gameId", target = "gameId")
+    @Mapping(source = "gameTitle", target = "gameTitle")
+    ReviewResponse toResponse(Review review, Integer gameId, String gameTitle);
+    
+    @Mapping(source = "review.id", target = "id")
+    @Mapping(source = "gameId", target = "gameId")
+    @Mapping(source = "gameTitle", target = "gameTitle")
+    @Mapping(source = "mediaOutlet", target = "mediaOutlet")
+    ReviewResponse toResponse(Review review, Integer gameId, String gameTitle, MediaOutletResponse mediaOutlet);
+    
+    @Mapping(source = "game.id", target = "gameId")
+    @Mapping(source = "game.title", target = "gameTitle")
+    @Mapping(source = "mediaOutlet.id", target = "mediaOutletId")
+    @Mapping(source = "mediaOutlet.name", target = "mediaOutletName")
+    ReviewExportResponse toExportResponse(Review review);
+    
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "game", ignore = true)
     @Mapping(target = "mediaOutlet", ignore = true)
@@ -1,6 +1,7 @@
 package com.project.gamereviewer.mapper;
 
 import com.project.gamereviewer.dto.request.SystemRequirementCreateRequest;
+import com.project.gamereviewer.dto.response.SystemRequirementExportResponse;
 import com.project.gamereviewer.dto.response.SystemRequirementResponse;
 import com.project.gamereviewer.entity.SystemRequirement;
 import org.mapstruct.Mapper;
@@ -17,6 +18,11 @@ public interface SystemRequirementMapper {
     @Mapping(source = "systemRequirementType", target = "type")
     SystemRequirementResponse toResponse(SystemRequirement systemRequirement);
     
+    @Mapping(source = "game.id", target = "gameId")
+    @Mapping(source = "systemRequirementType.id", target = "typeId")
+    @Mapping(source = "systemRequirementType.name", target = "typeName")
+    SystemRequirementExportResponse toExportResponse(SystemRequirement systemRequirement);
+    
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "game", ignore = true)
     @Mapping(target = "systemRequirementType", ignore = true)
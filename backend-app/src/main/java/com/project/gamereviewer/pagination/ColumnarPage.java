@@ -0,0 +1,125 @@
+package com.project.gamereviewer.pagination;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.PropertyWriter;
+import com.fasterxml.jackson.databind.ser.std.BeanSerializerBase;
+import com.project.gamereviewer.dto.response.PageResponse;
+
+/**
+ * Writes a page in the columnar layout: {@code columns} maps each property of the rows to an array
+ * holding that property of every row, so a property name is sent once per page instead of once per
+ * row, and a row without a value has {@code null} at its index; a property no row has a value for is
+ * left out, as plain JSON leaves out null properties. The other page fields are written as
+ * in plain JSON. Columns are streamed with the rows' own bean serializer, property by property, so no
+ * intermediate tree of the rows is built.
+ */
+public final class ColumnarPage {
+
+    public static final String COLUMNS_FIELD = "columns";
+
+    private ColumnarPage() {
+    }
+
+    public static void write(PageResponse<?> page, JsonGenerator generator, ObjectMapper objectMapper) throws IOException {
+        SerializerProvider provider = objectMapper.getSerializerProviderInstance();
+        List<?> rows = page.content();
+
+        generator.writeStartObject();
+        generator.writeObjectFieldStart(COLUMNS_FIELD);
+        if (!rows.isEmpty()) {
+            for (Iterator<PropertyWriter> properties = beanSerializer(rows, provider).properties(); properties.hasNext(); ) {
+                PropertyWriter property = properties.next();
+                if (isEmptyColumn(property, rows)) {
+                    continue;
+                }
+                generator.writeArrayFieldStart(property.getName());
+                for (Object row : rows) {
+                    writeElement(property, row, generator, provider);
+                }
+                generator.writeEndArray();
+            }
+        }
+        generator.writeEndObject();
+
+        for (Iterator<Map.Entry<String, JsonNode>> fields = envelope(page, objectMapper).fields(); fields.hasNext(); ) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            generator.writeFieldName(field.getKey());
+            objectMapper.writeTree(generator, field.getValue());
+        }
+        generator.writeEndObject();
+    }
+
+    private static void writeElement(PropertyWriter property, Object row, JsonGenerator generator,
+            SerializerProvider provider) throws IOException {
+        try {
+            property.serializeAsElement(row, generator, provider);
+        } catch (IOException ex) {
+            throw ex;
+        } catch (Exception ex) {
+            throw JsonMappingException.wrapWithPath(ex, row, property.getName());
+        }
+    }
+
+    /** A property null in every row, such as one left out by a field selection. */
+    private static boolean isEmptyColumn(PropertyWriter property, List<?> rows) throws IOException {
+        if (!(property instanceof BeanPropertyWriter beanProperty)) {
+            return false;
+        }
+        for (Object row : rows) {
+            try {
+                if (beanProperty.get(row) != null) {
+                    return false;
+                }
+            } catch (IOException ex) {
+                throw ex;
+            } catch (Exception ex) {
+                throw JsonMappingException.wrapWithPath(ex, row, property.getName());
+            }
+        }
+        return true;
+    }
+
+    private static BeanSerializerBase beanSerializer(List<?> rows, SerializerProvider provider) throws IOException {
+        Class<?> rowType = rows.get(0).getClass();
+        for (Object row : rows) {
+            if (row.getClass() != rowType) {
+                throw JsonMappingException.from(provider, "Columnar layout needs rows of one type, got "
+                    + rowType.getName() + " and " + row.getClass().getName());
+            }
+        }
+        JsonSerializer<Object> serializer = provider.findTypedValueSerializer(rowType, true, null);
+        if (serializer instanceof BeanSerializerBase beanSerializer) {
+            return beanSerializer;
+        }
+        throw JsonMappingException.from(provider, "Columnar layout needs bean rows, got " + rowType.getName());
+    }
+
+    /** The page without its rows. */
+    private static ObjectNode envelope(PageResponse<?> page, ObjectMapper objectMapper) {
+        ObjectNode envelope = objectMapper.valueToTree(new PageResponse<>(
+            List.of(),
+            page.pageNumber(),
+            page.pageSize(),
+            page.totalElements(),
+            page.totalPages(),
+            page.totalEstimated(),
+            page.first(),
+            page.last(),
+            page.nextCursor()
+        ));
+        envelope.remove("content");
+        return envelope;
+    }
+}
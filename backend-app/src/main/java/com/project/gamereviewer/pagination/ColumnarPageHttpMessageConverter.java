@@ -0,0 +1,67 @@
+package com.project.gamereviewer.pagination;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.gamereviewer.constant.ApiConstants;
+import com.project.gamereviewer.dto.response.PageResponse;
+
+/**
+ * Writes list pages in the {@link ColumnarPage} layout for clients that ask for
+ * {@value ApiConstants#COLUMNAR_JSON_MEDIA_TYPE} by name. It has to come before the JSON converter,
+ * which claims every {@code +json} type, and so offers nothing to clients accepting anything, which keep
+ * getting plain JSON. Other responses requested in this type are plain JSON. Write-only.
+ */
+public class ColumnarPageHttpMessageConverter extends AbstractHttpMessageConverter<PageResponse<?>> {
+
+    private final ObjectMapper objectMapper;
+
+    public ColumnarPageHttpMessageConverter(ObjectMapper objectMapper) {
+        super(StandardCharsets.UTF_8, MediaType.valueOf(ApiConstants.COLUMNAR_JSON_MEDIA_TYPE));
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return PageResponse.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    public boolean canWrite(Class<?> clazz, MediaType mediaType) {
+        return mediaType != null && mediaType.isConcrete() && super.canWrite(clazz, mediaType);
+    }
+
+    @Override
+    protected boolean canRead(MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected PageResponse<?> readInternal(Class<? extends PageResponse<?>> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Columnar pages are written only", inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(PageResponse<?> page, HttpOutputMessage outputMessage) throws IOException {
+        // as MappingJackson2HttpMessageConverter does, closing the generator would close the response stream
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(outputMessage.getBody(), JsonEncoding.UTF8);
+        try {
+            objectMapper.getSerializationConfig().initialize(generator);
+            ColumnarPage.write(page, generator, objectMapper);
+            generator.flush();
+        } catch (JsonProcessingException ex) {
+            throw new HttpMessageNotWritableException("Could not write columnar page: " + ex.getOriginalMessage(), ex);
+        }
+    }
+}
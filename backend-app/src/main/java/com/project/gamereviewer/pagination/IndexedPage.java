@@ -0,0 +1,26 @@
+package com.project.gamereviewer.pagination;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Function;
+
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import lombok.Getter;
+
+@Getter
+public class IndexedPage<T> extends PageImpl<T> {
+
+    private final Duration indexAge;
+
+    public IndexedPage(List<T> content, Pageable pageable, long total, Duration indexAge) {
+        super(content, pageable, total);
+        this.indexAge = indexAge;
+    }
+
+    @Override
+    public <U> IndexedPage<U> map(Function<? super T, ? extends U> converter) {
+        return new IndexedPage<>(getConvertedContent(converter), getPageable(), getTotalElements(), indexAge);
+    }
+}
@@ -0,0 +1,56 @@
+package com.project.gamereviewer.pagination;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import org.springframework.data.domain.Sort;
+
+import com.project.gamereviewer.exception.BadRequestException;
+
+public record KeysetCursor(
+    String sortBy,
+    Sort.Direction direction,
+    String value,
+    Integer id
+) {
+    public static final String INVALID_CURSOR_EXCEPTION_MESSAGE = "Invalid pagination cursor";
+
+    private static final String SEPARATOR = ":";
+    private static final String NULL_MARKER = "n";
+    private static final String VALUE_MARKER = "v";
+
+    public static KeysetCursor of(String sortBy, Sort.Direction direction, Object value, Integer id) {
+        String encodedValue = null;
+        if (value instanceof BigDecimal decimal) {
+            encodedValue = decimal.toPlainString();
+        } else if (value != null) {
+            encodedValue = value.toString();
+        }
+        return new KeysetCursor(sortBy, direction, encodedValue, id);
+    }
+
+    public String encode() {
+        String raw = String.join(SEPARATOR,
+            sortBy,
+            direction.name(),
+            id.toString(),
+            value == null ? NULL_MARKER : VALUE_MARKER + value
+        );
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static KeysetCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split(SEPARATOR, 4);
+            if (parts.length != 4 || parts[3].isEmpty()) {
+                throw new BadRequestException(INVALID_CURSOR_EXCEPTION_MESSAGE);
+            }
+            String value = parts[3].startsWith(VALUE_MARKER) ? parts[3].substring(1) : null;
+            return new KeysetCursor(parts[0], Sort.Direction.fromString(parts[1]), value, Integer.valueOf(parts[2]));
+        } catch (IllegalArgumentException ex) {
+            throw new BadRequestException(INVALID_CURSOR_EXCEPTION_MESSAGE);
+        }
+    }
+}
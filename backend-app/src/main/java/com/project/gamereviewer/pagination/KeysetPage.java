@@ -0,0 +1,13 @@
+package com.project.gamereviewer.pagination;
+
+import java.util.List;
+import java.util.function.Function;
+
+public record KeysetPage<T>(
+    List<T> content,
+    String nextCursor
+) {
+    public <R> KeysetPage<R> map(Function<? super T, ? extends R> mapper) {
+        return new KeysetPage<>(content.stream().<R>map(mapper).toList(), nextCursor);
+    }
+}
@@ -0,0 +1,143 @@
+package com.project.gamereviewer.pagination;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.project.gamereviewer.exception.BadRequestException;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+
+/**
+ * Seek-based page request over (sort key, id). Relies on PostgreSQL's default null ordering
+ * (NULLS LAST for ASC, NULLS FIRST for DESC), which is what a native Spring {@link Sort} produces.
+ */
+public record KeysetRequest(
+    KeysetCursor after,
+    int size,
+    String sortBy,
+    Sort.Direction direction
+) {
+    public static final String ID_FIELD = "id";
+    public static final String CURSOR_SORT_MISMATCH_EXCEPTION_MESSAGE = "Cursor does not match the requested sort";
+
+    /** {@code sortableFields} are the attributes a cursor may seek on besides {@code id}. */
+    public static KeysetRequest of(String cursor, int size, String sortBy, Sort.Direction direction,
+            Set<String> sortableFields) {
+        if (size < 1) {
+            throw new BadRequestException("Page size must be at least 1");
+        }
+        if (!ID_FIELD.equals(sortBy) && !sortableFields.contains(sortBy)) {
+            throw new BadRequestException("Keyset pagination is not supported for sort field '" + sortBy
+                + "', expected one of: " + ID_FIELD + ", " + String.join(", ", new TreeSet<>(sortableFields)));
+        }
+        if (cursor == null || cursor.isBlank()) {
+            return new KeysetRequest(null, size, sortBy, direction);
+        }
+
+        KeysetCursor decoded = KeysetCursor.decode(cursor);
+        if (!decoded.sortBy().equals(sortBy) || decoded.direction() != direction) {
+            throw new BadRequestException(CURSOR_SORT_MISMATCH_EXCEPTION_MESSAGE);
+        }
+        return new KeysetRequest(decoded, size, sortBy, direction);
+    }
+
+    public boolean isFirst() {
+        return after == null;
+    }
+
+    public int limit() {
+        return size + 1;
+    }
+
+    public Sort sort() {
+        if (ID_FIELD.equals(sortBy)) {
+            return Sort.by(direction, ID_FIELD);
+        }
+        return Sort.by(direction, sortBy).and(Sort.by(direction, ID_FIELD));
+    }
+
+    public <T> Specification<T> toSpecification() {
+        return (root, query, criteriaBuilder) -> {
+            if (after == null) {
+                return null;
+            }
+
+            Path<Integer> idPath = root.get(ID_FIELD);
+            Predicate idAfter = beyond(criteriaBuilder, idPath, after.id());
+            if (ID_FIELD.equals(sortBy)) {
+                return idAfter;
+            }
+
+            Path<Comparable<Object>> keyPath = root.get(sortBy);
+            if (after.value() == null) {
+                Predicate sameNullKey = criteriaBuilder.and(criteriaBuilder.isNull(keyPath), idAfter);
+                return direction.isAscending()
+                    ? sameNullKey
+                    : criteriaBuilder.or(sameNullKey, criteriaBuilder.isNotNull(keyPath));
+            }
+
+            Comparable<Object> value = convert(after.value(), keyPath.getJavaType());
+            Predicate seek = criteriaBuilder.or(
+                beyond(criteriaBuilder, keyPath, value),
+                criteriaBuilder.and(criteriaBuilder.equal(keyPath, value), idAfter)
+            );
+            return direction.isAscending()
+                ? criteriaBuilder.or(seek, criteriaBuilder.isNull(keyPath))
+                : seek;
+        };
+    }
+
+    public <T> KeysetPage<T> toPage(List<T> rows, Function<T, Integer> idExtractor) {
+        if (rows.size() <= size) {
+            return new KeysetPage<>(rows, null);
+        }
+
+        List<T> content = rows.subList(0, size);
+        T last = content.get(size - 1);
+        Object value = ID_FIELD.equals(sortBy)
+            ? null
+            : PropertyAccessorFactory.forBeanPropertyAccess(last).getPropertyValue(sortBy);
+        String nextCursor = KeysetCursor.of(sortBy, direction, value, idExtractor.apply(last)).encode();
+        return new KeysetPage<>(List.copyOf(content), nextCursor);
+    }
+
+    private <Y extends Comparable<? super Y>> Predicate beyond(CriteriaBuilder criteriaBuilder, Expression<? extends Y> path, Y value) {
+        return direction.isAscending()
+            ? criteriaBuilder.greaterThan(path, value)
+            : criteriaBuilder.lessThan(path, value);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Comparable<Object> convert(String value, Class<?> type) {
+        try {
+            if (Integer.class.equals(type)) {
+                return (Comparable<Object>) (Comparable<?>) Integer.valueOf(value);
+            }
+            if (Long.class.equals(type)) {
+                return (Comparable<Object>) (Comparable<?>) Long.valueOf(value);
+            }
+            if (Double.class.equals(type)) {
+                return (Comparable<Object>) (Comparable<?>) Double.valueOf(value);
+            }
+            if (BigDecimal.class.equals(type)) {
+                return (Comparable<Object>) (Comparable<?>) new BigDecimal(value);
+            }
+            if (String.class.equals(type)) {
+                return (Comparable<Object>) (Comparable<?>) value;
+            }
+        } catch (NumberFormatException ex) {
+            throw new BadRequestException(KeysetCursor.INVALID_CURSOR_EXCEPTION_MESSAGE);
+        }
+        throw new BadRequestException("Keyset pagination is not supported for sort field '" + sortBy + "'");
+    }
+}
@@ -0,0 +1,57 @@
+package com.project.gamereviewer.pagination;
+
+import java.util.function.LongSupplier;
+
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+
+import com.project.gamereviewer.repository.SliceSpecificationExecutor;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class PagedQueryExecutor {
+
+    private final TotalCountEstimator totalCountEstimator;
+
+    public <T> Slice<T> findAll(SliceSpecificationExecutor<T> repository, String table, Pageable pageable, TotalCountMode mode) {
+        Specification<T> all = Specification.where(null);
+        return find(repository, all, pageable, mode,
+            () -> totalCountEstimator.estimateTable(table, () -> repository.count(all)));
+    }
+
+    /** Every row of {@code table}, with {@code fetch} adding fetch joins but no restriction. */
+    public <T> Slice<T> findAll(SliceSpecificationExecutor<T> repository, String table, Specification<T> fetch,
+            Pageable pageable, TotalCountMode mode) {
+        return find(repository, fetch, pageable, mode,
+            () -> totalCountEstimator.estimateTable(table, () -> repository.count(fetch)));
+    }
+
+    public <T> Slice<T> findAll(SliceSpecificationExecutor<T> repository, Specification<T> spec, String countKey,
+            Pageable pageable, TotalCountMode mode) {
+        return find(repository, spec, pageable, mode,
+            () -> totalCountEstimator.estimate(countKey, () -> repository.count(spec)));
+    }
+
+    private <T> Slice<T> find(SliceSpecificationExecutor<T> repository, Specification<T> spec, Pageable pageable,
+            TotalCountMode mode, LongSupplier estimatedTotal) {
+        if (mode == TotalCountMode.EXACT) {
+            return repository.findAll(spec, pageable);
+        }
+
+        Slice<T> slice = repository.findSlice(spec, pageable);
+        if (mode == TotalCountMode.NONE) {
+            return slice;
+        }
+
+        long seen = pageable.getOffset() + slice.getNumberOfElements();
+        if (!slice.hasNext() && (slice.hasContent() || pageable.getOffset() == 0)) {
+            return new PageImpl<>(slice.getContent(), pageable, seen);
+        }
+        return new EstimatedPage<>(slice.getContent(), pageable, Math.max(estimatedTotal.getAsLong(), seen + 1));
+    }
+}
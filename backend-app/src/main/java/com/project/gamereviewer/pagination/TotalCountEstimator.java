@@ -0,0 +1,65 @@
+package com.project.gamereviewer.pagination;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Serves totals for {@code withTotal=estimate}: exact counts cached per filter for at most
+ * {@code ttl}, or the planner's row estimate from {@code pg_class} for unfiltered tables.
+ */
+@Component
+public class TotalCountEstimator {
+
+    private static final String PLANNER_ESTIMATE_QUERY =
+        "SELECT reltuples::bigint FROM pg_class WHERE oid = to_regclass(?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Duration ttl;
+    private final Map<String, CachedCount> cache;
+
+    public TotalCountEstimator(
+            JdbcTemplate jdbcTemplate,
+            @Value("${app.pagination.total-estimate.ttl:PT30S}") Duration ttl,
+            @Value("${app.pagination.total-estimate.max-entries:1000}") int maxEntries
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.ttl = ttl;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedCount> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    public long estimate(String key, LongSupplier exactCount) {
+        long now = System.nanoTime();
+        synchronized (cache) {
+            CachedCount cached = cache.get(key);
+            if (cached != null && now - cached.computedAt() < ttl.toNanos()) {
+                return cached.count();
+            }
+        }
+
+        long count = exactCount.getAsLong();
+        synchronized (cache) {
+            cache.put(key, new CachedCount(count, now));
+        }
+        return count;
+    }
+
+    public long estimateTable(String table, LongSupplier exactCount) {
+        return estimate(table, () -> {
+            Long reltuples = jdbcTemplate.queryForObject(PLANNER_ESTIMATE_QUERY, Long.class, table);
+            return reltuples != null && reltuples >= 0 ? reltuples : exactCount.getAsLong();
+        });
+    }
+
+    private record CachedCount(long count, long computedAt) {}
+}
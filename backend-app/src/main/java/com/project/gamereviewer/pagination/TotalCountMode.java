@@ -0,0 +1,25 @@
+package com.project.gamereviewer.pagination;
+
+import java.util.Arrays;
+
+import com.project.gamereviewer.exception.BadRequestException;
+
+public enum TotalCountMode {
+    NONE("false"),
+    EXACT("exact"),
+    ESTIMATE("estimate");
+
+    private final String parameterValue;
+
+    TotalCountMode(String parameterValue) {
+        this.parameterValue = parameterValue;
+    }
+
+    public static TotalCountMode fromParameter(String value) {
+        return Arrays.stream(values())
+            .filter(mode -> mode.parameterValue.equalsIgnoreCase(value))
+            .findFirst()
+            .orElseThrow(() -> new BadRequestException(
+                "Invalid withTotal value '" + value + "', expected one of: false, exact, estimate"));
+    }
+}
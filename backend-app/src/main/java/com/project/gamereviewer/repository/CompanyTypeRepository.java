@@ -1,14 +1,22 @@
 package com.project.gamereviewer.repository;
 
 import com.project.gamereviewer.entity.CompanyType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface CompanyTypeRepository extends JpaRepository<CompanyType, Integer> {
     
+    @Override
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
+    List<CompanyType> findAll();
+    
     Optional<CompanyType> findByName(String name);
     
     boolean existsByName(String name);
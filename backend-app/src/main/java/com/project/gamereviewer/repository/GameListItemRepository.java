@@ -0,0 +1,74 @@
+package com.project.gamereviewer.repository;
+
+import com.project.gamereviewer.entity.GameListItem;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface GameListItemRepository extends JpaRepository<GameListItem, Integer>, SliceSpecificationExecutor<GameListItem> {
+
+    @Query("""
+        SELECT g.id AS gameId, genre.name AS genreName
+        FROM Game g
+        JOIN g.genres genre
+        WHERE g.id IN :gameIds
+        ORDER BY genre.name
+        """)
+    List<GameGenreName> findGenreNamesByGameIds(@Param("gameIds") Collection<Integer> gameIds);
+
+    @Query("""
+        SELECT g.id AS id, g.title AS title, g.releaseYear AS releaseYear,
+               g.developer.id AS developerId, g.publisher.id AS publisherId,
+               g.averageRating AS averageRating, g.reviewCount AS reviewCount
+        FROM GameListItem g
+        """)
+    List<GameIndexRow> findIndexRows();
+
+    @Query("""
+        SELECT g.id AS id, g.title AS title, g.releaseYear AS releaseYear,
+               g.developer.id AS developerId, g.publisher.id AS publisherId,
+               g.averageRating AS averageRating, g.reviewCount AS reviewCount
+        FROM GameListItem g
+        WHERE g.id IN :gameIds
+        """)
+    List<GameIndexRow> findIndexRowsByIds(@Param("gameIds") Collection<Integer> gameIds);
+
+    @Query("SELECT g.id AS gameId, genre.id AS genreId FROM Game g JOIN g.genres genre")
+    List<GameGenreLink> findGenreLinks();
+
+    @Query("SELECT g.id AS gameId, genre.id AS genreId FROM Game g JOIN g.genres genre WHERE g.id IN :gameIds")
+    List<GameGenreLink> findGenreLinksByGameIds(@Param("gameIds") Collection<Integer> gameIds);
+
+    interface GameGenreName {
+        Integer getGameId();
+
+        String getGenreName();
+    }
+
+    interface GameIndexRow {
+        Integer getId();
+
+        String getTitle();
+
+        Integer getReleaseYear();
+
+        Integer getDeveloperId();
+
+        Integer getPublisherId();
+
+        Double getAverageRating();
+
+        Integer getReviewCount();
+    }
+
+    interface GameGenreLink {
+        Integer getGameId();
+
+        Integer getGenreId();
+    }
+}
@@ -0,0 +1,80 @@
+package com.project.gamereviewer.repository;
+
+import com.project.gamereviewer.entity.GameRatingStats;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface GameRatingStatsRepository extends JpaRepository<GameRatingStats, Integer> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM GameRatingStats s WHERE s.gameId = :gameId")
+    Optional<GameRatingStats> findByGameIdForUpdate(@Param("gameId") Integer gameId);
+
+    @Modifying
+    @Query(value = """
+        INSERT INTO game_rating_stats (game_id, review_count, score_sum, average_rating)
+        VALUES (:gameId, 0, 0, 0.0)
+        ON CONFLICT (game_id) DO NOTHING
+        """, nativeQuery = true)
+    void insertEmpty(@Param("gameId") Integer gameId);
+
+    @Modifying
+    @Query(value = """
+        INSERT INTO game_rating_stats (game_id, review_count, score_sum, average_rating)
+        SELECT g.id, 0, 0, 0.0
+        FROM games g
+        WHERE g.id IN (:gameIds)
+        ON CONFLICT (game_id) DO NOTHING
+        """, nativeQuery = true)
+    void insertEmpty(@Param("gameIds") Collection<Integer> gameIds);
+
+    @Query(value = """
+        SELECT g.id
+        FROM games g
+        LEFT JOIN game_rating_stats s ON s.game_id = g.id
+        LEFT JOIN (
+            SELECT r.game_id, COUNT(*) AS review_count, SUM(r.score) AS score_sum,
+                   MIN(r.score) AS min_score, MAX(r.score) AS max_score
+            FROM reviews r
+            GROUP BY r.game_id
+        ) agg ON agg.game_id = g.id
+        WHERE s.game_id IS NULL
+           OR s.review_count <> COALESCE(agg.review_count, 0)
+           OR s.score_sum <> COALESCE(agg.score_sum, 0)
+           OR s.min_score IS DISTINCT FROM agg.min_score
+           OR s.max_score IS DISTINCT FROM agg.max_score
+        """, nativeQuery = true)
+    List<Integer> findDriftedGameIds();
+
+    @Modifying
+    @Query(value = """
+        INSERT INTO game_rating_stats (game_id, review_count, score_sum, average_rating, min_score, max_score)
+        SELECT g.id,
+               COUNT(r.id),
+               COALESCE(SUM(r.score), 0),
+               COALESCE(AVG(r.score), 0.0),
+               MIN(r.score),
+               MAX(r.score)
+        FROM games g
+        LEFT JOIN reviews r ON r.game_id = g.id
+        WHERE g.id IN (:gameIds)
+        GROUP BY g.id
+        ON CONFLICT (game_id) DO UPDATE SET
+            review_count = EXCLUDED.review_count,
+            score_sum = EXCLUDED.score_sum,
+            average_rating = EXCLUDED.average_rating,
+            min_score = EXCLUDED.min_score,
+            max_score = EXCLUDED.max_score
+        """, nativeQuery = true)
+    int recalculate(@Param("gameIds") List<Integer> gameIds);
+}
@@ -3,22 +3,58 @@ package com.project.gamereviewer.repository;
 import com.project.gamereviewer.entity.Game;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface GameRepository extends JpaRepository<Game, Integer>, JpaSpecificationExecutor<Game> {
+public interface GameRepository extends JpaRepository<Game, Integer>, SliceSpecificationExecutor<Game> {
     
     Optional<Game> findByTitleAndReleaseYear(String title, Integer releaseYear);
     
     boolean existsByTitleAndReleaseYear(String title, Integer releaseYear);
 
     @EntityGraph(attributePaths = {
-        "genres",
-        "reviews",
-        "systemRequirements"
+        "developer.companyType",
+        "publisher.companyType"
     })
-    Optional<Game> findById(Integer id);
+    Optional<Game> findDetailById(Integer id);
+
+    @Query("SELECT g.title AS title, g.releaseYear AS releaseYear FROM Game g WHERE g.title IN :titles")
+    List<GameTitleYear> findTitleYearsByTitleIn(@Param("titles") Collection<String> titles);
+
+    @Query("SELECT g.version FROM Game g WHERE g.id = :id")
+    Optional<Long> findVersionById(@Param("id") Integer id);
+
+    /*
+     * A game's version covers its whole representation, so writes to rows shown inside it
+     * (reviews, requirements, rating stats, genre/company/outlet names) bump it as well.
+     */
+
+    @Modifying
+    @Query("UPDATE Game g SET g.version = g.version + 1 WHERE g.id IN :ids")
+    int incrementVersions(@Param("ids") Collection<Integer> ids);
+
+    @Modifying
+    @Query("UPDATE Game g SET g.version = g.version + 1 WHERE g.id IN (SELECT gg.id FROM Game gg JOIN gg.genres genre WHERE genre.id = :genreId)")
+    int incrementVersionsByGenreId(@Param("genreId") Integer genreId);
+
+    @Modifying
+    @Query("UPDATE Game g SET g.version = g.version + 1 WHERE g.developer.id = :companyId OR g.publisher.id = :companyId")
+    int incrementVersionsByCompanyId(@Param("companyId") Integer companyId);
+
+    @Modifying
+    @Query("UPDATE Game g SET g.version = g.version + 1 WHERE g.id IN (SELECT r.game.id FROM Review r WHERE r.mediaOutlet.id = :mediaOutletId)")
+    int incrementVersionsByMediaOutletId(@Param("mediaOutletId") Integer mediaOutletId);
+
+    interface GameTitleYear {
+        String getTitle();
+
+        Integer getReleaseYear();
+    }
 }
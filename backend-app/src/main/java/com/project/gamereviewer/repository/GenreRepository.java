@@ -1,15 +1,28 @@
 package com.project.gamereviewer.repository;
 
 import com.project.gamereviewer.entity.Genre;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface GenreRepository extends JpaRepository<Genre, Integer> {
     
+    @Override
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
+    List<Genre> findAll();
+    
     Optional<Genre> findByName(String name);
     
     boolean existsByName(String name);
+
+    @Query("SELECT genre FROM Game g JOIN g.genres genre WHERE g.id = :gameId ORDER BY genre.name")
+    List<Genre> findAllByGameId(@Param("gameId") Integer gameId);
 }
@@ -7,7 +7,7 @@ import org.springframework.stereotype.Repository;
 import java.util.Optional;
 
 @Repository
-public interface MediaOutletRepository extends JpaRepository<MediaOutlet, Integer> {
+public interface MediaOutletRepository extends JpaRepository<MediaOutlet, Integer>, SliceSpecificationExecutor<MediaOutlet> {
     
     Optional<MediaOutlet> findByName(String name);
     
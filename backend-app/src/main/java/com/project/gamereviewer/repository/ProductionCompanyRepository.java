@@ -7,7 +7,7 @@ import org.springframework.stereotype.Repository;
 import java.util.Optional;
 
 @Repository
-public interface ProductionCompanyRepository extends JpaRepository<ProductionCompany, Integer> {
+public interface ProductionCompanyRepository extends JpaRepository<ProductionCompany, Integer>, SliceSpecificationExecutor<ProductionCompany> {
     
     Optional<ProductionCompany> findByName(String name);
     
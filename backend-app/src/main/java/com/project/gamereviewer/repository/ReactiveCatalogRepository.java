@@ -0,0 +1,277 @@
+package com.project.gamereviewer.repository;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.DatabaseClient.GenericExecuteSpec;
+import org.springframework.stereotype.Repository;
+
+import com.project.gamereviewer.dto.response.CompanyTypeResponse;
+import com.project.gamereviewer.dto.response.GameDetailResponse;
+import com.project.gamereviewer.dto.response.GameListResponse;
+import com.project.gamereviewer.dto.response.GenreResponse;
+import com.project.gamereviewer.dto.response.MediaOutletResponse;
+import com.project.gamereviewer.dto.response.ProductionCompanyResponse;
+import com.project.gamereviewer.dto.response.ReviewResponse;
+import com.project.gamereviewer.dto.response.SystemRequirementResponse;
+import com.project.gamereviewer.dto.response.SystemRequirementTypeResponse;
+
+import io.r2dbc.spi.Readable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Read-only catalog queries over R2DBC. Rows are mapped straight to the response records, since the
+ * MapStruct mappers work on JPA entities. Multi-row queries fetch {@code app.reactive.fetch-size} rows
+ * per round trip as downstream demand arrives, so a slow reader holds back the query instead of
+ * buffering its result.
+ */
+@Repository
+public class ReactiveCatalogRepository {
+
+    private static final String FIND_GAMES = """
+        SELECT g.id, g.title, g.release_year,
+               d.name AS developer_name, p.name AS publisher_name,
+               ARRAY(
+                   SELECT ge.name FROM games_genres gg JOIN genres ge ON ge.id = gg.genre_id
+                   WHERE gg.game_id = g.id ORDER BY ge.name
+               ) AS genre_names,
+               COALESCE(s.average_rating, 0.0) AS average_rating
+        FROM games g
+        LEFT JOIN production_companies d ON d.id = g.developer_id
+        LEFT JOIN production_companies p ON p.id = g.publisher_id
+        LEFT JOIN game_rating_stats s ON s.game_id = g.id
+        WHERE g.id > :afterId
+        ORDER BY g.id
+        LIMIT :limit
+        """;
+
+    private static final String FIND_GAME = """
+        SELECT g.id, g.title, g.release_year, g.description,
+               d.id AS developer_id, d.name AS developer_name, d.founded_year AS developer_founded_year,
+               d.website_url AS developer_website_url, d.ceo AS developer_ceo, dt.name AS developer_company_type_name,
+               p.id AS publisher_id, p.name AS publisher_name, p.founded_year AS publisher_founded_year,
+               p.website_url AS publisher_website_url, p.ceo AS publisher_ceo, pt.name AS publisher_company_type_name,
+               COALESCE(s.review_count, 0) AS review_count,
+               COALESCE(s.average_rating, 0.0) AS average_rating
+        FROM games g
+        LEFT JOIN production_companies d ON d.id = g.developer_id
+        LEFT JOIN company_types dt ON dt.id = d.company_type_id
+        LEFT JOIN production_companies p ON p.id = g.publisher_id
+        LEFT JOIN company_types pt ON pt.id = p.company_type_id
+        LEFT JOIN game_rating_stats s ON s.game_id = g.id
+        WHERE g.id = :gameId
+        """;
+
+    private static final String EXISTS_GAME = "SELECT EXISTS (SELECT 1 FROM games WHERE id = :gameId) AS present";
+
+    private static final String FIND_GAME_GENRES = """
+        SELECT ge.id, ge.name
+        FROM games_genres gg
+        JOIN genres ge ON ge.id = gg.genre_id
+        WHERE gg.game_id = :gameId
+        ORDER BY ge.name
+        """;
+
+    private static final String FIND_GAME_SYSTEM_REQUIREMENTS = """
+        SELECT sr.id, sr.game_id, t.id AS type_id, t.name AS type_name,
+               sr.storage_gb, sr.ram_gb, sr.cpu_ghz, sr.gpu_tflops, sr.vram_gb
+        FROM system_requirements sr
+        JOIN system_requirement_types t ON t.id = sr.system_requirement_type_id
+        WHERE sr.game_id = :gameId
+        ORDER BY sr.id
+        """;
+
+    private static final String FIND_GAME_REVIEWS = """
+        SELECT r.id, r.game_id, g.title AS game_title,
+               m.id AS media_outlet_id, m.name AS media_outlet_name,
+               m.website_url AS media_outlet_website_url, m.founded_year AS media_outlet_founded_year,
+               r.score, r.summary
+        FROM reviews r
+        JOIN games g ON g.id = r.game_id
+        JOIN media_outlets m ON m.id = r.media_outlet_id
+        WHERE r.game_id = :gameId
+        ORDER BY r.score DESC, r.id
+        LIMIT :limit
+        """;
+
+    private static final String FIND_GENRES = "SELECT id, name FROM genres ORDER BY id";
+
+    private static final String FIND_COMPANY_TYPES = "SELECT id, name FROM company_types ORDER BY id";
+
+    private static final String FIND_SYSTEM_REQUIREMENT_TYPES = "SELECT id, name FROM system_requirement_types ORDER BY id";
+
+    private static final String FIND_MEDIA_OUTLETS = "SELECT id, name, website_url, founded_year FROM media_outlets ORDER BY id";
+
+    private static final String FIND_PRODUCTION_COMPANIES = """
+        SELECT c.id, c.name, c.founded_year, c.website_url, c.ceo, t.name AS company_type_name
+        FROM production_companies c
+        LEFT JOIN company_types t ON t.id = c.company_type_id
+        ORDER BY c.id
+        """;
+
+    private final DatabaseClient databaseClient;
+    private final int fetchSize;
+
+    public ReactiveCatalogRepository(
+            @Qualifier("reactiveDatabaseClient") DatabaseClient databaseClient,
+            @Value("${app.reactive.fetch-size:256}") int fetchSize
+    ) {
+        this.databaseClient = databaseClient;
+        this.fetchSize = fetchSize;
+    }
+
+    /**
+     * Games in id order after {@code afterId}; all of them when {@code limit} is null.
+     */
+    public Flux<GameListResponse> findGames(int afterId, Integer limit) {
+        GenericExecuteSpec spec = databaseClient.sql(FIND_GAMES).bind("afterId", afterId);
+        return fetch(bindLimit(spec, limit), row -> new GameListResponse(
+            row.get("id", Integer.class),
+            row.get("title", String.class),
+            row.get("release_year", Integer.class),
+            row.get("developer_name", String.class),
+            row.get("publisher_name", String.class),
+            List.of(row.get("genre_names", String[].class)),
+            row.get("average_rating", Double.class)
+        ));
+    }
+
+    /**
+     * A game detail without its collections, which are left empty for the caller to fill in.
+     */
+    public Mono<GameDetailResponse> findGame(Integer gameId) {
+        return databaseClient.sql(FIND_GAME)
+            .bind("gameId", gameId)
+            .map(row -> new GameDetailResponse(
+                row.get("id", Integer.class),
+                row.get("title", String.class),
+                row.get("release_year", Integer.class),
+                row.get("description", String.class),
+                toCompany(row, "developer_"),
+                toCompany(row, "publisher_"),
+                List.of(),
+                List.of(),
+                List.of(),
+                row.get("review_count", Integer.class),
+                null,
+                row.get("average_rating", Double.class)
+            ))
+            .one();
+    }
+
+    public Mono<Boolean> existsGame(Integer gameId) {
+        return databaseClient.sql(EXISTS_GAME)
+            .bind("gameId", gameId)
+            .map(row -> row.get("present", Boolean.class))
+            .one();
+    }
+
+    public Flux<GenreResponse> findGenresByGameId(Integer gameId) {
+        return databaseClient.sql(FIND_GAME_GENRES)
+            .bind("gameId", gameId)
+            .map(ReactiveCatalogRepository::toGenre)
+            .all();
+    }
+
+    public Flux<SystemRequirementResponse> findSystemRequirementsByGameId(Integer gameId) {
+        return databaseClient.sql(FIND_GAME_SYSTEM_REQUIREMENTS)
+            .bind("gameId", gameId)
+            .map(row -> new SystemRequirementResponse(
+                row.get("id", Integer.class),
+                row.get("game_id", Integer.class),
+                new SystemRequirementTypeResponse(row.get("type_id", Integer.class), row.get("type_name", String.class)),
+                row.get("storage_gb", Integer.class),
+                row.get("ram_gb", Integer.class),
+                row.get("cpu_ghz", BigDecimal.class),
+                row.get("gpu_tflops", BigDecimal.class),
+                row.get("vram_gb", Integer.class)
+            ))
+            .all();
+    }
+
+    /**
+     * Reviews of a game by score, best first; all of them when {@code limit} is null.
+     */
+    public Flux<ReviewResponse> findReviewsByGameId(Integer gameId, Integer limit) {
+        GenericExecuteSpec spec = databaseClient.sql(FIND_GAME_REVIEWS).bind("gameId", gameId);
+        return fetch(bindLimit(spec, limit), row -> new ReviewResponse(
+            row.get("id", Integer.class),
+            row.get("game_id", Integer.class),
+            row.get("game_title", String.class),
+            new MediaOutletResponse(
+                row.get("media_outlet_id", Integer.class),
+                row.get("media_outlet_name", String.class),
+                row.get("media_outlet_website_url", String.class),
+                row.get("media_outlet_founded_year", Integer.class)
+            ),
+            row.get("score", Integer.class),
+            row.get("summary", String.class)
+        ));
+    }
+
+    public Flux<GenreResponse> findGenres() {
+        return fetch(databaseClient.sql(FIND_GENRES), ReactiveCatalogRepository::toGenre);
+    }
+
+    public Flux<CompanyTypeResponse> findCompanyTypes() {
+        return fetch(databaseClient.sql(FIND_COMPANY_TYPES), row -> new CompanyTypeResponse(
+            row.get("id", Integer.class),
+            row.get("name", String.class)
+        ));
+    }
+
+    public Flux<SystemRequirementTypeResponse> findSystemRequirementTypes() {
+        return fetch(databaseClient.sql(FIND_SYSTEM_REQUIREMENT_TYPES), row -> new SystemRequirementTypeResponse(
+            row.get("id", Integer.class),
+            row.get("name", String.class)
+        ));
+    }
+
+    public Flux<MediaOutletResponse> findMediaOutlets() {
+        return fetch(databaseClient.sql(FIND_MEDIA_OUTLETS), row -> new MediaOutletResponse(
+            row.get("id", Integer.class),
+            row.get("name", String.class),
+            row.get("website_url", String.class),
+            row.get("founded_year", Integer.class)
+        ));
+    }
+
+    public Flux<ProductionCompanyResponse> findProductionCompanies() {
+        return fetch(databaseClient.sql(FIND_PRODUCTION_COMPANIES), row -> toCompany(row, ""));
+    }
+
+    private <T> Flux<T> fetch(GenericExecuteSpec spec, Function<Readable, T> mapper) {
+        return spec.filter(statement -> statement.fetchSize(fetchSize))
+            .map(mapper)
+            .all();
+    }
+
+    private static GenericExecuteSpec bindLimit(GenericExecuteSpec spec, Integer limit) {
+        // LIMIT NULL is no limit
+        return limit != null ? spec.bind("limit", limit) : spec.bindNull("limit", Integer.class);
+    }
+
+    private static GenreResponse toGenre(Readable row) {
+        return new GenreResponse(row.get("id", Integer.class), row.get("name", String.class));
+    }
+
+    private static ProductionCompanyResponse toCompany(Readable row, String prefix) {
+        Integer id = row.get(prefix + "id", Integer.class);
+        if (id == null) {
+            return null;
+        }
+        return new ProductionCompanyResponse(
+            id,
+            row.get(prefix + "name", String.class),
+            row.get(prefix + "founded_year", Integer.class),
+            row.get(prefix + "website_url", String.class),
+            row.get(prefix + "ceo", String.class),
+            row.get(prefix + "company_type_name", String.class)
+        );
+    }
+}
@@ -1,21 +1,28 @@
 package com.project.gamereviewer.repository;
 
 import com.project.gamereviewer.entity.Review;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface ReviewRepository extends JpaRepository<Review, Integer> {
+public interface ReviewRepository extends JpaRepository<Review, Integer>, SliceSpecificationExecutor<Review> {
     
     List<Review> findByGameId(Integer gameId);
     
     Page<Review> findByGameId(Integer gameId, Pageable pageable);
     
+    @EntityGraph(attributePaths = "mediaOutlet")
+    List<Review> findByGameIdOrderByScoreDescIdAsc(Integer gameId, Limit limit);
+    
     Optional<Review> findByGameIdAndMediaOutletId(Integer gameId, Integer mediaOutletId);
     
     boolean existsByGameIdAndMediaOutletId(Integer gameId, Integer mediaOutletId);
@@ -23,4 +30,13 @@ public interface ReviewRepository extends JpaRepository<Review, Integer> {
     boolean existsByGameIdAndMediaOutletIdAndIdNot(Integer gameId, Integer mediaOutletId, Integer id);
     
     void deleteByGameId(Integer gameId);
+
+    @Query("SELECT DISTINCT r.game.id FROM Review r WHERE r.mediaOutlet.id = :mediaOutletId")
+    List<Integer> findGameIdsByMediaOutletId(@Param("mediaOutletId") Integer mediaOutletId);
+
+    @Query("SELECT MIN(r.score) FROM Review r WHERE r.game.id = :gameId")
+    Integer findMinScoreByGameId(@Param("gameId") Integer gameId);
+
+    @Query("SELECT MAX(r.score) FROM Review r WHERE r.game.id = :gameId")
+    Integer findMaxScoreByGameId(@Param("gameId") Integer gameId);
 }
@@ -0,0 +1,178 @@
+package com.project.gamereviewer.repository;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.project.gamereviewer.dto.request.ReviewCreateRequest;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Bulk review loading through a per-transaction temporary table: rows are streamed in with
+ * {@code COPY ... FROM STDIN} and merged into {@code reviews} with one set-based statement.
+ * Every method must run inside the transaction that created the staging table.
+ */
+@Repository
+@RequiredArgsConstructor
+@Transactional(propagation = Propagation.MANDATORY)
+public class ReviewStagingRepository {
+
+    private static final int COPY_BUFFER_CHARS = 64 * 1024;
+
+    private static final String CREATE_STAGING_TABLE = """
+        CREATE TEMPORARY TABLE review_staging (
+            record BIGINT NOT NULL,
+            game_id INT NOT NULL,
+            media_outlet_id INT NOT NULL,
+            score INT NOT NULL,
+            summary TEXT
+        ) ON COMMIT DROP
+        """;
+
+    private static final String COPY_STAGING = """
+        COPY review_staging (record, game_id, media_outlet_id, score, summary) FROM STDIN WITH (FORMAT csv)
+        """;
+
+    private static final String FIND_REJECTED = """
+        SELECT record, game_id, media_outlet_id, reason
+        FROM (
+            SELECT s.record, s.game_id, s.media_outlet_id,
+                   CASE
+                       WHEN g.id IS NULL THEN 'GAME_NOT_FOUND'
+                       WHEN m.id IS NULL THEN 'MEDIA_OUTLET_NOT_FOUND'
+                       WHEN s.record <> MAX(s.record) OVER (PARTITION BY s.game_id, s.media_outlet_id) THEN 'SUPERSEDED'
+                   END AS reason
+            FROM review_staging s
+            LEFT JOIN games g ON g.id = s.game_id
+            LEFT JOIN media_outlets m ON m.id = s.media_outlet_id
+        ) staged
+        WHERE reason IS NOT NULL
+        ORDER BY record
+        """;
+
+    private static final String MERGE_STAGING = """
+        INSERT INTO reviews (game_id, media_outlet_id, score, summary)
+        SELECT DISTINCT ON (s.game_id, s.media_outlet_id) s.game_id, s.media_outlet_id, s.score, s.summary
+        FROM review_staging s
+        JOIN games g ON g.id = s.game_id
+        JOIN media_outlets m ON m.id = s.media_outlet_id
+        ORDER BY s.game_id, s.media_outlet_id, s.record DESC
+        ON CONFLICT ON CONSTRAINT uq_review_game_outlet DO UPDATE SET
+            score = EXCLUDED.score,
+            summary = EXCLUDED.summary
+        WHERE (reviews.score, reviews.summary) IS DISTINCT FROM (EXCLUDED.score, EXCLUDED.summary)
+        RETURNING game_id, (xmax = 0) AS inserted
+        """;
+
+    public enum RejectionReason {
+        GAME_NOT_FOUND,
+        MEDIA_OUTLET_NOT_FOUND,
+        SUPERSEDED
+    }
+
+    public record StagedReview(
+        long record,
+        ReviewCreateRequest request
+    ) {}
+
+    public record RejectedReview(
+        long record,
+        Integer gameId,
+        Integer mediaOutletId,
+        RejectionReason reason
+    ) {}
+
+    public record MergedReview(
+        Integer gameId,
+        boolean inserted
+    ) {}
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void createStagingTable() {
+        jdbcTemplate.execute(CREATE_STAGING_TABLE);
+    }
+
+    /**
+     * Streams the rows into the staging table as a single COPY, buffering at most
+     * {@value #COPY_BUFFER_CHARS} characters at a time.
+     *
+     * @return number of rows copied
+     */
+    public long copy(Iterator<StagedReview> rows) {
+        return jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+            CopyIn copyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(COPY_STAGING);
+            try {
+                StringBuilder buffer = new StringBuilder(COPY_BUFFER_CHARS + 1024);
+                while (rows.hasNext()) {
+                    appendCsv(buffer, rows.next());
+                    if (buffer.length() >= COPY_BUFFER_CHARS) {
+                        write(copyIn, buffer);
+                    }
+                }
+                write(copyIn, buffer);
+                return copyIn.endCopy();
+            } finally {
+                if (copyIn.isActive()) {
+                    copyIn.cancelCopy();
+                }
+            }
+        });
+    }
+
+    public void analyze() {
+        jdbcTemplate.execute("ANALYZE review_staging");
+    }
+
+    public void findRejected(Consumer<RejectedReview> consumer) {
+        jdbcTemplate.query(FIND_REJECTED, resultSet -> {
+            consumer.accept(new RejectedReview(
+                resultSet.getLong("record"),
+                resultSet.getInt("game_id"),
+                resultSet.getInt("media_outlet_id"),
+                RejectionReason.valueOf(resultSet.getString("reason"))
+            ));
+        });
+    }
+
+    /**
+     * Upserts the last staged row of every (game, media outlet) pair whose game and outlet exist.
+     * Rows identical to the stored review are skipped and not returned.
+     */
+    public List<MergedReview> merge() {
+        return jdbcTemplate.query(MERGE_STAGING, (resultSet, rowNum) ->
+            new MergedReview(resultSet.getInt("game_id"), resultSet.getBoolean("inserted")));
+    }
+
+    private static void write(CopyIn copyIn, StringBuilder buffer) throws SQLException {
+        if (buffer.isEmpty()) {
+            return;
+        }
+        byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+        copyIn.writeToCopy(bytes, 0, bytes.length);
+        buffer.setLength(0);
+    }
+
+    private static void appendCsv(StringBuilder buffer, StagedReview row) {
+        ReviewCreateRequest request = row.request();
+        buffer.append(row.record()).append(',')
+            .append(request.gameId()).append(',')
+            .append(request.mediaOutletId()).append(',')
+            .append(request.score()).append(',');
+        if (request.summary() != null) {
+            buffer.append('"').append(request.summary().replace("\"", "\"\"")).append('"');
+        }
+        buffer.append('\n');
+    }
+}
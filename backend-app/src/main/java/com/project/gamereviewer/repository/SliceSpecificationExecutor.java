@@ -0,0 +1,23 @@
+package com.project.gamereviewer.repository;
+
+import java.util.stream.Stream;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.repository.NoRepositoryBean;
+
+@NoRepositoryBean
+public interface SliceSpecificationExecutor<T> extends JpaSpecificationExecutor<T> {
+
+    Slice<T> findSlice(Specification<T> spec, Pageable pageable);
+
+    /**
+     * Streams the matching rows through a server-side cursor that fetches {@code fetchSize} rows per
+     * round trip. Must be consumed and closed inside a transaction; loaded entities stay managed
+     * until the caller detaches or clears them.
+     */
+    Stream<T> stream(Specification<T> spec, Sort sort, int fetchSize);
+}
@@ -3,6 +3,7 @@ package com.project.gamereviewer.repository;
 import com.project.gamereviewer.entity.SystemRequirement;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -10,12 +11,15 @@ import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface SystemRequirementRepository extends JpaRepository<SystemRequirement, Integer> {
+public interface SystemRequirementRepository extends JpaRepository<SystemRequirement, Integer>, SliceSpecificationExecutor<SystemRequirement> {
     
     List<SystemRequirement> findByGameId(Integer gameId);
     
     Page<SystemRequirement> findByGameId(Integer gameId, Pageable pageable);
     
+    @EntityGraph(attributePaths = "systemRequirementType")
+    List<SystemRequirement> findWithTypeByGameIdOrderById(Integer gameId);
+    
     Optional<SystemRequirement> findByGameIdAndSystemRequirementTypeId(Integer gameId, Integer typeId);
     
     boolean existsByGameIdAndSystemRequirementTypeId(Integer gameId, Integer typeId);
@@ -1,13 +1,21 @@
 package com.project.gamereviewer.repository;
 
 import com.project.gamereviewer.entity.SystemRequirementType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface SystemRequirementTypeRepository extends JpaRepository<SystemRequirementType, Integer> {
     
+    @Override
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
+    List<SystemRequirementType> findAll();
+    
     Optional<SystemRequirementType> findByName(String name);
 }
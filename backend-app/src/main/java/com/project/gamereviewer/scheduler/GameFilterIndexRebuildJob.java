@@ -0,0 +1,31 @@
+package com.project.gamereviewer.scheduler;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.project.gamereviewer.search.GameFilterIndex;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.game-index.enabled", havingValue = "true", matchIfMissing = true)
+public class GameFilterIndexRebuildJob {
+
+    private final GameFilterIndex gameFilterIndex;
+
+    @Scheduled(
+        initialDelayString = "${app.game-index.initial-delay:PT0S}",
+        fixedDelayString = "${app.game-index.rebuild-interval:PT10M}"
+    )
+    public void rebuild() {
+        try {
+            gameFilterIndex.rebuild();
+        } catch (RuntimeException ex) {
+            log.error("Game filter index rebuild failed; filters keep using the previous index or the database", ex);
+        }
+    }
+}
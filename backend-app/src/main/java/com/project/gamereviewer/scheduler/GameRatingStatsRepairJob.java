@@ -0,0 +1,32 @@
+package com.project.gamereviewer.scheduler;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.project.gamereviewer.service.GameRatingStatsService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.rating-stats.repair.enabled", havingValue = "true", matchIfMissing = true)
+public class GameRatingStatsRepairJob {
+
+    private final GameRatingStatsService gameRatingStatsService;
+
+    @Scheduled(
+        initialDelayString = "${app.rating-stats.repair.initial-delay:PT1M}",
+        fixedDelayString = "${app.rating-stats.repair.fixed-delay:PT1H}"
+    )
+    public void repairDrift() {
+        int repaired = gameRatingStatsService.repairDrift();
+        if (repaired > 0) {
+            log.warn("Repaired rating stats drift for {} game(s)", repaired);
+        } else {
+            log.debug("Rating stats are consistent with reviews");
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.project.gamereviewer.scheduler;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.project.gamereviewer.datasource.ReadReplicas;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.datasource.read-replicas.enabled", havingValue = "true")
+public class ReadReplicaLagCheckJob {
+
+    private final ReadReplicas readReplicas;
+
+    /** Replicas stay out of rotation until their first check. */
+    @Scheduled(fixedDelayString = "${app.datasource.read-replicas.lag-check-interval:PT5S}")
+    public void checkLag() {
+        readReplicas.checkLag();
+    }
+}
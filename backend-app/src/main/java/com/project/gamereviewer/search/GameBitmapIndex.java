@@ -0,0 +1,319 @@
+package com.project.gamereviewer.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.data.domain.Sort;
+
+import com.project.gamereviewer.dto.filter.GameFilterDto;
+
+/**
+ * Bitmap postings for the game filter dimensions. Not thread-safe; {@link GameFilterIndex} guards access.
+ * Ratings are bucketed by whole points; only the boundary buckets of a range are checked per document.
+ */
+class GameBitmapIndex {
+
+    static final String ID_FIELD = "id";
+    static final String TITLE_FIELD = "title";
+    static final String RELEASE_YEAR_FIELD = "releaseYear";
+    static final String AVERAGE_RATING_FIELD = "averageRating";
+
+    private enum Dimension { GENRE, DEVELOPER, PUBLISHER, RELEASE_YEAR, RATING, TITLE }
+
+    private final Map<Integer, GameIndexDocument> documents = new HashMap<>();
+    private final RoaringBitmap all = new RoaringBitmap();
+    private final Map<Integer, RoaringBitmap> byGenre = new HashMap<>();
+    private final Map<Integer, RoaringBitmap> byDeveloper = new HashMap<>();
+    private final Map<Integer, RoaringBitmap> byPublisher = new HashMap<>();
+    private final NavigableMap<Integer, RoaringBitmap> byReleaseYear = new TreeMap<>();
+    private final NavigableMap<Integer, RoaringBitmap> byRatingBucket = new TreeMap<>();
+
+    static boolean supportsSort(Sort sort) {
+        if (sort.isUnsorted()) {
+            return true;
+        }
+        List<Sort.Order> orders = sort.toList();
+        return orders.size() == 1 && comparatorKey(orders.get(0).getProperty()) != null;
+    }
+
+    int size() {
+        return documents.size();
+    }
+
+    void put(GameIndexDocument document) {
+        remove(document.id());
+
+        int id = document.id();
+        documents.put(id, document);
+        all.add(id);
+        document.genreIds().forEach(genreId -> posting(byGenre, genreId).add(id));
+        if (document.developerId() != null) {
+            posting(byDeveloper, document.developerId()).add(id);
+        }
+        if (document.publisherId() != null) {
+            posting(byPublisher, document.publisherId()).add(id);
+        }
+        if (document.releaseYear() != null) {
+            posting(byReleaseYear, document.releaseYear()).add(id);
+        }
+        if (document.isRated()) {
+            posting(byRatingBucket, ratingBucket(document.averageRating())).add(id);
+        }
+    }
+
+    void remove(int id) {
+        GameIndexDocument document = documents.remove(id);
+        if (document == null) {
+            return;
+        }
+
+        all.remove(id);
+        document.genreIds().forEach(genreId -> unpost(byGenre, genreId, id));
+        unpost(byDeveloper, document.developerId(), id);
+        unpost(byPublisher, document.publisherId(), id);
+        unpost(byReleaseYear, document.releaseYear(), id);
+        if (document.isRated()) {
+            unpost(byRatingBucket, ratingBucket(document.averageRating()), id);
+        }
+    }
+
+    void removeGenre(int genreId) {
+        RoaringBitmap games = byGenre.remove(genreId);
+        if (games == null) {
+            return;
+        }
+        games.forEach((int id) -> {
+            GameIndexDocument document = documents.get(id);
+            documents.put(id, withoutGenre(document, genreId));
+        });
+    }
+
+    void removeCompany(int companyId) {
+        RoaringBitmap developed = byDeveloper.remove(companyId);
+        RoaringBitmap published = byPublisher.remove(companyId);
+        RoaringBitmap games = RoaringBitmap.or(
+            developed != null ? developed : new RoaringBitmap(),
+            published != null ? published : new RoaringBitmap()
+        );
+        games.forEach((int id) -> {
+            GameIndexDocument document = documents.get(id);
+            documents.put(id, withoutCompany(document, companyId));
+        });
+    }
+
+    RoaringBitmap match(GameFilterDto filter) {
+        return matchExcept(constraints(filter), null);
+    }
+
+    /**
+     * Genre counts are drill-downs within the current result (genres combine with AND); every other
+     * facet ignores its own constraint so the counts show what picking a different value would return.
+     */
+    GameFacets facets(GameFilterDto filter) {
+        Map<Dimension, RoaringBitmap> constraints = constraints(filter);
+        RoaringBitmap matches = matchExcept(constraints, null);
+        return new GameFacets(
+            matches.getCardinality(),
+            counts(byGenre, matches),
+            counts(byReleaseYear, matchExcept(constraints, Dimension.RELEASE_YEAR)),
+            counts(byDeveloper, matchExcept(constraints, Dimension.DEVELOPER)),
+            counts(byPublisher, matchExcept(constraints, Dimension.PUBLISHER)),
+            counts(byRatingBucket, matchExcept(constraints, Dimension.RATING))
+        );
+    }
+
+    private Map<Dimension, RoaringBitmap> constraints(GameFilterDto filter) {
+        Map<Dimension, RoaringBitmap> constraints = new EnumMap<>(Dimension.class);
+
+        if (filter.genreIds() != null && !filter.genreIds().isEmpty()) {
+            RoaringBitmap genres = all.clone();
+            for (Integer genreId : filter.genreIds()) {
+                genres.and(byGenre.getOrDefault(genreId, new RoaringBitmap()));
+            }
+            constraints.put(Dimension.GENRE, genres);
+        }
+        if (filter.developerId() != null) {
+            constraints.put(Dimension.DEVELOPER, byDeveloper.getOrDefault(filter.developerId(), new RoaringBitmap()));
+        }
+        if (filter.publisherId() != null) {
+            constraints.put(Dimension.PUBLISHER, byPublisher.getOrDefault(filter.publisherId(), new RoaringBitmap()));
+        }
+        if (filter.yearFrom() != null || filter.yearTo() != null) {
+            constraints.put(Dimension.RELEASE_YEAR, releaseYearRange(filter.yearFrom(), filter.yearTo()));
+        }
+        if (filter.ratingFrom() != null || filter.ratingTo() != null) {
+            constraints.put(Dimension.RATING, ratingRange(filter.ratingFrom(), filter.ratingTo()));
+        }
+        if (filter.title() != null && !filter.title().isBlank()) {
+            String needle = filter.title().toLowerCase();
+            RoaringBitmap titled = new RoaringBitmap();
+            documents.values().forEach(document -> {
+                if (document.title().toLowerCase().contains(needle)) {
+                    titled.add(document.id());
+                }
+            });
+            constraints.put(Dimension.TITLE, titled);
+        }
+        return constraints;
+    }
+
+    private RoaringBitmap matchExcept(Map<Dimension, RoaringBitmap> constraints, Dimension excluded) {
+        RoaringBitmap result = all.clone();
+        constraints.forEach((dimension, bitmap) -> {
+            if (dimension != excluded) {
+                result.and(bitmap);
+            }
+        });
+        return result;
+    }
+
+    private static Map<Integer, Integer> counts(Map<Integer, RoaringBitmap> postings, RoaringBitmap scope) {
+        Map<Integer, Integer> counts = new HashMap<>();
+        postings.forEach((value, bitmap) -> {
+            int count = RoaringBitmap.andCardinality(bitmap, scope);
+            if (count > 0) {
+                counts.put(value, count);
+            }
+        });
+        return counts;
+    }
+
+    List<Integer> page(RoaringBitmap matches, Sort sort, long offset, int size) {
+        int total = matches.getCardinality();
+        List<Integer> ids = new ArrayList<>(size);
+        if (offset >= total) {
+            return ids;
+        }
+
+        int from = (int) offset;
+        int to = Math.min(total, from + size);
+        Sort.Order order = sort.isUnsorted() ? Sort.Order.asc(ID_FIELD) : sort.toList().get(0);
+
+        if (ID_FIELD.equals(order.getProperty())) {
+            for (int position = from; position < to; position++) {
+                ids.add(matches.select(order.isAscending() ? position : total - 1 - position));
+            }
+            return ids;
+        }
+
+        List<GameIndexDocument> candidates = new ArrayList<>(total);
+        matches.forEach((int id) -> candidates.add(documents.get(id)));
+        candidates.sort(comparator(order));
+        candidates.subList(from, to).forEach(document -> ids.add(document.id()));
+        return ids;
+    }
+
+    private RoaringBitmap releaseYearRange(Integer from, Integer to) {
+        int low = from != null ? from : Integer.MIN_VALUE;
+        int high = to != null ? to : Integer.MAX_VALUE;
+        if (low > high) {
+            return new RoaringBitmap();
+        }
+        return RoaringBitmap.or(byReleaseYear.subMap(low, true, high, true).values().iterator());
+    }
+
+    private RoaringBitmap ratingRange(Double from, Double to) {
+        double low = from != null ? from : Double.NEGATIVE_INFINITY;
+        double high = to != null ? to : Double.POSITIVE_INFINITY;
+        if (low > high || byRatingBucket.isEmpty()) {
+            return new RoaringBitmap();
+        }
+
+        int lowBucket = Math.max(ratingBucket(low), byRatingBucket.firstKey());
+        int highBucket = Math.min(ratingBucket(high), byRatingBucket.lastKey());
+        if (lowBucket > highBucket) {
+            return new RoaringBitmap();
+        }
+
+        RoaringBitmap result = RoaringBitmap.or(byRatingBucket.subMap(lowBucket, true, highBucket, true).values().iterator());
+        for (int boundary : new int[] {lowBucket, highBucket}) {
+            RoaringBitmap bucket = byRatingBucket.get(boundary);
+            if (bucket == null) {
+                continue;
+            }
+            bucket.forEach((int id) -> {
+                double rating = documents.get(id).averageRating();
+                if (rating < low || rating > high) {
+                    result.remove(id);
+                }
+            });
+        }
+        return result;
+    }
+
+    private static Comparator<GameIndexDocument> comparator(Sort.Order order) {
+        Function<GameIndexDocument, Comparable<Object>> key = comparatorKey(order.getProperty());
+        Comparator<Comparable<Object>> values = order.isAscending()
+            ? Comparator.nullsLast(Comparator.naturalOrder())
+            : Comparator.nullsFirst(Comparator.<Comparable<Object>>naturalOrder().reversed());
+        Comparator<GameIndexDocument> ids = Comparator.comparingInt(GameIndexDocument::id);
+        return Comparator.comparing(key, values).thenComparing(order.isAscending() ? ids : ids.reversed());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Function<GameIndexDocument, Comparable<Object>> comparatorKey(String property) {
+        return switch (property) {
+            case ID_FIELD -> document -> (Comparable<Object>) (Comparable<?>) document.id();
+            case TITLE_FIELD -> document -> (Comparable<Object>) (Comparable<?>) document.title();
+            case RELEASE_YEAR_FIELD -> document -> (Comparable<Object>) (Comparable<?>) document.releaseYear();
+            case AVERAGE_RATING_FIELD -> document -> (Comparable<Object>) (Comparable<?>) document.averageRating();
+            default -> null;
+        };
+    }
+
+    private static int ratingBucket(double rating) {
+        return (int) Math.floor(rating);
+    }
+
+    private static RoaringBitmap posting(Map<Integer, RoaringBitmap> postings, Integer key) {
+        return postings.computeIfAbsent(key, ignored -> new RoaringBitmap());
+    }
+
+    private static void unpost(Map<Integer, RoaringBitmap> postings, Integer key, int id) {
+        if (key == null) {
+            return;
+        }
+        RoaringBitmap bitmap = postings.get(key);
+        if (bitmap != null) {
+            bitmap.remove(id);
+            if (bitmap.isEmpty()) {
+                postings.remove(key);
+            }
+        }
+    }
+
+    private static GameIndexDocument withoutGenre(GameIndexDocument document, int genreId) {
+        return new GameIndexDocument(
+            document.id(),
+            document.title(),
+            document.releaseYear(),
+            document.developerId(),
+            document.publisherId(),
+            document.averageRating(),
+            document.reviewCount(),
+            document.genreIds().stream().filter(id -> id != genreId).collect(Collectors.toUnmodifiableSet())
+        );
+    }
+
+    private static GameIndexDocument withoutCompany(GameIndexDocument document, int companyId) {
+        return new GameIndexDocument(
+            document.id(),
+            document.title(),
+            document.releaseYear(),
+            Integer.valueOf(companyId).equals(document.developerId()) ? null : document.developerId(),
+            Integer.valueOf(companyId).equals(document.publisherId()) ? null : document.publisherId(),
+            document.averageRating(),
+            document.reviewCount(),
+            document.genreIds()
+        );
+    }
+}
@@ -0,0 +1,15 @@
+package com.project.gamereviewer.search;
+
+import java.util.Map;
+
+/**
+ * Facet counts keyed by genre id, release year, company id and whole-point rating bucket.
+ */
+public record GameFacets(
+    int total,
+    Map<Integer, Integer> genres,
+    Map<Integer, Integer> releaseYears,
+    Map<Integer, Integer> developers,
+    Map<Integer, Integer> publishers,
+    Map<Integer, Integer> ratingBuckets
+) {}
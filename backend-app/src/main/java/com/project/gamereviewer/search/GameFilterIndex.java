@@ -0,0 +1,235 @@
+package com.project.gamereviewer.search;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.project.gamereviewer.dto.filter.GameFilterDto;
+import com.project.gamereviewer.event.GameChangedEvent;
+import com.project.gamereviewer.event.GenreDeletedEvent;
+import com.project.gamereviewer.event.ProductionCompanyDeletedEvent;
+import com.project.gamereviewer.repository.GameListItemRepository;
+import com.project.gamereviewer.repository.GameListItemRepository.GameGenreLink;
+import com.project.gamereviewer.repository.GameListItemRepository.GameIndexRow;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * In-process bitmap index over the game filter dimensions. Rebuilt from the database periodically
+ * and patched after each committed game, review, genre or company write; its age is the time since
+ * the last full rebuild.
+ */
+@Slf4j
+@Component
+public class GameFilterIndex {
+
+    private final GameListItemRepository gameListItemRepository;
+    private final boolean enabled;
+    private final boolean useByDefault;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private GameBitmapIndex index;
+    private Instant builtAt;
+    private Set<Integer> changedDuringRebuild;
+
+    public GameFilterIndex(
+            GameListItemRepository gameListItemRepository,
+            @Value("${app.game-index.enabled:true}") boolean enabled,
+            @Value("${app.game-index.use-by-default:false}") boolean useByDefault
+    ) {
+        this.gameListItemRepository = gameListItemRepository;
+        this.enabled = enabled;
+        this.useByDefault = useByDefault;
+    }
+
+    public record Hits(
+        List<Integer> ids,
+        long total,
+        Duration age
+    ) {}
+
+    public record Facets(
+        GameFacets counts,
+        Duration age
+    ) {}
+
+    public boolean shouldUse(Boolean requested) {
+        return enabled && (requested != null ? requested : useByDefault);
+    }
+
+    public Optional<Hits> search(GameFilterDto filter, Pageable pageable) {
+        if (!GameBitmapIndex.supportsSort(pageable.getSort())) {
+            return Optional.empty();
+        }
+
+        lock.readLock().lock();
+        try {
+            if (index == null) {
+                return Optional.empty();
+            }
+
+            RoaringBitmap matches = index.match(filter);
+            List<Integer> ids = pageable.isPaged()
+                ? index.page(matches, pageable.getSort(), pageable.getOffset(), pageable.getPageSize())
+                : index.page(matches, pageable.getSort(), 0, matches.getCardinality());
+            return Optional.of(new Hits(ids, matches.getCardinality(), Duration.between(builtAt, Instant.now())));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Optional<Facets> facets(GameFilterDto filter) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+
+        lock.readLock().lock();
+        try {
+            if (index == null) {
+                return Optional.empty();
+            }
+            return Optional.of(new Facets(index.facets(filter), Duration.between(builtAt, Instant.now())));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+
+        Instant startedAt = Instant.now();
+        lock.writeLock().lock();
+        try {
+            changedDuringRebuild = new HashSet<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        GameBitmapIndex fresh = new GameBitmapIndex();
+        Set<Integer> changed;
+        try {
+            load(gameListItemRepository.findIndexRows(), gameListItemRepository.findGenreLinks()).forEach(fresh::put);
+        } finally {
+            lock.writeLock().lock();
+            try {
+                changed = changedDuringRebuild;
+                changedDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        lock.writeLock().lock();
+        try {
+            index = fresh;
+            builtAt = startedAt;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        refresh(changed);
+        log.info("Rebuilt game filter index with {} game(s) in {} ms",
+            fresh.size(), Duration.between(startedAt, Instant.now()).toMillis());
+    }
+
+    @TransactionalEventListener
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onGameChanged(GameChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            refresh(event.gameIds());
+        } catch (RuntimeException ex) {
+            log.warn("Could not refresh game filter index for games {}; it will catch up on the next rebuild",
+                event.gameIds(), ex);
+        }
+    }
+
+    @TransactionalEventListener
+    public void onGenreDeleted(GenreDeletedEvent event) {
+        write(index -> index.removeGenre(event.genreId()));
+    }
+
+    @TransactionalEventListener
+    public void onProductionCompanyDeleted(ProductionCompanyDeletedEvent event) {
+        write(index -> index.removeCompany(event.companyId()));
+    }
+
+    private void refresh(Collection<Integer> gameIds) {
+        if (gameIds.isEmpty()) {
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            if (changedDuringRebuild != null) {
+                changedDuringRebuild.addAll(gameIds);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        List<GameIndexDocument> documents = load(
+            gameListItemRepository.findIndexRowsByIds(gameIds),
+            gameListItemRepository.findGenreLinksByGameIds(gameIds)
+        );
+        write(index -> {
+            gameIds.forEach(index::remove);
+            documents.forEach(index::put);
+        });
+    }
+
+    private void write(Consumer<GameBitmapIndex> change) {
+        if (!enabled) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (index != null) {
+                change.accept(index);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static List<GameIndexDocument> load(List<GameIndexRow> rows, List<GameGenreLink> genreLinks) {
+        Map<Integer, Set<Integer>> genreIds = genreLinks.stream()
+            .collect(Collectors.groupingBy(
+                GameGenreLink::getGameId,
+                Collectors.mapping(GameGenreLink::getGenreId, Collectors.toUnmodifiableSet())
+            ));
+
+        return rows.stream()
+            .map(row -> new GameIndexDocument(
+                row.getId(),
+                row.getTitle(),
+                row.getReleaseYear(),
+                row.getDeveloperId(),
+                row.getPublisherId(),
+                row.getAverageRating(),
+                row.getReviewCount() != null ? row.getReviewCount() : 0,
+                genreIds.getOrDefault(row.getId(), Set.of())
+            ))
+            .toList();
+    }
+}
@@ -0,0 +1,18 @@
+package com.project.gamereviewer.search;
+
+import java.util.Set;
+
+public record GameIndexDocument(
+    int id,
+    String title,
+    Integer releaseYear,
+    Integer developerId,
+    Integer publisherId,
+    Double averageRating,
+    int reviewCount,
+    Set<Integer> genreIds
+) {
+    public boolean isRated() {
+        return reviewCount > 0 && averageRating != null;
+    }
+}
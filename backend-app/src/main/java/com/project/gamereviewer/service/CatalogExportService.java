@@ -0,0 +1,153 @@
+package com.project.gamereviewer.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.project.gamereviewer.config.MetricsConfig;
+import com.project.gamereviewer.dto.filter.GameFilterDto;
+import com.project.gamereviewer.dto.response.GameExportResponse;
+import com.project.gamereviewer.dto.response.ReviewExportResponse;
+import com.project.gamereviewer.dto.response.SystemRequirementExportResponse;
+import com.project.gamereviewer.entity.GameListItem;
+import com.project.gamereviewer.entity.Review;
+import com.project.gamereviewer.entity.SystemRequirement;
+import com.project.gamereviewer.export.ExportFormat;
+import com.project.gamereviewer.export.ExportWriterFactory;
+import com.project.gamereviewer.mapper.GameMapper;
+import com.project.gamereviewer.mapper.ReviewMapper;
+import com.project.gamereviewer.mapper.SystemRequirementMapper;
+import com.project.gamereviewer.repository.GameListItemRepository;
+import com.project.gamereviewer.repository.GameListItemRepository.GameGenreName;
+import com.project.gamereviewer.repository.ReviewRepository;
+import com.project.gamereviewer.repository.SystemRequirementRepository;
+import com.project.gamereviewer.specification.GameSpecification;
+import com.project.gamereviewer.specification.ReviewSpecification;
+import com.project.gamereviewer.specification.SystemRequirementSpecification;
+
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+
+/**
+ * Streams whole tables to a client in id order from a server-side cursor. Rows are mapped and
+ * written one fetch-size chunk at a time and the persistence context is cleared after each chunk,
+ * so memory use does not grow with the size of the export.
+ */
+@Service
+@Transactional(readOnly = true)
+@Timed(MetricsConfig.SERVICE_TIMER)
+public class CatalogExportService {
+
+    private static final Sort EXPORT_ORDER = Sort.by("id");
+
+    private final GameListItemRepository gameListItemRepository;
+    private final ReviewRepository reviewRepository;
+    private final SystemRequirementRepository systemRequirementRepository;
+    private final ExportWriterFactory exportWriterFactory;
+    private final EntityManager entityManager;
+    private final GameMapper gameMapper;
+    private final ReviewMapper reviewMapper;
+    private final SystemRequirementMapper systemRequirementMapper;
+    private final int fetchSize;
+
+    public CatalogExportService(
+            GameListItemRepository gameListItemRepository,
+            ReviewRepository reviewRepository,
+            SystemRequirementRepository systemRequirementRepository,
+            ExportWriterFactory exportWriterFactory,
+            EntityManager entityManager,
+            GameMapper gameMapper,
+            ReviewMapper reviewMapper,
+            SystemRequirementMapper systemRequirementMapper,
+            @Value("${app.export.fetch-size:1000}") int fetchSize
+    ) {
+        this.gameListItemRepository = gameListItemRepository;
+        this.reviewRepository = reviewRepository;
+        this.systemRequirementRepository = systemRequirementRepository;
+        this.exportWriterFactory = exportWriterFactory;
+        this.entityManager = entityManager;
+        this.gameMapper = gameMapper;
+        this.reviewMapper = reviewMapper;
+        this.systemRequirementMapper = systemRequirementMapper;
+        this.fetchSize = fetchSize;
+    }
+
+    @FunctionalInterface
+    private interface ChunkWriter<T> {
+        void write(List<T> chunk) throws IOException;
+    }
+
+    public void exportGames(GameFilterDto filter, ExportFormat format, OutputStream output) throws IOException {
+        Specification<GameListItem> spec = GameSpecification.withFilters(filter);
+        try (Stream<GameListItem> games = gameListItemRepository.stream(spec, EXPORT_ORDER, fetchSize);
+             SequenceWriter writer = exportWriterFactory.open(format, GameExportResponse.class, output)) {
+            writeInChunks(games, chunk -> {
+                Map<Integer, List<String>> genreNames = gameListItemRepository
+                    .findGenreNamesByGameIds(chunk.stream().map(GameListItem::getId).toList())
+                    .stream()
+                    .collect(Collectors.groupingBy(
+                        GameGenreName::getGameId,
+                        Collectors.mapping(GameGenreName::getGenreName, Collectors.toList())
+                    ));
+                for (GameListItem game : chunk) {
+                    writer.write(gameMapper.toExportResponse(game, genreNames.getOrDefault(game.getId(), List.of())));
+                }
+            });
+        }
+    }
+
+    public void exportReviews(Integer gameId, ExportFormat format, OutputStream output) throws IOException {
+        Specification<Review> spec = ReviewSpecification.fetchGameAndMediaOutlet();
+        if (gameId != null) {
+            spec = spec.and(ReviewSpecification.forGame(gameId));
+        }
+        try (Stream<Review> reviews = reviewRepository.stream(spec, EXPORT_ORDER, fetchSize);
+             SequenceWriter writer = exportWriterFactory.open(format, ReviewExportResponse.class, output)) {
+            writeInChunks(reviews, chunk -> {
+                for (Review review : chunk) {
+                    writer.write(reviewMapper.toExportResponse(review));
+                }
+            });
+        }
+    }
+
+    public void exportSystemRequirements(Integer gameId, ExportFormat format, OutputStream output) throws IOException {
+        Specification<SystemRequirement> spec = SystemRequirementSpecification.fetchType();
+        if (gameId != null) {
+            spec = spec.and(SystemRequirementSpecification.forGame(gameId));
+        }
+        try (Stream<SystemRequirement> requirements = systemRequirementRepository.stream(spec, EXPORT_ORDER, fetchSize);
+             SequenceWriter writer = exportWriterFactory.open(format, SystemRequirementExportResponse.class, output)) {
+            writeInChunks(requirements, chunk -> {
+                for (SystemRequirement requirement : chunk) {
+                    writer.write(systemRequirementMapper.toExportResponse(requirement));
+                }
+            });
+        }
+    }
+
+    private <T> void writeInChunks(Stream<T> rows, ChunkWriter<T> writer) throws IOException {
+        Iterator<T> iterator = rows.iterator();
+        List<T> chunk = new ArrayList<>(fetchSize);
+        while (iterator.hasNext()) {
+            chunk.add(iterator.next());
+            if (chunk.size() == fetchSize || !iterator.hasNext()) {
+                writer.write(chunk);
+                chunk.clear();
+                entityManager.clear();
+            }
+        }
+    }
+}
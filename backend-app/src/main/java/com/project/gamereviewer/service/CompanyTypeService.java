@@ -1,9 +1,13 @@
 package com.project.gamereviewer.service;
 
+import com.project.gamereviewer.config.MetricsConfig;
+import com.project.gamereviewer.datasource.Workload;
+import com.project.gamereviewer.datasource.WorkloadClass;
 import com.project.gamereviewer.dto.response.CompanyTypeResponse;
 import com.project.gamereviewer.exception.ResourceNotFoundException;
 import com.project.gamereviewer.mapper.CompanyTypeMapper;
 import com.project.gamereviewer.repository.CompanyTypeRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -13,6 +17,7 @@ import java.util.List;
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
+@Timed(MetricsConfig.SERVICE_TIMER)
 public class CompanyTypeService {
 
     public static final String RESOURSE_NAME = "CompanyType";
@@ -20,12 +25,14 @@ public class CompanyTypeService {
     private final CompanyTypeRepository companyTypeRepository;
     private final CompanyTypeMapper companyTypeMapper;
     
+    @Workload(WorkloadClass.LISTING)
     public List<CompanyTypeResponse> getAllCompanyTypes() {
         return companyTypeRepository.findAll().stream()
             .map(companyTypeMapper::toResponse)
             .toList();
     }
     
+    @Workload(WorkloadClass.POINT_LOOKUP)
     public CompanyTypeResponse getCompanyTypeById(Integer id) {
         return companyTypeRepository.findById(id)
             .map(companyTypeMapper::toResponse)
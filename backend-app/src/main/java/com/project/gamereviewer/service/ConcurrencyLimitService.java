@@ -0,0 +1,36 @@
+package com.project.gamereviewer.service;
+
+import com.project.gamereviewer.config.MetricsConfig;
+import com.project.gamereviewer.dto.response.ConcurrencyLimitResponse;
+import com.project.gamereviewer.limit.ConcurrencyLimiters;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Timed(MetricsConfig.SERVICE_TIMER)
+public class ConcurrencyLimitService {
+
+    private final ObjectProvider<ConcurrencyLimiters> concurrencyLimiters;
+
+    /** Empty when concurrency limiting is disabled. */
+    public List<ConcurrencyLimitResponse> getLimits() {
+        ConcurrencyLimiters limiters = concurrencyLimiters.getIfAvailable();
+        if (limiters == null) {
+            return List.of();
+        }
+        return limiters.all().stream()
+            .map(limiter -> new ConcurrencyLimitResponse(
+                limiter.group(),
+                limiter.limit(),
+                limiter.inFlight(),
+                limiter.rejected(),
+                limiter.averageLatency().toMillis()
+            ))
+            .toList();
+    }
+}
@@ -0,0 +1,157 @@
+package com.project.gamereviewer.service;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.project.gamereviewer.config.ExecutorConfig;
+import com.project.gamereviewer.config.MetricsConfig;
+import com.project.gamereviewer.constant.ApiConstants;
+import com.project.gamereviewer.dto.response.GameDetailResponse;
+import com.project.gamereviewer.dto.response.GenreResponse;
+import com.project.gamereviewer.dto.response.SystemRequirementResponse;
+import com.project.gamereviewer.entity.Game;
+import com.project.gamereviewer.entity.Review;
+import com.project.gamereviewer.exception.ResourceNotFoundException;
+import com.project.gamereviewer.fields.FieldSet;
+import com.project.gamereviewer.mapper.GameMapper;
+import com.project.gamereviewer.mapper.GenreMapper;
+import com.project.gamereviewer.mapper.ProductionCompanyMapper;
+import com.project.gamereviewer.mapper.ReviewMapper;
+import com.project.gamereviewer.mapper.SystemRequirementMapper;
+import com.project.gamereviewer.repository.GameRepository;
+import com.project.gamereviewer.repository.GenreRepository;
+import com.project.gamereviewer.repository.ReviewRepository;
+import com.project.gamereviewer.repository.SystemRequirementRepository;
+
+import io.micrometer.core.annotation.Timed;
+
+/**
+ * Assembles a game detail from one query per collection instead of a single join across genres,
+ * reviews and system requirements, whose row count is the product of the three. Reviews are capped
+ * at the top {@code app.game-detail.top-reviews} by score; the full list is paged under
+ * {@code reviewsUrl}. Outside a surrounding transaction the queries run concurrently, each in its own
+ * read-only transaction. Collections and companies that the requested fields leave out are not queried.
+ */
+@Service
+@Timed(MetricsConfig.SERVICE_TIMER)
+public class GameDetailService {
+
+    private static final String DEVELOPER_FIELD = "developer";
+    private static final String PUBLISHER_FIELD = "publisher";
+    private static final String GENRES_FIELD = "genres";
+    private static final String SYSTEM_REQUIREMENTS_FIELD = "systemRequirements";
+    private static final String REVIEWS_FIELD = "reviews";
+
+    private final GameRepository gameRepository;
+    private final GenreRepository genreRepository;
+    private final SystemRequirementRepository systemRequirementRepository;
+    private final ReviewRepository reviewRepository;
+    private final GameMapper gameMapper;
+    private final ProductionCompanyMapper productionCompanyMapper;
+    private final GenreMapper genreMapper;
+    private final SystemRequirementMapper systemRequirementMapper;
+    private final ReviewMapper reviewMapper;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Executor executor;
+    private final boolean parallel;
+    private final int topReviews;
+
+    public GameDetailService(
+            GameRepository gameRepository,
+            GenreRepository genreRepository,
+            SystemRequirementRepository systemRequirementRepository,
+            ReviewRepository reviewRepository,
+            GameMapper gameMapper,
+            ProductionCompanyMapper productionCompanyMapper,
+            GenreMapper genreMapper,
+            SystemRequirementMapper systemRequirementMapper,
+            ReviewMapper reviewMapper,
+            PlatformTransactionManager transactionManager,
+            @Qualifier(ExecutorConfig.GAME_DETAIL_EXECUTOR) Executor executor,
+            @Value("${app.game-detail.parallel:true}") boolean parallel,
+            @Value("${app.game-detail.top-reviews:5}") int topReviews
+    ) {
+        this.gameRepository = gameRepository;
+        this.genreRepository = genreRepository;
+        this.systemRequirementRepository = systemRequirementRepository;
+        this.reviewRepository = reviewRepository;
+        this.gameMapper = gameMapper;
+        this.productionCompanyMapper = productionCompanyMapper;
+        this.genreMapper = genreMapper;
+        this.systemRequirementMapper = systemRequirementMapper;
+        this.reviewMapper = reviewMapper;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.executor = executor;
+        this.parallel = parallel;
+        this.topReviews = topReviews;
+    }
+
+    public GameDetailResponse getGameDetail(Integer id, FieldSet<GameDetailResponse> fields) {
+        // Inside a caller's transaction the queries must share its connection to see its writes.
+        Executor target = parallel && !TransactionSynchronizationManager.isActualTransactionActive()
+            ? executor
+            : Runnable::run;
+
+        boolean companies = fields.includes(DEVELOPER_FIELD) || fields.includes(PUBLISHER_FIELD);
+        CompletableFuture<Game> game = submit(target, () -> (companies ? gameRepository.findDetailById(id) : gameRepository.findById(id))
+            .orElseThrow(() -> new ResourceNotFoundException(GameService.RESOURSE_NAME, id)));
+        CompletableFuture<List<GenreResponse>> genres = submitIf(fields.includes(GENRES_FIELD), target, () ->
+            genreRepository.findAllByGameId(id)
+                .stream()
+                .map(genreMapper::toResponse)
+                .toList());
+        CompletableFuture<List<SystemRequirementResponse>> systemRequirements = submitIf(fields.includes(SYSTEM_REQUIREMENTS_FIELD), target, () ->
+            systemRequirementRepository.findWithTypeByGameIdOrderById(id)
+                .stream()
+                .map(systemRequirementMapper::toResponse)
+                .toList());
+        CompletableFuture<List<Review>> reviews = submitIf(fields.includes(REVIEWS_FIELD), target, () ->
+            reviewRepository.findByGameIdOrderByScoreDescIdAsc(id, Limit.of(topReviews)));
+
+        Game loaded = await(game);
+        List<Review> topReviewList = await(reviews);
+        return fields.apply(gameMapper.toDetailResponse(
+            loaded,
+            fields.includes(DEVELOPER_FIELD) ? productionCompanyMapper.toResponse(loaded.getDeveloper()) : null,
+            fields.includes(PUBLISHER_FIELD) ? productionCompanyMapper.toResponse(loaded.getPublisher()) : null,
+            await(genres),
+            await(systemRequirements),
+            topReviewList == null ? null : topReviewList.stream()
+                .map(review -> reviewMapper.toResponse(review, loaded.getId(), loaded.getTitle()))
+                .toList(),
+            ApiConstants.REVIEWS + "/game/" + loaded.getId()
+        ));
+    }
+
+    /** Skipped queries complete with {@code null}, which leaves their field out. */
+    private <T> CompletableFuture<T> submitIf(boolean needed, Executor target, Supplier<T> query) {
+        return needed ? submit(target, query) : CompletableFuture.completedFuture(null);
+    }
+
+    private <T> CompletableFuture<T> submit(Executor target, Supplier<T> query) {
+        return CompletableFuture.supplyAsync(() -> readOnlyTransaction.execute(status -> query.get()), target);
+    }
+
+    private static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+}
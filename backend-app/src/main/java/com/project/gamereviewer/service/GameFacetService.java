@@ -0,0 +1,100 @@
+package com.project.gamereviewer.service;
+
+import com.project.gamereviewer.config.MetricsConfig;
+import com.project.gamereviewer.datasource.Workload;
+import com.project.gamereviewer.datasource.WorkloadClass;
+import com.project.gamereviewer.dto.filter.GameFilterDto;
+import com.project.gamereviewer.dto.response.FacetValueResponse;
+import com.project.gamereviewer.dto.response.GameFacetsResponse;
+import com.project.gamereviewer.dto.response.HistogramBucketResponse;
+import com.project.gamereviewer.entity.Genre;
+import com.project.gamereviewer.entity.ProductionCompany;
+import com.project.gamereviewer.exception.BadRequestException;
+import com.project.gamereviewer.exception.ServiceUnavailableException;
+import com.project.gamereviewer.repository.GenreRepository;
+import com.project.gamereviewer.repository.ProductionCompanyRepository;
+import com.project.gamereviewer.search.GameFacets;
+import com.project.gamereviewer.search.GameFilterIndex;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@Timed(MetricsConfig.SERVICE_TIMER)
+public class GameFacetService {
+
+    public static final String FACET_INDEX_UNAVAILABLE_EXCEPTION_MESSAGE = "Game facet index is disabled or still being built";
+    public static final String INVALID_FACET_PARAMETERS_EXCEPTION_MESSAGE = "Facet bucket sizes and limit must be at least 1";
+
+    private final GameFilterIndex gameFilterIndex;
+    private final GenreRepository genreRepository;
+    private final ProductionCompanyRepository productionCompanyRepository;
+
+    @Workload(WorkloadClass.LISTING)
+    public GameFacetsResponse getFacets(GameFilterDto filter, int yearBucketSize, int ratingBucketSize, int companyLimit) {
+        if (yearBucketSize < 1 || ratingBucketSize < 1 || companyLimit < 1) {
+            throw new BadRequestException(INVALID_FACET_PARAMETERS_EXCEPTION_MESSAGE);
+        }
+
+        GameFilterIndex.Facets facets = gameFilterIndex.facets(filter)
+            .orElseThrow(() -> new ServiceUnavailableException(FACET_INDEX_UNAVAILABLE_EXCEPTION_MESSAGE));
+        GameFacets counts = facets.counts();
+
+        Map<Integer, Integer> developers = top(counts.developers(), companyLimit);
+        Map<Integer, Integer> publishers = top(counts.publishers(), companyLimit);
+        Set<Integer> companyIds = new HashSet<>(developers.keySet());
+        companyIds.addAll(publishers.keySet());
+
+        Map<Integer, String> genreNames = genreRepository.findAllById(counts.genres().keySet()).stream()
+            .collect(Collectors.toMap(Genre::getId, Genre::getName));
+        Map<Integer, String> companyNames = productionCompanyRepository.findAllById(companyIds).stream()
+            .collect(Collectors.toMap(ProductionCompany::getId, ProductionCompany::getName));
+
+        return new GameFacetsResponse(
+            counts.total(),
+            values(counts.genres(), genreNames),
+            values(developers, companyNames),
+            values(publishers, companyNames),
+            histogram(counts.releaseYears(), yearBucketSize),
+            histogram(counts.ratingBuckets(), ratingBucketSize),
+            facets.age()
+        );
+    }
+
+    private static Map<Integer, Integer> top(Map<Integer, Integer> counts, int limit) {
+        return counts.entrySet().stream()
+            .sorted(Map.Entry.<Integer, Integer>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+            .limit(limit)
+            .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+    }
+
+    private static List<FacetValueResponse> values(Map<Integer, Integer> counts, Map<Integer, String> names) {
+        return counts.entrySet().stream()
+            .filter(entry -> names.containsKey(entry.getKey()))
+            .map(entry -> new FacetValueResponse(entry.getKey(), names.get(entry.getKey()), entry.getValue()))
+            .sorted(Comparator.comparingLong(FacetValueResponse::count).reversed()
+                .thenComparing(FacetValueResponse::id))
+            .toList();
+    }
+
+    private static List<HistogramBucketResponse> histogram(Map<Integer, Integer> counts, int bucketSize) {
+        Map<Integer, Long> buckets = new TreeMap<>();
+        counts.forEach((value, count) ->
+            buckets.merge(Math.floorDiv(value, bucketSize) * bucketSize, (long) count, Long::sum));
+
+        return buckets.entrySet().stream()
+            .map(entry -> new HistogramBucketResponse(entry.getKey(), entry.getKey() + bucketSize, entry.getValue()))
+            .toList();
+    }
+}
@@ -0,0 +1,300 @@
+package com.project.gamereviewer.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.project.gamereviewer.config.MetricsConfig;
+import com.project.gamereviewer.dto.request.GameCreateRequest;
+import com.project.gamereviewer.dto.response.GameImportErrorResponse;
+import com.project.gamereviewer.dto.response.GameImportResponse;
+import com.project.gamereviewer.entity.Game;
+import com.project.gamereviewer.entity.Genre;
+import com.project.gamereviewer.entity.ProductionCompany;
+import com.project.gamereviewer.event.GameChangedEvent;
+import com.project.gamereviewer.mapper.GameMapper;
+import com.project.gamereviewer.repository.GameRepository;
+import com.project.gamereviewer.repository.GameRepository.GameTitleYear;
+import com.project.gamereviewer.repository.GenreRepository;
+import com.project.gamereviewer.repository.ProductionCompanyRepository;
+
+import io.micrometer.core.annotation.Timed;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Streams {@link GameCreateRequest} records (NDJSON or a JSON array) into the database in chunks.
+ * Each chunk resolves its companies and genres with one query apiece and is inserted in a single
+ * transaction as JDBC batches; a chunk that fails is replayed row by row so only the offending rows
+ * are rejected.
+ */
+@Slf4j
+@Service
+@Timed(MetricsConfig.SERVICE_TIMER)
+public class GameImportService {
+
+    public static final String COMPANY_NOT_FOUND_EXCEPTION_MESSAGE = "%s with id %d not found";
+    public static final String DUPLICATE_IN_IMPORT_EXCEPTION_MESSAGE = "Game with title '%s' and year %d appears earlier in the import";
+    public static final String MALFORMED_RECORD_EXCEPTION_MESSAGE = "Malformed JSON, import stopped: %s";
+
+    private final ObjectReader treeReader;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final TransactionTemplate writeTransaction;
+    private final GameRepository gameRepository;
+    private final ProductionCompanyRepository productionCompanyRepository;
+    private final GenreRepository genreRepository;
+    private final GameRatingStatsService gameRatingStatsService;
+    private final GameMapper gameMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int batchSize;
+    private final int maxReportedErrors;
+
+    public GameImportService(
+            ObjectMapper objectMapper,
+            Validator validator,
+            PlatformTransactionManager transactionManager,
+            GameRepository gameRepository,
+            ProductionCompanyRepository productionCompanyRepository,
+            GenreRepository genreRepository,
+            GameRatingStatsService gameRatingStatsService,
+            GameMapper gameMapper,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${app.game-import.batch-size:500}") int batchSize,
+            @Value("${app.game-import.max-reported-errors:1000}") int maxReportedErrors
+    ) {
+        this.treeReader = objectMapper.readerFor(JsonNode.class);
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.gameRepository = gameRepository;
+        this.productionCompanyRepository = productionCompanyRepository;
+        this.genreRepository = genreRepository;
+        this.gameRatingStatsService = gameRatingStatsService;
+        this.gameMapper = gameMapper;
+        this.eventPublisher = eventPublisher;
+        this.batchSize = batchSize;
+        this.maxReportedErrors = maxReportedErrors;
+    }
+
+    private record Row(long record, GameCreateRequest request) {}
+
+    private record ChunkResult(int imported, List<GameImportErrorResponse> errors) {}
+
+    /**
+     * Imports every record of the stream. Only one chunk of requests is held in memory at a time;
+     * records are numbered from 1 in input order.
+     */
+    public GameImportResponse importGames(InputStream input) throws IOException {
+        Report report = new Report(maxReportedErrors);
+        List<Row> chunk = new ArrayList<>(batchSize);
+        long record = 0;
+
+        try (MappingIterator<JsonNode> nodes = treeReader.readValues(input)) {
+            while (true) {
+                JsonNode node;
+                try {
+                    if (!nodes.hasNextValue()) {
+                        break;
+                    }
+                    node = nodes.nextValue();
+                } catch (JsonProcessingException ex) {
+                    // the parser cannot resynchronise after broken syntax
+                    report.fail(error(record + 1, null, String.format(MALFORMED_RECORD_EXCEPTION_MESSAGE, ex.getOriginalMessage())));
+                    break;
+                }
+                record++;
+
+                try {
+                    chunk.add(new Row(record, objectMapper.treeToValue(node, GameCreateRequest.class)));
+                } catch (JsonProcessingException ex) {
+                    report.fail(error(record, node.path("title").textValue(), ex.getOriginalMessage()));
+                    continue;
+                }
+
+                if (chunk.size() == batchSize) {
+                    write(chunk, report);
+                    chunk.clear();
+                }
+            }
+        }
+        write(chunk, report);
+
+        log.info("Imported {} game(s), rejected {} of {} record(s)", report.imported, report.failed, record);
+        return report.toResponse();
+    }
+
+    private void write(List<Row> chunk, Report report) {
+        List<Row> valid = new ArrayList<>(chunk.size());
+        for (Row row : chunk) {
+            Set<ConstraintViolation<GameCreateRequest>> violations = validator.validate(row.request());
+            if (violations.isEmpty()) {
+                valid.add(row);
+            } else {
+                report.fail(error(row, violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining("; "))));
+            }
+        }
+        if (valid.isEmpty()) {
+            return;
+        }
+
+        try {
+            report.add(writeTransaction.execute(status -> insert(valid)));
+        } catch (DataAccessException | TransactionException ex) {
+            log.debug("Import chunk of {} row(s) failed, retrying row by row", valid.size(), ex);
+            for (Row row : valid) {
+                try {
+                    report.add(writeTransaction.execute(status -> insert(List.of(row))));
+                } catch (DataAccessException | TransactionException rowEx) {
+                    report.fail(error(row, NestedExceptionUtils.getMostSpecificCause(rowEx).getMessage()));
+                }
+            }
+        }
+    }
+
+    private ChunkResult insert(List<Row> rows) {
+        Map<Integer, ProductionCompany> companies = byId(
+            productionCompanyRepository.findAllById(collect(rows, request -> Stream.of(request.developerId(), request.publisherId()))),
+            ProductionCompany::getId
+        );
+        Map<Integer, Genre> genres = byId(
+            genreRepository.findAllById(collect(rows, request -> request.genreIds() != null ? request.genreIds().stream() : Stream.empty())),
+            Genre::getId
+        );
+        Set<TitleYear> existing = gameRepository.findTitleYearsByTitleIn(collect(rows, request -> Stream.of(request.title())))
+            .stream()
+            .map(TitleYear::of)
+            .collect(Collectors.toSet());
+
+        List<GameImportErrorResponse> errors = new ArrayList<>();
+        Set<TitleYear> seen = new HashSet<>();
+        List<Game> games = new ArrayList<>(rows.size());
+        for (Row row : rows) {
+            GameCreateRequest request = row.request();
+            TitleYear titleYear = new TitleYear(request.title(), request.releaseYear());
+            String problem = existing.contains(titleYear)
+                ? String.format(GameService.TITLE_AND_YEAR_DUPLICATION_EXCEPTION_MESSAGE, request.title(), request.releaseYear())
+                : seen.contains(titleYear)
+                ? String.format(DUPLICATE_IN_IMPORT_EXCEPTION_MESSAGE, request.title(), request.releaseYear())
+                : missingCompany(request.developerId(), companies) ? companyNotFound(request.developerId())
+                : missingCompany(request.publisherId(), companies) ? companyNotFound(request.publisherId())
+                : request.genreIds() != null && !genres.keySet().containsAll(request.genreIds())
+                ? GameService.NOT_ALL_GENRES_FOUND_EXCEPTION_MESSAGE
+                : null;
+            if (problem != null) {
+                errors.add(error(row, problem));
+                continue;
+            }
+            seen.add(titleYear);
+
+            Game game = gameMapper.toEntity(request);
+            game.setDeveloper(companies.get(request.developerId()));
+            game.setPublisher(companies.get(request.publisherId()));
+            if (request.genreIds() != null) {
+                game.setGenres(request.genreIds().stream().map(genres::get).collect(Collectors.toCollection(HashSet::new)));
+            }
+            games.add(game);
+        }
+
+        if (!games.isEmpty()) {
+            gameRepository.saveAll(games);
+            gameRepository.flush();
+            List<Integer> ids = games.stream().map(Game::getId).toList();
+            gameRatingStatsService.initialize(ids);
+            eventPublisher.publishEvent(GameChangedEvent.of(ids));
+        }
+        return new ChunkResult(games.size(), errors);
+    }
+
+    private static boolean missingCompany(Integer id, Map<Integer, ProductionCompany> companies) {
+        return id != null && !companies.containsKey(id);
+    }
+
+    private static String companyNotFound(Integer id) {
+        return String.format(COMPANY_NOT_FOUND_EXCEPTION_MESSAGE, ProductionCompanyService.RESOURSE_NAME, id);
+    }
+
+    private static <T> Set<T> collect(List<Row> rows, Function<GameCreateRequest, Stream<T>> values) {
+        return rows.stream()
+            .map(Row::request)
+            .flatMap(values)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toSet());
+    }
+
+    private static <T> Map<Integer, T> byId(Collection<T> entities, Function<T, Integer> id) {
+        return entities.stream().collect(Collectors.toMap(id, Function.identity()));
+    }
+
+    private static GameImportErrorResponse error(Row row, String message) {
+        return error(row.record(), row.request().title(), message);
+    }
+
+    private static GameImportErrorResponse error(long record, String title, String message) {
+        return new GameImportErrorResponse(record, title, message);
+    }
+
+    private record TitleYear(String title, Integer releaseYear) {
+
+        static TitleYear of(GameTitleYear row) {
+            return new TitleYear(row.getTitle(), row.getReleaseYear());
+        }
+    }
+
+    private static final class Report {
+
+        private final int maxErrors;
+        private final List<GameImportErrorResponse> errors = new ArrayList<>();
+        private long imported;
+        private long failed;
+
+        Report(int maxErrors) {
+            this.maxErrors = maxErrors;
+        }
+
+        void add(ChunkResult result) {
+            imported += result.imported();
+            result.errors().forEach(this::fail);
+        }
+
+        void fail(GameImportErrorResponse error) {
+            failed++;
+            if (errors.size() < maxErrors) {
+                errors.add(error);
+            }
+        }
+
+        GameImportResponse toResponse() {
+            errors.sort(Comparator.comparingLong(GameImportErrorResponse::record));
+            return new GameImportResponse(imported, failed, errors, failed > errors.size());
+        }
+    }
+}
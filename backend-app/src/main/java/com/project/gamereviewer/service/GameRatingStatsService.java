@@ -0,0 +1,142 @@
+package com.project.gamereviewer.service;
+
+import com.project.gamereviewer.config.MetricsConfig;
+import com.project.gamereviewer.entity.GameRatingStats;
+import com.project.gamereviewer.event.GameChangedEvent;
+import com.project.gamereviewer.repository.GameRatingStatsRepository;
+import com.project.gamereviewer.repository.GameRepository;
+import com.project.gamereviewer.repository.ReviewRepository;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@Timed(MetricsConfig.SERVICE_TIMER)
+public class GameRatingStatsService {
+
+    private final GameRatingStatsRepository gameRatingStatsRepository;
+    private final GameRepository gameRepository;
+    private final ReviewRepository reviewRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional
+    public void initialize(Integer gameId) {
+        gameRatingStatsRepository.insertEmpty(gameId);
+    }
+
+    @Transactional
+    public void initialize(Collection<Integer> gameIds) {
+        gameRatingStatsRepository.insertEmpty(gameIds);
+    }
+
+    @Transactional
+    public void recordReview(Integer gameId, int score) {
+        addScore(lockStats(gameId), score);
+    }
+
+    /**
+     * Must be called after the review row has been removed or moved, because a removed
+     * boundary score forces min/max to be re-read from the remaining reviews.
+     */
+    @Transactional
+    public void removeReview(Integer gameId, int score) {
+        removeScore(lockStats(gameId), score);
+    }
+
+    /**
+     * When the review moves to another game both stats rows are locked in ascending game id order
+     * before either is changed, so two moves in opposite directions cannot deadlock.
+     */
+    @Transactional
+    public void replaceReview(Integer oldGameId, int oldScore, Integer newGameId, int newScore) {
+        if (oldGameId.equals(newGameId)) {
+            if (oldScore != newScore) {
+                GameRatingStats stats = lockStats(oldGameId);
+                removeScore(stats, oldScore);
+                addScore(stats, newScore);
+            }
+            return;
+        }
+
+        boolean oldFirst = oldGameId < newGameId;
+        GameRatingStats first = lockStats(oldFirst ? oldGameId : newGameId);
+        GameRatingStats second = lockStats(oldFirst ? newGameId : oldGameId);
+        removeScore(oldFirst ? first : second, oldScore);
+        addScore(oldFirst ? second : first, newScore);
+    }
+
+    private void addScore(GameRatingStats stats, int score) {
+        stats.setReviewCount(stats.getReviewCount() + 1);
+        stats.setScoreSum(stats.getScoreSum() + score);
+        stats.setMinScore(stats.getMinScore() == null ? score : Math.min(stats.getMinScore(), score));
+        stats.setMaxScore(stats.getMaxScore() == null ? score : Math.max(stats.getMaxScore(), score));
+        updateAverage(stats);
+    }
+
+    private void removeScore(GameRatingStats stats, int score) {
+        Integer gameId = stats.getGameId();
+        if (stats.getReviewCount() <= 1) {
+            stats.setReviewCount(0);
+            stats.setScoreSum(0L);
+            stats.setMinScore(null);
+            stats.setMaxScore(null);
+            updateAverage(stats);
+            return;
+        }
+
+        stats.setReviewCount(stats.getReviewCount() - 1);
+        stats.setScoreSum(stats.getScoreSum() - score);
+
+        if (stats.getMinScore() != null && score <= stats.getMinScore()) {
+            stats.setMinScore(reviewRepository.findMinScoreByGameId(gameId));
+        }
+        if (stats.getMaxScore() != null && score >= stats.getMaxScore()) {
+            stats.setMaxScore(reviewRepository.findMaxScoreByGameId(gameId));
+        }
+        updateAverage(stats);
+    }
+
+    /**
+     * Recounts games whose reviews were removed without going through {@link #removeReview}, such as
+     * the database cascading a media outlet delete. Must be called after those rows are gone.
+     */
+    @Transactional
+    public void recalculate(Collection<Integer> gameIds) {
+        if (!gameIds.isEmpty()) {
+            gameRatingStatsRepository.recalculate(List.copyOf(gameIds));
+        }
+    }
+
+    @Transactional
+    public int repairDrift() {
+        List<Integer> driftedGameIds = gameRatingStatsRepository.findDriftedGameIds();
+        if (driftedGameIds.isEmpty()) {
+            return 0;
+        }
+        gameRatingStatsRepository.recalculate(driftedGameIds);
+        gameRepository.incrementVersions(driftedGameIds);
+        eventPublisher.publishEvent(GameChangedEvent.of(driftedGameIds));
+        return driftedGameIds.size();
+    }
+
+    private GameRatingStats lockStats(Integer gameId) {
+        return gameRatingStatsRepository.findByGameIdForUpdate(gameId)
+            .orElseGet(() -> {
+                gameRatingStatsRepository.insertEmpty(gameId);
+                return gameRatingStatsRepository.findByGameIdForUpdate(gameId).orElseThrow();
+            });
+    }
+
+    private void updateAverage(GameRatingStats stats) {
+        stats.setAverageRating(stats.getReviewCount() == 0
+            ? 0.0
+            : (double) stats.getScoreSum() / stats.getReviewCount());
+    }
+}
@@ -1,65 +1,213 @@
 package com.project.gamereviewer.service;
 
+import com.project.gamereviewer.config.MetricsConfig;
+import com.project.gamereviewer.datasource.Workload;
+import com.project.gamereviewer.datasource.WorkloadClass;
 import com.project.gamereviewer.dto.filter.GameFilterDto;
 import com.project.gamereviewer.dto.request.GameCreateRequest;
 import com.project.gamereviewer.dto.request.GameUpdateRequest;
 import com.project.gamereviewer.dto.response.GameDetailResponse;
 import com.project.gamereviewer.dto.response.GameListResponse;
 import com.project.gamereviewer.entity.Game;
+import com.project.gamereviewer.entity.GameListItem;
 import com.project.gamereviewer.entity.Genre;
 import com.project.gamereviewer.entity.ProductionCompany;
+import com.project.gamereviewer.etag.ETags;
+import com.project.gamereviewer.event.GameChangedEvent;
+import com.project.gamereviewer.exception.BadRequestException;
 import com.project.gamereviewer.exception.DuplicateResourceException;
 import com.project.gamereviewer.exception.ResourceNotFoundException;
+import com.project.gamereviewer.fields.FieldSet;
 import com.project.gamereviewer.mapper.GameMapper;
+import com.project.gamereviewer.pagination.IndexedPage;
+import com.project.gamereviewer.pagination.KeysetPage;
+import com.project.gamereviewer.pagination.KeysetRequest;
+import com.project.gamereviewer.pagination.PagedQueryExecutor;
+import com.project.gamereviewer.pagination.TotalCountMode;
+import com.project.gamereviewer.repository.GameListItemRepository;
+import com.project.gamereviewer.repository.GameListItemRepository.GameGenreName;
 import com.project.gamereviewer.repository.GameRepository;
 import com.project.gamereviewer.repository.GenreRepository;
 import com.project.gamereviewer.repository.ProductionCompanyRepository;
+import com.project.gamereviewer.search.GameFilterIndex;
 import com.project.gamereviewer.specification.GameSpecification;
+import com.project.gamereviewer.sql.SlowQueryRecorder;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
+@Timed(MetricsConfig.SERVICE_TIMER)
 public class GameService {
 
     public static final String RESOURSE_NAME = "Game";
     public static final String TITLE_AND_YEAR_DUPLICATION_EXCEPTION_MESSAGE = "Game with title '%s' and year %d already exists";
     public static final String NOT_ALL_GENRES_FOUND_EXCEPTION_MESSAGE = "Some genres not found";
+    public static final String TABLE_NAME = "games";
+    public static final String RELEVANCE_CURSOR_EXCEPTION_MESSAGE = "Cursor pagination does not support relevance sorting";
+    public static final String GENRE_NAMES_FIELD = "genreNames";
+    public static final Set<String> KEYSET_SORT_FIELDS = Set.of("title", "releaseYear", "averageRating");
     
     private final GameRepository gameRepository;
+    private final GameListItemRepository gameListItemRepository;
     private final GenreRepository genreRepository;
     private final ProductionCompanyRepository productionCompanyRepository;
+    private final GameRatingStatsService gameRatingStatsService;
+    private final PagedQueryExecutor pagedQueryExecutor;
+    private final GameFilterIndex gameFilterIndex;
+    private final GameDetailService gameDetailService;
+    private final ApplicationEventPublisher eventPublisher;
     private final GameMapper gameMapper;
     
-    public Page<GameListResponse> getAllGames(Pageable pageable) {
-        return gameRepository.findAll(pageable)
-            .map(gameMapper::toListResponse);
+    @Workload(WorkloadClass.LISTING)
+    public Optional<Slice<GameListResponse>> getAllGames(Pageable pageable, TotalCountMode totalCountMode,
+            FieldSet<GameListResponse> fields, Predicate<String> notModified) {
+        Slice<GameListItem> games = pagedQueryExecutor.findAll(gameListItemRepository, TABLE_NAME, pageable, totalCountMode);
+        return toListResponses(games, fields, notModified);
     }
     
-    public Page<GameListResponse> filterGames(GameFilterDto filter, Pageable pageable) {
-        Specification<Game> spec = GameSpecification.withFilters(filter);
+    @Workload(WorkloadClass.LISTING)
+    public Optional<Slice<GameListResponse>> filterGames(GameFilterDto filter, Pageable pageable,
+            TotalCountMode totalCountMode, Boolean useIndex, FieldSet<GameListResponse> fields,
+            Predicate<String> notModified) {
+        if (gameFilterIndex.shouldUse(useIndex)) {
+            Optional<GameFilterIndex.Hits> hits = gameFilterIndex.search(filter, pageable);
+            if (hits.isPresent()) {
+                return toListResponses(hydrate(hits.get(), pageable), fields, notModified);
+            }
+        }
+        
+        Slice<GameListItem> games = SlowQueryRecorder.withContext(GameSpecification.describe(filter, pageable.getSort()),
+            () -> findFiltered(filter, pageable, totalCountMode));
+        return toListResponses(games, fields, notModified);
+    }
+    
+    private Slice<GameListItem> findFiltered(GameFilterDto filter, Pageable pageable, TotalCountMode totalCountMode) {
+        Specification<GameListItem> spec = GameSpecification.withFilters(filter);
+        if (pageable.getSort().getOrderFor(GameSpecification.RELEVANCE_SORT) != null) {
+            spec = spec.and(GameSpecification.orderByTitleRelevance(filter.title()));
+            pageable = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
+        }
+        
+        return pagedQueryExecutor.findAll(gameListItemRepository, spec, TABLE_NAME + ":" + filter, pageable, totalCountMode);
+    }
+    
+    private IndexedPage<GameListItem> hydrate(GameFilterIndex.Hits hits, Pageable pageable) {
+        Map<Integer, GameListItem> gamesById = gameListItemRepository.findAllById(hits.ids()).stream()
+            .collect(Collectors.toMap(GameListItem::getId, Function.identity()));
+        List<GameListItem> games = hits.ids().stream()
+            .map(gamesById::get)
+            .filter(Objects::nonNull)
+            .toList();
+        
+        return new IndexedPage<>(games, pageable, hits.total(), hits.age());
+    }
+    
+    @Workload(WorkloadClass.LISTING)
+    public KeysetPage<GameListResponse> scrollGames(KeysetRequest keyset, FieldSet<GameListResponse> fields) {
+        return scrollGames(Specification.where(null), keyset, fields);
+    }
+    
+    @Workload(WorkloadClass.LISTING)
+    public KeysetPage<GameListResponse> scrollFilteredGames(GameFilterDto filter, KeysetRequest keyset,
+            FieldSet<GameListResponse> fields) {
+        return SlowQueryRecorder.withContext(GameSpecification.describe(filter, keyset.sort()),
+            () -> scrollGames(GameSpecification.withFilters(filter), keyset, fields));
+    }
+    
+    private KeysetPage<GameListResponse> scrollGames(Specification<GameListItem> spec, KeysetRequest keyset,
+            FieldSet<GameListResponse> fields) {
+        if (GameSpecification.RELEVANCE_SORT.equals(keyset.sortBy())) {
+            throw new BadRequestException(RELEVANCE_CURSOR_EXCEPTION_MESSAGE);
+        }
         
-        return gameRepository.findAll(spec, pageable)
-            .map(gameMapper::toListResponse);
+        List<GameListItem> games = gameListItemRepository.findBy(
+            spec.and(keyset.toSpecification()),
+            query -> query.sortBy(keyset.sort()).limit(keyset.limit()).all()
+        );
+        
+        KeysetPage<GameListItem> page = keyset.toPage(games, GameListItem::getId);
+        return page.map(toListResponse(page.content(), fields));
+    }
+    
+    private Optional<Slice<GameListResponse>> toListResponses(Slice<GameListItem> games, FieldSet<GameListResponse> fields,
+            Predicate<String> notModified) {
+        return ETags.unlessNotModified(games, fields, notModified)
+            .map(page -> page.map(toListResponse(page.getContent(), fields)));
     }
     
+    private Function<GameListItem, GameListResponse> toListResponse(List<GameListItem> games, FieldSet<GameListResponse> fields) {
+        if (!fields.includes(GENRE_NAMES_FIELD)) {
+            return game -> fields.apply(gameMapper.toListResponse(game, null));
+        }
+        if (games.isEmpty()) {
+            return game -> gameMapper.toListResponse(game, List.of());
+        }
+        
+        Map<Integer, List<String>> genreNames = groupGenreNames(
+            gameListItemRepository.findGenreNamesByGameIds(games.stream().map(GameListItem::getId).toList()));
+        return listResponseMapper(gameMapper, genreNames, fields);
+    }
+    
+    /** Genre names per game id from the one genre-name query of a page; public for the benchmarks. */
+    public static Map<Integer, List<String>> groupGenreNames(List<GameGenreName> rows) {
+        return rows.stream()
+            .collect(Collectors.groupingBy(
+                GameGenreName::getGameId,
+                Collectors.mapping(GameGenreName::getGenreName, Collectors.toList())
+            ));
+    }
+    
+    /** Maps a page row with its grouped genre names; public for the benchmarks. */
+    public static Function<GameListItem, GameListResponse> listResponseMapper(GameMapper gameMapper,
+            Map<Integer, List<String>> genreNames, FieldSet<GameListResponse> fields) {
+        return game -> fields.apply(gameMapper.toListResponse(game, genreNames.getOrDefault(game.getId(), List.of())));
+    }
+    
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @Workload(WorkloadClass.POINT_LOOKUP)
     public GameDetailResponse getGameById(Integer id) {
-        Game game = gameRepository.findById(id)
+        return gameDetailService.getGameDetail(id, FieldSet.all(GameDetailResponse.class));
+    }
+    
+    /**
+     * The version is read before the detail, so a concurrent write can only make the returned tag
+     * older than the body, which costs the client one extra full response and never a wrong 304.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @Workload(WorkloadClass.POINT_LOOKUP)
+    public Optional<GameDetailResponse> getGameById(Integer id, FieldSet<GameDetailResponse> fields,
+            Predicate<String> notModified) {
+        Long version = gameRepository.findVersionById(id)
             .orElseThrow(() -> new ResourceNotFoundException(RESOURSE_NAME, id));
-        
-        return gameMapper.toDetailResponse(game);
+        if (notModified.test(ETags.of(id, version, fields))) {
+            return Optional.empty();
+        }
+        return Optional.of(gameDetailService.getGameDetail(id, fields));
     }
     
     @Transactional
+    @Workload(WorkloadClass.WRITE)
     public GameDetailResponse createGame(GameCreateRequest request) {
         if (gameRepository.existsByTitleAndReleaseYear(request.title(), request.releaseYear())) {
             throw new DuplicateResourceException(
@@ -91,6 +239,8 @@ public class GameService {
         }
         
         Game saved = gameRepository.save(game);
+        gameRatingStatsService.initialize(saved.getId());
+        eventPublisher.publishEvent(GameChangedEvent.of(saved.getId()));
         return getGameById(saved.getId());
     }
 
@@ -133,6 +283,7 @@ public class GameService {
     }
     
     @Transactional
+    @Workload(WorkloadClass.WRITE)
     public GameDetailResponse updateGame(Integer id, GameUpdateRequest request) {
         Game game = gameRepository.findById(id)
             .orElseThrow(() -> new ResourceNotFoundException(RESOURSE_NAME, id));
@@ -162,14 +313,17 @@ public class GameService {
         setGameGenres(game, request);
         
         gameRepository.save(game);
+        eventPublisher.publishEvent(GameChangedEvent.of(id));
         return getGameById(id);
     }
     
     @Transactional
+    @Workload(WorkloadClass.WRITE)
     public void deleteGame(Integer id) {
         if (!gameRepository.existsById(id)) {
             throw new ResourceNotFoundException(RESOURSE_NAME, id);
         }
         gameRepository.deleteById(id);
+        eventPublisher.publishEvent(GameChangedEvent.of(id));
     }
 }
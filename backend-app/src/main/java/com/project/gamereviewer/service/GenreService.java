@@ -1,35 +1,51 @@
 package com.project.gamereviewer.service;
 
+import com.project.gamereviewer.config.MetricsConfig;
+import com.project.gamereviewer.datasource.Workload;
+import com.project.gamereviewer.datasource.WorkloadClass;
 import com.project.gamereviewer.dto.request.GenreCreateRequest;
 import com.project.gamereviewer.dto.response.GenreResponse;
 import com.project.gamereviewer.entity.Genre;
+import com.project.gamereviewer.etag.ETags;
+import com.project.gamereviewer.event.GenreDeletedEvent;
 import com.project.gamereviewer.exception.DuplicateResourceException;
 import com.project.gamereviewer.exception.ResourceNotFoundException;
 import com.project.gamereviewer.mapper.GenreMapper;
+import com.project.gamereviewer.repository.GameRepository;
 import com.project.gamereviewer.repository.GenreRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
+@Timed(MetricsConfig.SERVICE_TIMER)
 public class GenreService {
 
     public static final String RESOURSE_NAME = "Genre";
     public static final String RESOURSE_NAME_FIELD_NAME = "name";
     
     private final GenreRepository genreRepository;
+    private final GameRepository gameRepository;
+    private final ApplicationEventPublisher eventPublisher;
     private final GenreMapper genreMapper;
     
-    public List<GenreResponse> getAllGenres() {
-        return genreRepository.findAll().stream()
-            .map(genreMapper::toResponse)
-            .toList();
+    @Workload(WorkloadClass.LISTING)
+    public Optional<List<GenreResponse>> getAllGenres(Predicate<String> notModified) {
+        return ETags.unlessNotModified(genreRepository.findAll(), notModified)
+            .map(genres -> genres.stream()
+                .map(genreMapper::toResponse)
+                .toList());
     }
     
+    @Workload(WorkloadClass.POINT_LOOKUP)
     public GenreResponse getGenreById(Integer id) {
         return genreRepository.findById(id)
             .map(genreMapper::toResponse)
@@ -37,6 +53,7 @@ public class GenreService {
     }
     
     @Transactional
+    @Workload(WorkloadClass.WRITE)
     public GenreResponse createGenre(GenreCreateRequest request) {
         if (genreRepository.existsByName(request.name())) {
             throw new DuplicateResourceException(RESOURSE_NAME, RESOURSE_NAME_FIELD_NAME, request.name());
@@ -48,6 +65,7 @@ public class GenreService {
     }
     
     @Transactional
+    @Workload(WorkloadClass.WRITE)
     public GenreResponse updateGenre(Integer id, GenreCreateRequest request) {
         Genre genre = genreRepository.findById(id)
             .orElseThrow(() -> new ResourceNotFoundException(RESOURSE_NAME, id));
@@ -58,14 +76,18 @@ public class GenreService {
         
         genre.setName(request.name());
         Genre updated = genreRepository.save(genre);
+        gameRepository.incrementVersionsByGenreId(id);
         return genreMapper.toResponse(updated);
     }
     
     @Transactional
+    @Workload(WorkloadClass.WRITE)
     public void deleteGenre(Integer id) {
         if (!genreRepository.existsById(id)) {
             throw new ResourceNotFoundException(RESOURSE_NAME, id);
         }
+        gameRepository.incrementVersionsByGenreId(id);
         genreRepository.deleteById(id);
+        eventPublisher.publishEvent(new GenreDeletedEvent(id));
     }
 }
@@ -1,34 +1,60 @@
 package com.project.gamereviewer.service;
 
+import com.project.gamereviewer.config.MetricsConfig;
+import com.project.gamereviewer.datasource.Workload;
+import com.project.gamereviewer.datasource.WorkloadClass;
 import com.project.gamereviewer.dto.request.MediaOutletCreateRequest;
 import com.project.gamereviewer.dto.response.MediaOutletResponse;
 import com.project.gamereviewer.entity.MediaOutlet;
+import com.project.gamereviewer.etag.ETags;
+import com.project.gamereviewer.event.GameChangedEvent;
 import com.project.gamereviewer.exception.DuplicateResourceException;
 import com.project.gamereviewer.exception.ResourceNotFoundException;
 import com.project.gamereviewer.mapper.MediaOutletMapper;
+import com.project.gamereviewer.pagination.PagedQueryExecutor;
+import com.project.gamereviewer.pagination.TotalCountMode;
+import com.project.gamereviewer.repository.GameRepository;
 import com.project.gamereviewer.repository.MediaOutletRepository;
+import com.project.gamereviewer.repository.ReviewRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
+@Timed(MetricsConfig.SERVICE_TIMER)
 public class MediaOutletService {
 
     public static final String RESOURSE_NAME = "MediaOutlet";
     public static final String RESOURSE_NAME_FIELD_NAME = "name";
+    public static final String TABLE_NAME = "media_outlets";
     
     private final MediaOutletRepository mediaOutletRepository;
+    private final GameRepository gameRepository;
+    private final ReviewRepository reviewRepository;
+    private final GameRatingStatsService gameRatingStatsService;
+    private final PagedQueryExecutor pagedQueryExecutor;
+    private final ApplicationEventPublisher eventPublisher;
     private final MediaOutletMapper mediaOutletMapper;
     
-    public Page<MediaOutletResponse> getAllMediaOutlets(Pageable pageable) {
-        return mediaOutletRepository.findAll(pageable)
-            .map(mediaOutletMapper::toResponse);
+    @Workload(WorkloadClass.LISTING)
+    public Optional<Slice<MediaOutletResponse>> getAllMediaOutlets(Pageable pageable, TotalCountMode totalCountMode,
+            Predicate<String> notModified) {
+        Slice<MediaOutlet> outlets = pagedQueryExecutor.findAll(mediaOutletRepository, TABLE_NAME, pageable, totalCountMode);
+        return ETags.unlessNotModified(outlets, notModified)
+            .map(page -> page.map(mediaOutletMapper::toResponse));
     }
     
+    @Workload(WorkloadClass.POINT_LOOKUP)
     public MediaOutletResponse getMediaOutletById(Integer id) {
         return mediaOutletRepository.findById(id)
             .map(mediaOutletMapper::toResponse)
@@ -36,6 +62,7 @@ public class MediaOutletService {
     }
     
     @Transactional
+    @Workload(WorkloadClass.WRITE)
     public MediaOutletResponse createMediaOutlet(MediaOutletCreateRequest request) {
         if (mediaOutletRepository.existsByName(request.name())) {
             throw new DuplicateResourceException(RESOURSE_NAME, RESOURSE_NAME_FIELD_NAME, request.name());
@@ -47,6 +74,7 @@ public class MediaOutletService {
     }
     
     @Transactional
+    @Workload(WorkloadClass.WRITE)
     public MediaOutletResponse updateMediaOutlet(Integer id, MediaOutletCreateRequest request) {
         MediaOutlet mediaOutlet = mediaOutletRepository.findById(id)
             .orElseThrow(() -> new ResourceNotFoundException(RESOURSE_NAME, id));
@@ -60,14 +88,30 @@ public class MediaOutletService {
         mediaOutlet.setFoundedYear(request.foundedYear());
         
         MediaOutlet updated = mediaOutletRepository.save(mediaOutlet);
+        gameRepository.incrementVersionsByMediaOutletId(id);
         return mediaOutletMapper.toResponse(updated);
     }
     
+    /**
+     * The database cascades the delete into the outlet's reviews, so the stats of the games they
+     * belonged to are recounted once the outlet row is gone.
+     */
     @Transactional
+    @Workload(WorkloadClass.WRITE)
     public void deleteMediaOutlet(Integer id) {
         if (!mediaOutletRepository.existsById(id)) {
             throw new ResourceNotFoundException(RESOURSE_NAME, id);
         }
+        List<Integer> gameIds = reviewRepository.findGameIdsByMediaOutletId(id);
         mediaOutletRepository.deleteById(id);
+        if (gameIds.isEmpty()) {
+            return;
+        }
+        
+        mediaOutletRepository.flush();
+        gameRatingStatsService.recalculate(gameIds);
+        GameChangedEvent event = GameChangedEvent.of(gameIds);
+        gameRepository.incrementVersions(event.gameIds());
+        eventPublisher.publishEvent(event);
     }
 }
@@ -1,45 +1,83 @@
 package com.project.gamereviewer.service;
 
+import com.project.gamereviewer.config.MetricsConfig;
+import com.project.gamereviewer.datasource.Workload;
+import com.project.gamereviewer.datasource.WorkloadClass;
 import com.project.gamereviewer.dto.request.ProductionCompanyCreateRequest;
 import com.project.gamereviewer.dto.response.ProductionCompanyResponse;
 import com.project.gamereviewer.entity.CompanyType;
 import com.project.gamereviewer.entity.ProductionCompany;
+import com.project.gamereviewer.event.ProductionCompanyDeletedEvent;
+import com.project.gamereviewer.etag.ETags;
 import com.project.gamereviewer.exception.DuplicateResourceException;
 import com.project.gamereviewer.exception.ResourceNotFoundException;
+import com.project.gamereviewer.fields.FieldSet;
 import com.project.gamereviewer.mapper.ProductionCompanyMapper;
+import com.project.gamereviewer.pagination.PagedQueryExecutor;
+import com.project.gamereviewer.pagination.TotalCountMode;
 import com.project.gamereviewer.repository.CompanyTypeRepository;
+import com.project.gamereviewer.repository.GameRepository;
 import com.project.gamereviewer.repository.ProductionCompanyRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
+@Timed(MetricsConfig.SERVICE_TIMER)
 public class ProductionCompanyService {
 
     public static final String RESOURSE_NAME = "ProductionCompany";
     public static final String RESOURSE_NAME_FIELD_NAME = "name";
+    public static final String TABLE_NAME = "production_companies";
+    public static final String COMPANY_TYPE_NAME_FIELD = "companyTypeName";
     
     private final ProductionCompanyRepository productionCompanyRepository;
+    private final GameRepository gameRepository;
     private final CompanyTypeRepository companyTypeRepository;
+    private final PagedQueryExecutor pagedQueryExecutor;
+    private final ApplicationEventPublisher eventPublisher;
     private final ProductionCompanyMapper productionCompanyMapper;
     
-    public Page<ProductionCompanyResponse> getAllCompanies(Pageable pageable) {
-        return productionCompanyRepository.findAll(pageable)
-            .map(productionCompanyMapper::toResponse);
+    @Workload(WorkloadClass.LISTING)
+    public Optional<Slice<ProductionCompanyResponse>> getAllCompanies(Pageable pageable, TotalCountMode totalCountMode,
+            FieldSet<ProductionCompanyResponse> fields, Predicate<String> notModified) {
+        Slice<ProductionCompany> companies = pagedQueryExecutor.findAll(productionCompanyRepository, TABLE_NAME, pageable, totalCountMode);
+        return ETags.unlessNotModified(companies, fields, notModified)
+            .map(page -> page.map(toResponse(fields)));
     }
     
-    public ProductionCompanyResponse getCompanyById(Integer id) {
+    @Workload(WorkloadClass.POINT_LOOKUP)
+    public ProductionCompanyResponse getCompanyById(Integer id, FieldSet<ProductionCompanyResponse> fields) {
         return productionCompanyRepository.findById(id)
-            .map(productionCompanyMapper::toResponse)
+            .map(toResponse(fields))
             .orElseThrow(() -> new ResourceNotFoundException(RESOURSE_NAME, id));
     }
     
+    /** The company type is only initialized when its name was asked for. */
+    private Function<ProductionCompany, ProductionCompanyResponse> toResponse(FieldSet<ProductionCompanyResponse> fields) {
+        if (fields.isAll()) {
+            return productionCompanyMapper::toResponse;
+        }
+        boolean companyTypeName = fields.includes(COMPANY_TYPE_NAME_FIELD);
+        return company -> fields.apply(productionCompanyMapper.toResponse(
+            company,
+            companyTypeName && company.getCompanyType() != null ? company.getCompanyType().getName() : null
+        ));
+    }
+    
     @Transactional
+    @Workload(WorkloadClass.WRITE)
     public ProductionCompanyResponse createCompany(ProductionCompanyCreateRequest request) {
         if (productionCompanyRepository.existsByName(request.name())) {
             throw new DuplicateResourceException(RESOURSE_NAME, RESOURSE_NAME_FIELD_NAME, request.name());
@@ -58,6 +96,7 @@ public class ProductionCompanyService {
     }
     
     @Transactional
+    @Workload(WorkloadClass.WRITE)
     public ProductionCompanyResponse updateCompany(Integer id, ProductionCompanyCreateRequest request) {
         ProductionCompany company = productionCompanyRepository.findById(id)
             .orElseThrow(() -> new ResourceNotFoundException(RESOURSE_NAME, id));
@@ -80,14 +119,18 @@ public class ProductionCompanyService {
         }
         
         ProductionCompany updated = productionCompanyRepository.save(company);
+        gameRepository.incrementVersionsByCompanyId(id);
         return productionCompanyMapper.toResponse(updated);
     }
     
     @Transactional
+    @Workload(WorkloadClass.WRITE)
     public void deleteCompany(Integer id) {
         if (!productionCompanyRepository.existsById(id)) {
             throw new ResourceNotFoundException(RESOURSE_NAME, id);
         }
+        gameRepository.incrementVersionsByCompanyId(id);
         productionCompanyRepository.deleteById(id);
+        eventPublisher.publishEvent(new ProductionCompanyDeletedEvent(id));
     }
 }
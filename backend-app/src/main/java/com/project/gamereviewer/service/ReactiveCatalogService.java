@@ -0,0 +1,97 @@
+package com.project.gamereviewer.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.project.gamereviewer.constant.ApiConstants;
+import com.project.gamereviewer.dto.response.CompanyTypeResponse;
+import com.project.gamereviewer.dto.response.GameDetailResponse;
+import com.project.gamereviewer.dto.response.GameListResponse;
+import com.project.gamereviewer.dto.response.GenreResponse;
+import com.project.gamereviewer.dto.response.MediaOutletResponse;
+import com.project.gamereviewer.dto.response.ProductionCompanyResponse;
+import com.project.gamereviewer.dto.response.ReviewResponse;
+import com.project.gamereviewer.dto.response.SystemRequirementTypeResponse;
+import com.project.gamereviewer.exception.ResourceNotFoundException;
+import com.project.gamereviewer.repository.ReactiveCatalogRepository;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking counterpart of the catalog read services. Every query runs in its own auto-commit
+ * statement; a game detail issues its four queries concurrently on separate pooled connections,
+ * like {@link GameDetailService}, but without a thread waiting on each.
+ */
+@Service
+public class ReactiveCatalogService {
+
+    private final ReactiveCatalogRepository reactiveCatalogRepository;
+    private final int topReviews;
+
+    public ReactiveCatalogService(
+            ReactiveCatalogRepository reactiveCatalogRepository,
+            @Value("${app.game-detail.top-reviews:5}") int topReviews
+    ) {
+        this.reactiveCatalogRepository = reactiveCatalogRepository;
+        this.topReviews = topReviews;
+    }
+
+    public Flux<GameListResponse> getGames(int afterId, Integer limit) {
+        return reactiveCatalogRepository.findGames(afterId, limit);
+    }
+
+    public Mono<GameDetailResponse> getGameById(Integer id) {
+        return Mono.zip(
+                reactiveCatalogRepository.findGame(id)
+                    .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException(GameService.RESOURSE_NAME, id))),
+                reactiveCatalogRepository.findGenresByGameId(id).collectList(),
+                reactiveCatalogRepository.findSystemRequirementsByGameId(id).collectList(),
+                reactiveCatalogRepository.findReviewsByGameId(id, topReviews).collectList()
+            )
+            .map(detail -> {
+                GameDetailResponse game = detail.getT1();
+                return new GameDetailResponse(
+                    game.id(),
+                    game.title(),
+                    game.releaseYear(),
+                    game.description(),
+                    game.developer(),
+                    game.publisher(),
+                    detail.getT2(),
+                    detail.getT3(),
+                    detail.getT4(),
+                    game.reviewCount(),
+                    ApiConstants.REVIEWS + "/game/" + game.id(),
+                    game.averageRating()
+                );
+            });
+    }
+
+    public Flux<ReviewResponse> getReviewsByGameId(Integer gameId) {
+        return reactiveCatalogRepository.existsGame(gameId)
+            .flatMapMany(exists -> exists
+                ? reactiveCatalogRepository.findReviewsByGameId(gameId, null)
+                : Flux.error(new ResourceNotFoundException(GameService.RESOURSE_NAME, gameId)));
+    }
+
+    public Flux<GenreResponse> getAllGenres() {
+        return reactiveCatalogRepository.findGenres();
+    }
+
+    public Flux<CompanyTypeResponse> getAllCompanyTypes() {
+        return reactiveCatalogRepository.findCompanyTypes();
+    }
+
+    public Flux<SystemRequirementTypeResponse> getAllSystemRequirementTypes() {
+        return reactiveCatalogRepository.findSystemRequirementTypes();
+    }
+
+    public Flux<MediaOutletResponse> getAllMediaOutlets() {
+        return reactiveCatalogRepository.findMediaOutlets();
+    }
+
+    public Flux<ProductionCompanyResponse> getAllCompanies() {
+        return reactiveCatalogRepository.findProductionCompanies();
+    }
+}
@@ -0,0 +1,267 @@
+package com.project.gamereviewer.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvParser;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.project.gamereviewer.config.MetricsConfig;
+import com.project.gamereviewer.dto.request.ReviewCreateRequest;
+import com.project.gamereviewer.dto.response.ReviewIngestionErrorResponse;
+import com.project.gamereviewer.dto.response.ReviewIngestionResponse;
+import com.project.gamereviewer.event.GameChangedEvent;
+import com.project.gamereviewer.repository.GameRatingStatsRepository;
+import com.project.gamereviewer.repository.GameRepository;
+import com.project.gamereviewer.repository.ReviewStagingRepository;
+import com.project.gamereviewer.repository.ReviewStagingRepository.MergedReview;
+import com.project.gamereviewer.repository.ReviewStagingRepository.RejectedReview;
+import com.project.gamereviewer.repository.ReviewStagingRepository.StagedReview;
+
+import io.micrometer.core.annotation.Timed;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Ingests review feeds in one transaction: records are parsed and validated as they are read,
+ * streamed into a staging table with COPY and merged into {@code reviews}, updating the review of a
+ * (game, media outlet) pair that already exists. Rating stats and versions of the touched games are
+ * recalculated set-based afterwards.
+ */
+@Slf4j
+@Service
+@Timed(MetricsConfig.SERVICE_TIMER)
+public class ReviewIngestionService {
+
+    public static final String RESOURCE_NOT_FOUND_EXCEPTION_MESSAGE = "%s with id %d not found";
+    public static final String SUPERSEDED_EXCEPTION_MESSAGE = "Superseded by a later record for game %d and media outlet %d";
+    public static final String MALFORMED_RECORD_EXCEPTION_MESSAGE = "Malformed input, ingestion stopped: %s";
+
+    private static final int GAME_ID_CHUNK_SIZE = 1000;
+
+    public enum FeedFormat {
+        JSON,
+        CSV
+    }
+
+    private final ObjectMapper objectMapper;
+    private final ObjectReader jsonReader;
+    private final ObjectReader csvReader;
+    private final Validator validator;
+    private final ReviewStagingRepository reviewStagingRepository;
+    private final GameRatingStatsRepository gameRatingStatsRepository;
+    private final GameRepository gameRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int maxReportedErrors;
+
+    public ReviewIngestionService(
+            ObjectMapper objectMapper,
+            Validator validator,
+            ReviewStagingRepository reviewStagingRepository,
+            GameRatingStatsRepository gameRatingStatsRepository,
+            GameRepository gameRepository,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${app.review-ingestion.max-reported-errors:1000}") int maxReportedErrors
+    ) {
+        this.objectMapper = objectMapper;
+        this.jsonReader = objectMapper.readerFor(JsonNode.class);
+        this.csvReader = new CsvMapper()
+            .readerFor(JsonNode.class)
+            .with(CsvSchema.emptySchema().withHeader())
+            .with(CsvParser.Feature.EMPTY_STRING_AS_NULL);
+        this.validator = validator;
+        this.reviewStagingRepository = reviewStagingRepository;
+        this.gameRatingStatsRepository = gameRatingStatsRepository;
+        this.gameRepository = gameRepository;
+        this.eventPublisher = eventPublisher;
+        this.maxReportedErrors = maxReportedErrors;
+    }
+
+    /**
+     * Loads every record of the feed. JSON feeds are NDJSON or a JSON array of
+     * {@link ReviewCreateRequest}; CSV feeds need a header row naming the same properties.
+     * Records are numbered from 1 in input order; for a (game, media outlet) pair that occurs
+     * more than once, the last record wins.
+     */
+    @Transactional
+    public ReviewIngestionResponse ingest(InputStream input, FeedFormat format) throws IOException {
+        long startedAt = System.nanoTime();
+        Report report = new Report(maxReportedErrors);
+
+        reviewStagingRepository.createStagingTable();
+        FeedIterator feed;
+        try (MappingIterator<JsonNode> nodes = (format == FeedFormat.CSV ? csvReader : jsonReader).readValues(input)) {
+            feed = new FeedIterator(nodes, report);
+            reviewStagingRepository.copy(feed);
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+        reviewStagingRepository.analyze();
+
+        reviewStagingRepository.findRejected(rejected -> report.reject(rejected.record(), rejectionMessage(rejected)));
+
+        List<MergedReview> merged = reviewStagingRepository.merge();
+        long inserted = merged.stream().filter(MergedReview::inserted).count();
+        Set<Integer> gameIds = merged.stream().map(MergedReview::gameId).collect(Collectors.toCollection(TreeSet::new));
+        refreshGames(gameIds);
+
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - startedAt);
+        double rowsPerSecond = feed.record * 1_000_000_000.0 / Math.max(elapsed.toNanos(), 1);
+        log.info("Ingested {} review record(s) in {} ms ({} rows/s): {} inserted, {} updated, {} rejected",
+            feed.record, elapsed.toMillis(), Math.round(rowsPerSecond), inserted, merged.size() - inserted, report.rejected);
+
+        return new ReviewIngestionResponse(
+            feed.record,
+            inserted,
+            merged.size() - inserted,
+            feed.record - report.rejected - merged.size(),
+            report.rejected,
+            report.sortedErrors(),
+            report.rejected > report.errors.size(),
+            elapsed.toMillis(),
+            rowsPerSecond
+        );
+    }
+
+    private void refreshGames(Set<Integer> gameIds) {
+        if (gameIds.isEmpty()) {
+            return;
+        }
+        List<Integer> ids = List.copyOf(gameIds);
+        for (int from = 0; from < ids.size(); from += GAME_ID_CHUNK_SIZE) {
+            List<Integer> chunk = ids.subList(from, Math.min(from + GAME_ID_CHUNK_SIZE, ids.size()));
+            gameRatingStatsRepository.recalculate(chunk);
+            gameRepository.incrementVersions(chunk);
+        }
+        eventPublisher.publishEvent(GameChangedEvent.of(ids));
+    }
+
+    private static String rejectionMessage(RejectedReview rejected) {
+        return switch (rejected.reason()) {
+            case GAME_NOT_FOUND -> String.format(RESOURCE_NOT_FOUND_EXCEPTION_MESSAGE,
+                GameService.RESOURSE_NAME, rejected.gameId());
+            case MEDIA_OUTLET_NOT_FOUND -> String.format(RESOURCE_NOT_FOUND_EXCEPTION_MESSAGE,
+                MediaOutletService.RESOURSE_NAME, rejected.mediaOutletId());
+            case SUPERSEDED -> String.format(SUPERSEDED_EXCEPTION_MESSAGE,
+                rejected.gameId(), rejected.mediaOutletId());
+        };
+    }
+
+    /**
+     * Parses, binds and validates lazily so that only the COPY buffer is held in memory;
+     * rows that fail are reported and skipped.
+     */
+    private final class FeedIterator implements Iterator<StagedReview> {
+
+        private final MappingIterator<JsonNode> nodes;
+        private final Report report;
+        private long record;
+        private StagedReview next;
+        private boolean done;
+
+        FeedIterator(MappingIterator<JsonNode> nodes, Report report) {
+            this.nodes = nodes;
+            this.report = report;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (next == null && !done) {
+                advance();
+            }
+            return next != null;
+        }
+
+        @Override
+        public StagedReview next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            StagedReview row = next;
+            next = null;
+            return row;
+        }
+
+        private void advance() {
+            JsonNode node;
+            try {
+                if (!nodes.hasNextValue()) {
+                    done = true;
+                    return;
+                }
+                node = nodes.nextValue();
+            } catch (JsonProcessingException ex) {
+                // the parser cannot resynchronise after broken syntax
+                record++;
+                report.reject(record, String.format(MALFORMED_RECORD_EXCEPTION_MESSAGE, ex.getOriginalMessage()));
+                done = true;
+                return;
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+            record++;
+
+            ReviewCreateRequest request;
+            try {
+                request = objectMapper.treeToValue(node, ReviewCreateRequest.class);
+            } catch (JsonProcessingException ex) {
+                report.reject(record, ex.getOriginalMessage());
+                return;
+            }
+
+            Set<ConstraintViolation<ReviewCreateRequest>> violations = validator.validate(request);
+            if (!violations.isEmpty()) {
+                report.reject(record, violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining("; ")));
+                return;
+            }
+            next = new StagedReview(record, request);
+        }
+    }
+
+    private static final class Report {
+
+        private final int maxErrors;
+        private final List<ReviewIngestionErrorResponse> errors = new ArrayList<>();
+        private long rejected;
+
+        Report(int maxErrors) {
+            this.maxErrors = maxErrors;
+        }
+
+        void reject(long record, String message) {
+            rejected++;
+            if (errors.size() < maxErrors) {
+                errors.add(new ReviewIngestionErrorResponse(record, message));
+            }
+        }
+
+        List<ReviewIngestionErrorResponse> sortedErrors() {
+            errors.sort(Comparator.comparingLong(ReviewIngestionErrorResponse::record));
+            return errors;
+        }
+    }
+}
@@ -1,56 +1,131 @@
 package com.project.gamereviewer.service;
 
+import com.project.gamereviewer.config.MetricsConfig;
+import com.project.gamereviewer.datasource.Workload;
+import com.project.gamereviewer.datasource.WorkloadClass;
 import com.project.gamereviewer.dto.request.ReviewCreateRequest;
 import com.project.gamereviewer.dto.response.ReviewResponse;
 import com.project.gamereviewer.entity.Game;
 import com.project.gamereviewer.entity.MediaOutlet;
 import com.project.gamereviewer.entity.Review;
+import com.project.gamereviewer.event.GameChangedEvent;
 import com.project.gamereviewer.exception.DuplicateResourceException;
 import com.project.gamereviewer.exception.ResourceNotFoundException;
+import com.project.gamereviewer.fields.FieldSet;
+import com.project.gamereviewer.mapper.MediaOutletMapper;
 import com.project.gamereviewer.mapper.ReviewMapper;
+import com.project.gamereviewer.pagination.KeysetPage;
+import com.project.gamereviewer.pagination.KeysetRequest;
+import com.project.gamereviewer.pagination.PagedQueryExecutor;
+import com.project.gamereviewer.pagination.TotalCountMode;
 import com.project.gamereviewer.repository.GameRepository;
 import com.project.gamereviewer.repository.MediaOutletRepository;
 import com.project.gamereviewer.repository.ReviewRepository;
+import com.project.gamereviewer.specification.ReviewSpecification;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
+@Timed(MetricsConfig.SERVICE_TIMER)
 public class ReviewService {
 
     public static final String RESOURSE_NAME = "Review";
     public static final String REVIEW_ON_SAME_GAME_BY_SAME_MEDIA_OUTLET_EXCEPTION_MESSAGE = "This media outlet already reviewed this game";
+    public static final String TABLE_NAME = "reviews";
+    public static final String GAME_TITLE_FIELD = "gameTitle";
+    public static final String MEDIA_OUTLET_FIELD = "mediaOutlet";
+    public static final Set<String> KEYSET_SORT_FIELDS = Set.of("score", "summary");
     
     private final ReviewRepository reviewRepository;
     private final GameRepository gameRepository;
     private final MediaOutletRepository mediaOutletRepository;
+    private final GameRatingStatsService gameRatingStatsService;
+    private final PagedQueryExecutor pagedQueryExecutor;
+    private final ApplicationEventPublisher eventPublisher;
     private final ReviewMapper reviewMapper;
+    private final MediaOutletMapper mediaOutletMapper;
     
-    public Page<ReviewResponse> getAllReviews(Pageable pageable) {
-        return reviewRepository.findAll(pageable)
-            .map(reviewMapper::toResponse);
+    @Workload(WorkloadClass.LISTING)
+    public Slice<ReviewResponse> getAllReviews(Pageable pageable, TotalCountMode totalCountMode,
+            FieldSet<ReviewResponse> fields) {
+        return pagedQueryExecutor.findAll(reviewRepository, TABLE_NAME, fetchFor(fields), pageable, totalCountMode)
+            .map(toResponse(fields));
     }
     
-    public Page<ReviewResponse> getReviewsByGameId(Integer gameId, Pageable pageable) {
+    @Workload(WorkloadClass.LISTING)
+    public Slice<ReviewResponse> getReviewsByGameId(Integer gameId, Pageable pageable, TotalCountMode totalCountMode,
+            FieldSet<ReviewResponse> fields) {
         if (!gameRepository.existsById(gameId)) {
             throw new ResourceNotFoundException(GameService.RESOURSE_NAME, gameId);
         }
-        return reviewRepository.findByGameId(gameId, pageable)
-            .map(reviewMapper::toResponse);
+        return pagedQueryExecutor.findAll(reviewRepository, ReviewSpecification.forGame(gameId).and(fetchFor(fields)),
+                TABLE_NAME + ":game:" + gameId, pageable, totalCountMode)
+            .map(toResponse(fields));
     }
     
-    public ReviewResponse getReviewById(Integer id) {
+    @Workload(WorkloadClass.LISTING)
+    public KeysetPage<ReviewResponse> scrollReviews(KeysetRequest keyset, FieldSet<ReviewResponse> fields) {
+        return scrollReviews(Specification.where(null), keyset, fields);
+    }
+    
+    @Workload(WorkloadClass.LISTING)
+    public KeysetPage<ReviewResponse> scrollReviewsByGameId(Integer gameId, KeysetRequest keyset,
+            FieldSet<ReviewResponse> fields) {
+        if (!gameRepository.existsById(gameId)) {
+            throw new ResourceNotFoundException(GameService.RESOURSE_NAME, gameId);
+        }
+        return scrollReviews(ReviewSpecification.forGame(gameId), keyset, fields);
+    }
+    
+    private KeysetPage<ReviewResponse> scrollReviews(Specification<Review> spec, KeysetRequest keyset,
+            FieldSet<ReviewResponse> fields) {
+        List<Review> reviews = reviewRepository.findBy(
+            spec.and(keyset.toSpecification()).and(fetchFor(fields)),
+            query -> query.sortBy(keyset.sort()).limit(keyset.limit()).all()
+        );
+        
+        return keyset.toPage(reviews, Review::getId)
+            .map(toResponse(fields));
+    }
+    
+    @Workload(WorkloadClass.POINT_LOOKUP)
+    public ReviewResponse getReviewById(Integer id, FieldSet<ReviewResponse> fields) {
         return reviewRepository.findById(id)
-            .map(reviewMapper::toResponse)
+            .map(toResponse(fields))
             .orElseThrow(() -> new ResourceNotFoundException(RESOURSE_NAME, id));
     }
     
+    /** Joins the game and media outlet only for rows that will show them. */
+    private static Specification<Review> fetchFor(FieldSet<ReviewResponse> fields) {
+        return ReviewSpecification.fetch(fields.includes(GAME_TITLE_FIELD), fields.includes(MEDIA_OUTLET_FIELD));
+    }
+    
+    /** The game id comes from the foreign key, so an unrequested game or outlet is never loaded. */
+    private Function<Review, ReviewResponse> toResponse(FieldSet<ReviewResponse> fields) {
+        boolean gameTitle = fields.includes(GAME_TITLE_FIELD);
+        boolean mediaOutlet = fields.includes(MEDIA_OUTLET_FIELD);
+        return review -> fields.apply(reviewMapper.toResponse(
+            review,
+            review.getGame().getId(),
+            gameTitle ? review.getGame().getTitle() : null,
+            mediaOutlet ? mediaOutletMapper.toResponse(review.getMediaOutlet()) : null
+        ));
+    }
+    
     @Transactional
+    @Workload(WorkloadClass.WRITE)
     public ReviewResponse createReview(ReviewCreateRequest request) {
         if (reviewRepository.existsByGameIdAndMediaOutletId(request.gameId(), request.mediaOutletId())) {
             throw new DuplicateResourceException(
@@ -69,10 +144,15 @@ public class ReviewService {
         review.setMediaOutlet(mediaOutlet);
         
         Review saved = reviewRepository.save(review);
+        gameRatingStatsService.recordReview(game.getId(), saved.getScore());
+        GameChangedEvent event = GameChangedEvent.of(game.getId());
+        gameRepository.incrementVersions(event.gameIds());
+        eventPublisher.publishEvent(event);
         return reviewMapper.toResponse(saved);
     }
     
     @Transactional
+    @Workload(WorkloadClass.WRITE)
     public ReviewResponse updateReview(Integer id, ReviewCreateRequest request) {
         Review review = reviewRepository.findById(id)
             .orElseThrow(() -> new ResourceNotFoundException(RESOURSE_NAME, id));
@@ -90,20 +170,35 @@ public class ReviewService {
         MediaOutlet mediaOutlet = mediaOutletRepository.findById(request.mediaOutletId())
             .orElseThrow(() -> new ResourceNotFoundException(MediaOutletService.RESOURSE_NAME, request.mediaOutletId()));
         
+        Integer oldGameId = review.getGame().getId();
+        int oldScore = review.getScore();
+        
         review.setGame(game);
         review.setMediaOutlet(mediaOutlet);
         review.setScore(request.score());
         review.setSummary(request.summary());
         
         Review updated = reviewRepository.save(review);
+        gameRatingStatsService.replaceReview(oldGameId, oldScore, game.getId(), updated.getScore());
+        GameChangedEvent event = GameChangedEvent.of(oldGameId, game.getId());
+        gameRepository.incrementVersions(event.gameIds());
+        eventPublisher.publishEvent(event);
         return reviewMapper.toResponse(updated);
     }
     
     @Transactional
+    @Workload(WorkloadClass.WRITE)
     public void deleteReview(Integer id) {
-        if (!reviewRepository.existsById(id)) {
-            throw new ResourceNotFoundException(RESOURSE_NAME, id);
-        }
-        reviewRepository.deleteById(id);
+        Review review = reviewRepository.findById(id)
+            .orElseThrow(() -> new ResourceNotFoundException(RESOURSE_NAME, id));
+        
+        Integer gameId = review.getGame().getId();
+        int score = review.getScore();
+        
+        reviewRepository.delete(review);
+        gameRatingStatsService.removeReview(gameId, score);
+        GameChangedEvent event = GameChangedEvent.of(gameId);
+        gameRepository.incrementVersions(event.gameIds());
+        eventPublisher.publishEvent(event);
     }
 }
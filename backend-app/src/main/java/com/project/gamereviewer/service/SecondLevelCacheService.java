@@ -0,0 +1,55 @@
+package com.project.gamereviewer.service;
+
+import com.project.gamereviewer.config.MetricsConfig;
+import com.project.gamereviewer.constant.CacheRegions;
+import com.project.gamereviewer.dto.response.CacheRegionStatisticsResponse;
+import com.project.gamereviewer.event.GenreDeletedEvent;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+@Service
+@RequiredArgsConstructor
+@Timed(MetricsConfig.SERVICE_TIMER)
+public class SecondLevelCacheService {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    public List<CacheRegionStatisticsResponse> getStatistics() {
+        Statistics statistics = sessionFactory().getStatistics();
+        return Stream.concat(Stream.of(CacheRegions.ENTITY_REGIONS), Stream.of(CacheRegions.QUERY_RESULTS))
+            .map(region -> {
+                CacheRegionStatistics regionStatistics = statistics.getCacheRegionStatistics(region);
+                return regionStatistics == null ? null : new CacheRegionStatisticsResponse(
+                    region,
+                    regionStatistics.getHitCount(),
+                    regionStatistics.getMissCount(),
+                    regionStatistics.getPutCount()
+                );
+            })
+            .filter(Objects::nonNull)
+            .toList();
+    }
+
+    /**
+     * The database cascades a genre delete into games_genres behind Hibernate's back, so cached
+     * game genre collections may still reference the removed genre.
+     */
+    @TransactionalEventListener
+    public void onGenreDeleted(GenreDeletedEvent event) {
+        sessionFactory().getCache().evictRegion(CacheRegions.GAME_GENRES);
+    }
+
+    private SessionFactory sessionFactory() {
+        return entityManagerFactory.unwrap(SessionFactory.class);
+    }
+}
@@ -0,0 +1,76 @@
+package com.project.gamereviewer.service;
+
+import com.project.gamereviewer.config.MetricsConfig;
+import com.project.gamereviewer.dto.response.SlowQueryResponse;
+import com.project.gamereviewer.dto.response.SlowQuerySummaryResponse;
+import com.project.gamereviewer.sql.SlowQuery;
+import com.project.gamereviewer.sql.SlowQueryRecorder;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+@RequiredArgsConstructor
+@Timed(MetricsConfig.SERVICE_TIMER)
+public class SlowQueryService {
+
+    private final SlowQueryRecorder slowQueryRecorder;
+
+    public List<SlowQueryResponse> getSlowQueries(String context) {
+        return slowQueryRecorder.recent().stream()
+            .filter(query -> context == null || context.equals(query.context()))
+            .map(query -> new SlowQueryResponse(
+                query.recordedAt(),
+                query.duration().toMillis(),
+                query.context(),
+                query.sql(),
+                query.parameters().stream().map(String::valueOf).toList(),
+                query.plan()
+            ))
+            .toList();
+    }
+
+    /**
+     * Slow queries grouped by context and statement shape, the group with the most time spent first.
+     * For game filters this ranks the filter combinations that most need an index.
+     */
+    public List<SlowQuerySummaryResponse> getSummary() {
+        Map<Group, List<SlowQuery>> groups = new LinkedHashMap<>();
+        for (SlowQuery query : slowQueryRecorder.recent()) {
+            groups.computeIfAbsent(new Group(query.context(), query.shape()), group -> new ArrayList<>()).add(query);
+        }
+
+        return groups.values().stream()
+            .sorted(Comparator.comparingLong(SlowQueryService::totalMillis).reversed())
+            .map(queries -> {
+                SlowQuery latest = queries.get(0);
+                long total = totalMillis(queries);
+                return new SlowQuerySummaryResponse(
+                    latest.context(),
+                    latest.shape(),
+                    queries.size(),
+                    queries.stream().mapToLong(query -> query.duration().toMillis()).max().orElse(0),
+                    total / queries.size(),
+                    latest.recordedAt()
+                );
+            })
+            .toList();
+    }
+
+    public void clear() {
+        slowQueryRecorder.clear();
+    }
+
+    private record Group(String context, String shape) {
+    }
+
+    private static long totalMillis(List<SlowQuery> queries) {
+        return queries.stream().mapToLong(query -> query.duration().toMillis()).sum();
+    }
+}
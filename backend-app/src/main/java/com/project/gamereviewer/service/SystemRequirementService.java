@@ -1,5 +1,8 @@
 package com.project.gamereviewer.service;
 
+import com.project.gamereviewer.config.MetricsConfig;
+import com.project.gamereviewer.datasource.Workload;
+import com.project.gamereviewer.datasource.WorkloadClass;
 import com.project.gamereviewer.dto.request.SystemRequirementCreateRequest;
 import com.project.gamereviewer.dto.response.SystemRequirementResponse;
 import com.project.gamereviewer.entity.Game;
@@ -8,42 +11,85 @@ import com.project.gamereviewer.entity.SystemRequirementType;
 import com.project.gamereviewer.exception.DuplicateResourceException;
 import com.project.gamereviewer.exception.ResourceNotFoundException;
 import com.project.gamereviewer.mapper.SystemRequirementMapper;
+import com.project.gamereviewer.pagination.KeysetPage;
+import com.project.gamereviewer.pagination.KeysetRequest;
+import com.project.gamereviewer.pagination.PagedQueryExecutor;
+import com.project.gamereviewer.pagination.TotalCountMode;
 import com.project.gamereviewer.repository.GameRepository;
 import com.project.gamereviewer.repository.SystemRequirementRepository;
 import com.project.gamereviewer.repository.SystemRequirementTypeRepository;
+import com.project.gamereviewer.specification.SystemRequirementSpecification;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
+@Timed(MetricsConfig.SERVICE_TIMER)
 public class SystemRequirementService {
 
     public static final String RESOURSE_NAME = "SystemRequirement";
     public static final String SYSTEM_REQUIREMENT_FOR_SAME_GAME_WITH_SAME_TYPE_EXCEPTION_MESSAGE = "System requirement for this game and type already exists";
+    public static final String TABLE_NAME = "system_requirements";
+    public static final Set<String> KEYSET_SORT_FIELDS = Set.of("storageGb", "ramGb", "cpuGhz", "gpuTflops", "vramGb");
     
     private final SystemRequirementRepository systemRequirementRepository;
     private final GameRepository gameRepository;
     private final SystemRequirementTypeRepository systemRequirementTypeRepository;
+    private final PagedQueryExecutor pagedQueryExecutor;
     private final SystemRequirementMapper systemRequirementMapper;
     
-    public Page<SystemRequirementResponse> getAllSystemRequirements(Pageable pageable) {
-        return systemRequirementRepository.findAll(pageable)
+    @Workload(WorkloadClass.LISTING)
+    public Slice<SystemRequirementResponse> getAllSystemRequirements(Pageable pageable, TotalCountMode totalCountMode) {
+        return pagedQueryExecutor.findAll(systemRequirementRepository, TABLE_NAME, pageable, totalCountMode)
             .map(systemRequirementMapper::toResponse);
     }
     
-    public Page<SystemRequirementResponse> getSystemRequirementsByGameId(Integer gameId, Pageable pageable) {
+    @Workload(WorkloadClass.LISTING)
+    public Slice<SystemRequirementResponse> getSystemRequirementsByGameId(Integer gameId, Pageable pageable,
+            TotalCountMode totalCountMode) {
         if (!gameRepository.existsById(gameId)) {
             throw new ResourceNotFoundException(GameService.RESOURSE_NAME, gameId);
         }
-        return systemRequirementRepository.findByGameId(gameId, pageable)
+        return pagedQueryExecutor.findAll(systemRequirementRepository, SystemRequirementSpecification.forGame(gameId),
+                TABLE_NAME + ":game:" + gameId, pageable, totalCountMode)
             .map(systemRequirementMapper::toResponse);
     }
     
+    @Workload(WorkloadClass.LISTING)
+    public KeysetPage<SystemRequirementResponse> scrollSystemRequirements(KeysetRequest keyset) {
+        return scrollSystemRequirements(Specification.where(null), keyset);
+    }
+    
+    @Workload(WorkloadClass.LISTING)
+    public KeysetPage<SystemRequirementResponse> scrollSystemRequirementsByGameId(Integer gameId, KeysetRequest keyset) {
+        if (!gameRepository.existsById(gameId)) {
+            throw new ResourceNotFoundException(GameService.RESOURSE_NAME, gameId);
+        }
+        return scrollSystemRequirements(SystemRequirementSpecification.forGame(gameId), keyset);
+    }
+    
+    private KeysetPage<SystemRequirementResponse> scrollSystemRequirements(
+            Specification<SystemRequirement> spec, KeysetRequest keyset) {
+        List<SystemRequirement> requirements = systemRequirementRepository.findBy(
+            spec.and(keyset.toSpecification()),
+            query -> query.sortBy(keyset.sort()).limit(keyset.limit()).all()
+        );
+        
+        return keyset.toPage(requirements, SystemRequirement::getId)
+            .map(systemRequirementMapper::toResponse);
+    }
+    
+    @Workload(WorkloadClass.POINT_LOOKUP)
     public SystemRequirementResponse getSystemRequirementById(Integer id) {
         return systemRequirementRepository.findById(id)
             .map(systemRequirementMapper::toResponse)
@@ -51,6 +97,7 @@ public class SystemRequirementService {
     }
     
     @Transactional
+    @Workload(WorkloadClass.WRITE)
     public SystemRequirementResponse createSystemRequirement(SystemRequirementCreateRequest request) {
         if (systemRequirementRepository.existsByGameIdAndSystemRequirementTypeId(
                 request.gameId(), request.systemRequirementTypeId())) {
@@ -70,10 +117,12 @@ public class SystemRequirementService {
         systemRequirement.setSystemRequirementType(type);
         
         SystemRequirement saved = systemRequirementRepository.save(systemRequirement);
+        gameRepository.incrementVersions(List.of(game.getId()));
         return systemRequirementMapper.toResponse(saved);
     }
     
     @Transactional
+    @Workload(WorkloadClass.WRITE)
     public SystemRequirementResponse updateSystemRequirement(Integer id, SystemRequirementCreateRequest request) {
         SystemRequirement systemRequirement = systemRequirementRepository.findById(id)
             .orElseThrow(() -> new ResourceNotFoundException(RESOURSE_NAME, id));
@@ -91,6 +140,8 @@ public class SystemRequirementService {
         SystemRequirementType type = systemRequirementTypeRepository.findById(request.systemRequirementTypeId())
             .orElseThrow(() -> new ResourceNotFoundException(SystemRequirementTypeService.RESOURSE_NAME, request.systemRequirementTypeId()));
         
+        Set<Integer> affectedGameIds = new HashSet<>(List.of(systemRequirement.getGame().getId(), game.getId()));
+        
         systemRequirement.setGame(game);
         systemRequirement.setSystemRequirementType(type);
         systemRequirement.setStorageGb(request.storageGb());
@@ -100,14 +151,17 @@ public class SystemRequirementService {
         systemRequirement.setVramGb(request.vramGb());
         
         SystemRequirement updated = systemRequirementRepository.save(systemRequirement);
+        gameRepository.incrementVersions(affectedGameIds);
         return systemRequirementMapper.toResponse(updated);
     }
     
     @Transactional
+    @Workload(WorkloadClass.WRITE)
     public void deleteSystemRequirement(Integer id) {
-        if (!systemRequirementRepository.existsById(id)) {
-            throw new ResourceNotFoundException(RESOURSE_NAME, id);
-        }
-        systemRequirementRepository.deleteById(id);
+        SystemRequirement systemRequirement = systemRequirementRepository.findById(id)
+            .orElseThrow(() -> new ResourceNotFoundException(RESOURSE_NAME, id));
+        
+        systemRequirementRepository.delete(systemRequirement);
+        gameRepository.incrementVersions(List.of(systemRequirement.getGame().getId()));
     }
 }
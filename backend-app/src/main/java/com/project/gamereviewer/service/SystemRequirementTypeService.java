@@ -1,9 +1,13 @@
 package com.project.gamereviewer.service;
 
+import com.project.gamereviewer.config.MetricsConfig;
+import com.project.gamereviewer.datasource.Workload;
+import com.project.gamereviewer.datasource.WorkloadClass;
 import com.project.gamereviewer.dto.response.SystemRequirementTypeResponse;
 import com.project.gamereviewer.exception.ResourceNotFoundException;
 import com.project.gamereviewer.mapper.SystemRequirementTypeMapper;
 import com.project.gamereviewer.repository.SystemRequirementTypeRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -13,6 +17,7 @@ import java.util.List;
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
+@Timed(MetricsConfig.SERVICE_TIMER)
 public class SystemRequirementTypeService {
 
     public static final String RESOURSE_NAME = "SystemRequirementType";
@@ -20,12 +25,14 @@ public class SystemRequirementTypeService {
     private final SystemRequirementTypeRepository systemRequirementTypeRepository;
     private final SystemRequirementTypeMapper systemRequirementTypeMapper;
     
+    @Workload(WorkloadClass.LISTING)
     public List<SystemRequirementTypeResponse> getAllSystemRequirementTypes() {
         return systemRequirementTypeRepository.findAll().stream()
             .map(systemRequirementTypeMapper::toResponse)
             .toList();
     }
     
+    @Workload(WorkloadClass.POINT_LOOKUP)
     public SystemRequirementTypeResponse getSystemRequirementTypeById(Integer id) {
         return systemRequirementTypeRepository.findById(id)
             .map(systemRequirementTypeMapper::toResponse)
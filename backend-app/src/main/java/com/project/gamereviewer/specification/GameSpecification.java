@@ -3,25 +3,30 @@ package com.project.gamereviewer.specification;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 
 import com.project.gamereviewer.dto.filter.GameFilterDto;
 import com.project.gamereviewer.entity.Game;
 import com.project.gamereviewer.entity.Genre;
-import com.project.gamereviewer.entity.Review;
 
+import jakarta.persistence.criteria.Expression;
 import jakarta.persistence.criteria.Join;
 import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Path;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
 import jakarta.persistence.criteria.Subquery;
 
 public class GameSpecification {
 
+    public static final String RELEVANCE_SORT = "relevance";
+    private static final char LIKE_ESCAPE = '\\';
+
     private GameSpecification() {
     }
 
-    public static Specification<Game> withFilters(GameFilterDto filter) {
+    public static <T> Specification<T> withFilters(GameFilterDto filter) {
         return (root, query, criteriaBuilder) -> {
             List<Predicate> predicates = new ArrayList<>();
 
@@ -29,7 +34,8 @@ public class GameSpecification {
                 predicates.add(
                     criteriaBuilder.like(
                         criteriaBuilder.lower(root.get("title")),
-                        "%" + filter.title().toLowerCase() + "%"
+                        "%" + escapeLike(filter.title().toLowerCase()) + "%",
+                        LIKE_ESCAPE
                     )
                 );
             }
@@ -47,16 +53,21 @@ public class GameSpecification {
             }
 
             if (filter.genreIds() != null && !filter.genreIds().isEmpty()) {
-                Join<Game, Genre> genreJoin = root.join("genres", JoinType.INNER);
-                predicates.add(genreJoin.get("id").in(filter.genreIds()));
+                Subquery<Integer> genreSubquery = query.subquery(Integer.class);
+                Root<Game> genreRoot = genreSubquery.from(Game.class);
+                Join<Game, Genre> genreJoin = genreRoot.join("genres", JoinType.INNER);
                 
-                query.groupBy(root.get("id"));
-                query.having(
-                    criteriaBuilder.equal(
-                        criteriaBuilder.countDistinct(genreJoin.get("id")),
-                        (long) filter.genreIds().size()
-                    )
-                );
+                genreSubquery.select(genreRoot.get("id"))
+                    .where(genreJoin.get("id").in(filter.genreIds()))
+                    .groupBy(genreRoot.get("id"))
+                    .having(
+                        criteriaBuilder.equal(
+                            criteriaBuilder.countDistinct(genreJoin.get("id")),
+                            (long) filter.genreIds().size()
+                        )
+                    );
+                
+                predicates.add(root.get("id").in(genreSubquery));
             }
 
             if (filter.developerId() != null) {
@@ -72,27 +83,97 @@ public class GameSpecification {
             }
 
             if (filter.ratingFrom() != null || filter.ratingTo() != null) {
-                Subquery<Double> ratingSubquery = query.subquery(Double.class);
-                Root<Review> reviewRoot = ratingSubquery.from(Review.class);
-                ratingSubquery.select(criteriaBuilder.avg(reviewRoot.get("score")));
-                ratingSubquery.where(criteriaBuilder.equal(reviewRoot.get("game").get("id"), root.get("id")));
+                predicates.add(criteriaBuilder.greaterThan(root.get("reviewCount"), 0));
 
                 if (filter.ratingFrom() != null) {
                     predicates.add(
-                        criteriaBuilder.greaterThanOrEqualTo(ratingSubquery, filter.ratingFrom())
+                        criteriaBuilder.greaterThanOrEqualTo(root.get("averageRating"), filter.ratingFrom())
                     );
                 }
 
                 if (filter.ratingTo() != null) {
                     predicates.add(
-                        criteriaBuilder.lessThanOrEqualTo(ratingSubquery, filter.ratingTo())
+                        criteriaBuilder.lessThanOrEqualTo(root.get("averageRating"), filter.ratingTo())
                     );
                 }
             }
 
-            query.distinct(true);
-
             return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
         };
     }
+
+    /**
+     * The filters set in {@code filter} and the sort, without their values: what decides the shape of the
+     * generated SQL and, mostly, its plan. Genre filters also give their count, which the query groups on.
+     */
+    public static String describe(GameFilterDto filter, Sort sort) {
+        List<String> filters = new ArrayList<>();
+        if (filter.title() != null && !filter.title().isBlank()) {
+            filters.add("title");
+        }
+        if (filter.yearFrom() != null) {
+            filters.add("yearFrom");
+        }
+        if (filter.yearTo() != null) {
+            filters.add("yearTo");
+        }
+        if (filter.genreIds() != null && !filter.genreIds().isEmpty()) {
+            filters.add("genreIds[" + filter.genreIds().size() + "]");
+        }
+        if (filter.developerId() != null) {
+            filters.add("developerId");
+        }
+        if (filter.publisherId() != null) {
+            filters.add("publisherId");
+        }
+        if (filter.ratingFrom() != null) {
+            filters.add("ratingFrom");
+        }
+        if (filter.ratingTo() != null) {
+            filters.add("ratingTo");
+        }
+        return "games filter(" + String.join(",", filters) + ") sort(" + sort + ")";
+    }
+
+    /**
+     * Orders title matches exact first, then prefix matches, then by trigram similarity (pg_trgm).
+     * Only applies to unsorted queries; count queries are left untouched.
+     */
+    public static <T> Specification<T> orderByTitleRelevance(String title) {
+        return (root, query, criteriaBuilder) -> {
+            if (Long.class.equals(query.getResultType()) || long.class.equals(query.getResultType())) {
+                return null;
+            }
+
+            Path<Integer> id = root.get("id");
+            if (title == null || title.isBlank()) {
+                query.orderBy(criteriaBuilder.asc(id));
+                return null;
+            }
+
+            String needle = title.toLowerCase();
+            Expression<String> lowerTitle = criteriaBuilder.lower(root.get("title"));
+            Expression<Integer> matchRank = criteriaBuilder.<Integer>selectCase()
+                .when(criteriaBuilder.equal(lowerTitle, needle), 0)
+                .when(criteriaBuilder.like(lowerTitle, escapeLike(needle) + "%", LIKE_ESCAPE), 1)
+                .otherwise(2);
+            Expression<Double> similarity = criteriaBuilder.function(
+                "similarity", Double.class, lowerTitle, criteriaBuilder.literal(needle)
+            );
+
+            query.orderBy(
+                criteriaBuilder.asc(matchRank),
+                criteriaBuilder.desc(similarity),
+                criteriaBuilder.asc(id)
+            );
+            return null;
+        };
+    }
+
+    private static String escapeLike(String value) {
+        return value
+            .replace("\\", "\\\\")
+            .replace("%", "\\%")
+            .replace("_", "\\_");
+    }
 }
@@ -0,0 +1,40 @@
+package com.project.gamereviewer.specification;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import com.project.gamereviewer.entity.Review;
+
+public class ReviewSpecification {
+
+    private ReviewSpecification() {
+    }
+
+    public static Specification<Review> forGame(Integer gameId) {
+        return (root, query, criteriaBuilder) ->
+            criteriaBuilder.equal(root.get("game").get("id"), gameId);
+    }
+
+    /**
+     * Fetch-joins the associations an export row needs; skipped for count queries.
+     */
+    public static Specification<Review> fetchGameAndMediaOutlet() {
+        return fetch(true, true);
+    }
+
+    /**
+     * Fetch-joins the chosen associations; skipped for count queries.
+     */
+    public static Specification<Review> fetch(boolean game, boolean mediaOutlet) {
+        return (root, query, criteriaBuilder) -> {
+            if (!Long.class.equals(query.getResultType()) && !long.class.equals(query.getResultType())) {
+                if (game) {
+                    root.fetch("game");
+                }
+                if (mediaOutlet) {
+                    root.fetch("mediaOutlet");
+                }
+            }
+            return null;
+        };
+    }
+}
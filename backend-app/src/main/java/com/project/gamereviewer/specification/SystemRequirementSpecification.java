@@ -0,0 +1,28 @@
+package com.project.gamereviewer.specification;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import com.project.gamereviewer.entity.SystemRequirement;
+
+public class SystemRequirementSpecification {
+
+    private SystemRequirementSpecification() {
+    }
+
+    public static Specification<SystemRequirement> forGame(Integer gameId) {
+        return (root, query, criteriaBuilder) ->
+            criteriaBuilder.equal(root.get("game").get("id"), gameId);
+    }
+
+    /**
+     * Fetch-joins the associations an export row needs; skipped for count queries.
+     */
+    public static Specification<SystemRequirement> fetchType() {
+        return (root, query, criteriaBuilder) -> {
+            if (!Long.class.equals(query.getResultType()) && !long.class.equals(query.getResultType())) {
+                root.fetch("systemRequirementType");
+            }
+            return null;
+        };
+    }
+}
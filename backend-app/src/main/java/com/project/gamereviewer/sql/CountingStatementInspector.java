@@ -0,0 +1,13 @@
+package com.project.gamereviewer.sql;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/** Registered as Hibernate's statement inspector; counts every statement and leaves it unchanged. */
+public class CountingStatementInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        SqlStatementCounter.record(sql);
+        return sql;
+    }
+}
@@ -0,0 +1,24 @@
+package com.project.gamereviewer.sql;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * A statement that ran longer than the slow-query threshold. {@code context} names what issued it, such
+ * as a game filter combination, and {@code plan} is its {@code EXPLAIN} output when it was sampled.
+ */
+public record SlowQuery(
+    Instant recordedAt,
+    Duration duration,
+    String context,
+    String sql,
+    String shape,
+    List<Object> parameters,
+    String plan
+) {
+
+    SlowQuery withPlan(String plan) {
+        return new SlowQuery(recordedAt, duration, context, sql, shape, parameters, plan);
+    }
+}
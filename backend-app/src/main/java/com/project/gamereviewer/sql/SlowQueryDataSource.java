@@ -0,0 +1,123 @@
+package com.project.gamereviewer.sql;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * Times the executions of prepared statements and hands those over the threshold to the
+ * {@link SlowQueryRecorder} together with their bound parameters. Covers Hibernate and
+ * {@code JdbcTemplate} alike; plain {@code Statement}s are not timed. Time spent waiting for a
+ * connection is not part of a statement's duration.
+ */
+public class SlowQueryDataSource extends DelegatingDataSource {
+
+    private final SlowQueryRecorder recorder;
+
+    public SlowQueryDataSource(DataSource target, SlowQueryRecorder recorder) {
+        super(target);
+        this.recorder = recorder;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return timingStatements(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return timingStatements(super.getConnection(username, password));
+    }
+
+    private Connection timingStatements(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(
+            SlowQueryDataSource.class.getClassLoader(),
+            new Class<?>[] {Connection.class},
+            (proxy, method, args) -> switch (method.getName()) {
+                case "equals" -> proxy == args[0];
+                case "hashCode" -> System.identityHashCode(proxy);
+                case "prepareStatement" -> timed((PreparedStatement) invoke(connection, method, args), (String) args[0]);
+                default -> invoke(connection, method, args);
+            }
+        );
+    }
+
+    private PreparedStatement timed(PreparedStatement statement, String sql) {
+        Parameters parameters = new Parameters();
+        return (PreparedStatement) Proxy.newProxyInstance(
+            SlowQueryDataSource.class.getClassLoader(),
+            new Class<?>[] {PreparedStatement.class},
+            (proxy, method, args) -> {
+                String name = method.getName();
+                if (name.equals("equals")) {
+                    return proxy == args[0];
+                }
+                if (name.equals("hashCode")) {
+                    return System.identityHashCode(proxy);
+                }
+                if (name.startsWith("execute")) {
+                    long start = System.nanoTime();
+                    try {
+                        return invoke(statement, method, args);
+                    } finally {
+                        long elapsed = System.nanoTime() - start;
+                        if (recorder.isSlow(elapsed)) {
+                            String executed = args != null && args.length > 0 && args[0] instanceof String text ? text : sql;
+                            recorder.record(executed, parameters.snapshot(), elapsed, obtainTargetDataSource());
+                        }
+                    }
+                }
+                if (name.equals("clearParameters")) {
+                    parameters.clear();
+                } else if (name.startsWith("set") && args != null && args.length >= 2
+                        && method.getParameterTypes()[0] == int.class) {
+                    parameters.set((Integer) args[0], name.equals("setNull") ? null : args[1]);
+                }
+                return invoke(statement, method, args);
+            }
+        );
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException ex) {
+            throw ex.getTargetException();
+        }
+    }
+
+    /** Bound values by 1-based index, as the next execution will see them. */
+    private static class Parameters {
+
+        private Object[] values = new Object[8];
+        private int count;
+
+        void set(int index, Object value) {
+            if (index > values.length) {
+                values = Arrays.copyOf(values, Math.max(index, values.length * 2));
+            }
+            values[index - 1] = value;
+            count = Math.max(count, index);
+        }
+
+        void clear() {
+            Arrays.fill(values, 0, count, null);
+            count = 0;
+        }
+
+        List<Object> snapshot() {
+            return Collections.unmodifiableList(new ArrayList<>(Arrays.asList(values).subList(0, count)));
+        }
+    }
+}
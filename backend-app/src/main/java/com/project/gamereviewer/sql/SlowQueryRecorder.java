@@ -0,0 +1,128 @@
+package com.project.gamereviewer.sql;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+import javax.sql.DataSource;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps the most recent slow statements in a ring buffer. A sampled share of slow SELECTs is explained
+ * (plain {@code EXPLAIN}, the statement is not run again) on the explain executor with the same
+ * parameters, so the plan shows the choice the planner made for those values; when that executor is
+ * busy the statement is kept without a plan.
+ */
+@Slf4j
+public class SlowQueryRecorder {
+
+    private static final ThreadLocal<String> CONTEXT = new ThreadLocal<>();
+    private static final int EXPLAIN_TIMEOUT_SECONDS = 5;
+
+    private final long thresholdNanos;
+    private final double explainSampleRate;
+    private final Executor explainExecutor;
+    private final SlowQuery[] entries;
+    private int next;
+    private int size;
+
+    public SlowQueryRecorder(Duration threshold, int capacity, double explainSampleRate, Executor explainExecutor) {
+        this.thresholdNanos = threshold.toNanos();
+        this.explainSampleRate = explainSampleRate;
+        this.explainExecutor = explainExecutor;
+        this.entries = new SlowQuery[capacity];
+    }
+
+    /** Runs {@code query} with its statements recorded under {@code context}. */
+    public static <T> T withContext(String context, Supplier<T> query) {
+        String previous = CONTEXT.get();
+        CONTEXT.set(context);
+        try {
+            return query.get();
+        } finally {
+            if (previous == null) {
+                CONTEXT.remove();
+            } else {
+                CONTEXT.set(previous);
+            }
+        }
+    }
+
+    boolean isSlow(long elapsedNanos) {
+        return elapsedNanos >= thresholdNanos;
+    }
+
+    void record(String sql, List<Object> parameters, long elapsedNanos, DataSource dataSource) {
+        String shape = SqlStatementCounter.shape(sql);
+        SlowQuery query = new SlowQuery(Instant.now(), Duration.ofNanos(elapsedNanos), CONTEXT.get(), sql, shape,
+            parameters, null);
+        log.info("Slow SQL ({} ms) [{}]: {}", query.duration().toMillis(), query.context(), shape);
+
+        boolean select = shape.startsWith("select") || shape.startsWith("with");
+        if (select && ThreadLocalRandom.current().nextDouble() < explainSampleRate) {
+            try {
+                explainExecutor.execute(() -> add(query.withPlan(explain(dataSource, sql, parameters))));
+                return;
+            } catch (RejectedExecutionException ex) {
+                log.debug("Explain executor is busy, keeping slow query without a plan");
+            }
+        }
+        add(query);
+    }
+
+    /** Most recent first. */
+    public synchronized List<SlowQuery> recent() {
+        List<SlowQuery> recent = new ArrayList<>(size);
+        for (int i = 1; i <= size; i++) {
+            recent.add(entries[(next - i + entries.length) % entries.length]);
+        }
+        return recent;
+    }
+
+    public synchronized void clear() {
+        Arrays.fill(entries, null);
+        next = 0;
+        size = 0;
+    }
+
+    private synchronized void add(SlowQuery query) {
+        if (entries.length == 0) {
+            return;
+        }
+        entries[next] = query;
+        next = (next + 1) % entries.length;
+        size = Math.min(size + 1, entries.length);
+    }
+
+    private static String explain(DataSource dataSource, String sql, List<Object> parameters) {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+            statement.setQueryTimeout(EXPLAIN_TIMEOUT_SECONDS);
+            for (int i = 0; i < parameters.size(); i++) {
+                statement.setObject(i + 1, parameters.get(i));
+            }
+            StringJoiner plan = new StringJoiner("\n");
+            try (ResultSet rows = statement.executeQuery()) {
+                while (rows.next()) {
+                    plan.add(rows.getString(1));
+                }
+            }
+            return plan.toString();
+        } catch (SQLException | RuntimeException ex) {
+            log.debug("Could not explain slow query", ex);
+            return null;
+        }
+    }
+}
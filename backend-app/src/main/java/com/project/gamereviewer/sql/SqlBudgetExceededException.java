@@ -0,0 +1,9 @@
+package com.project.gamereviewer.sql;
+
+/** Thrown by {@link SqlStatementFilter} when {@code app.sql-inspection.on-violation} is {@code fail}. */
+public class SqlBudgetExceededException extends RuntimeException {
+
+    public SqlBudgetExceededException(String message) {
+        super(message);
+    }
+}
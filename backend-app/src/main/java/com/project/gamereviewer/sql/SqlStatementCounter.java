@@ -0,0 +1,102 @@
+package com.project.gamereviewer.sql;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import org.springframework.core.task.TaskDecorator;
+
+/**
+ * SQL statements prepared by Hibernate while serving one request. {@link SqlStatementFilter} binds a
+ * counter to the request thread and {@link #propagating()} carries it to executor threads that work
+ * on the same request, so the counter is shared and thread-safe. SELECTs are also counted by shape
+ * (the SQL without comments, literals and IN-list lengths) to spot N+1 loading.
+ */
+public final class SqlStatementCounter {
+
+    private static final ThreadLocal<SqlStatementCounter> CURRENT = new ThreadLocal<>();
+
+    private static final Pattern COMMENT = Pattern.compile("/\\*.*?\\*/", Pattern.DOTALL);
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final Map<String, Integer> selectsByShape = new HashMap<>();
+    private int count;
+
+    private SqlStatementCounter() {
+    }
+
+    public static SqlStatementCounter start() {
+        SqlStatementCounter counter = new SqlStatementCounter();
+        CURRENT.set(counter);
+        return counter;
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    static void record(String sql) {
+        SqlStatementCounter counter = CURRENT.get();
+        if (counter != null) {
+            counter.add(sql);
+        }
+    }
+
+    /** Runs tasks with the submitting thread's counter, if any. */
+    public static TaskDecorator propagating() {
+        return task -> {
+            SqlStatementCounter counter = CURRENT.get();
+            if (counter == null) {
+                return task;
+            }
+            return () -> {
+                SqlStatementCounter previous = CURRENT.get();
+                CURRENT.set(counter);
+                try {
+                    task.run();
+                } finally {
+                    if (previous == null) {
+                        CURRENT.remove();
+                    } else {
+                        CURRENT.set(previous);
+                    }
+                }
+            };
+        };
+    }
+
+    public synchronized int count() {
+        return count;
+    }
+
+    /** SELECT shapes prepared at least {@code threshold} times, most repeated first. */
+    public synchronized Map<String, Integer> repeatedSelects(int threshold) {
+        Map<String, Integer> repeated = new LinkedHashMap<>();
+        selectsByShape.entrySet().stream()
+            .filter(entry -> entry.getValue() >= threshold)
+            .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+            .forEach(entry -> repeated.put(entry.getKey(), entry.getValue()));
+        return repeated;
+    }
+
+    private synchronized void add(String sql) {
+        count++;
+        String shape = shape(sql);
+        if (shape.startsWith("select") || shape.startsWith("with")) {
+            selectsByShape.merge(shape, 1, Integer::sum);
+        }
+    }
+
+    static String shape(String sql) {
+        String shape = COMMENT.matcher(sql).replaceAll("");
+        shape = STRING_LITERAL.matcher(shape).replaceAll("?");
+        shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+        shape = IN_LIST.matcher(shape).replaceAll("(?)");
+        return WHITESPACE.matcher(shape).replaceAll(" ").trim().toLowerCase(Locale.ROOT);
+    }
+}
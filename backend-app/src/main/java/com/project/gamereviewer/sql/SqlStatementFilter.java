@@ -0,0 +1,151 @@
+package com.project.gamereviewer.sql;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import com.project.gamereviewer.config.SqlInspectionProperties;
+import com.project.gamereviewer.config.SqlInspectionProperties.OnViolation;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Counts the SQL statements of each request, returns the count in {@value #STATEMENT_COUNT_HEADER} and
+ * checks it against the endpoint's budget and the repeated-SELECT threshold. A violation is logged, or
+ * with {@code on-violation: fail} thrown, which fails MockMvc tests. Asynchronous requests (exports) are
+ * checked when they complete and only logged; their header carries the count before streaming started.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class SqlStatementFilter extends OncePerRequestFilter {
+
+    public static final String STATEMENT_COUNT_HEADER = "X-SQL-Statement-Count";
+
+    private final SqlInspectionProperties properties;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        SqlStatementCounter counter = SqlStatementCounter.start();
+        CountHeaderResponse countingResponse = new CountHeaderResponse(response, counter);
+        try {
+            filterChain.doFilter(request, countingResponse);
+        } finally {
+            SqlStatementCounter.clear();
+        }
+
+        if (request.isAsyncStarted()) {
+            request.getAsyncContext().addListener(new AsyncListener() {
+                @Override
+                public void onComplete(AsyncEvent event) {
+                    check(request, counter, OnViolation.WARN);
+                }
+
+                @Override
+                public void onTimeout(AsyncEvent event) {
+                }
+
+                @Override
+                public void onError(AsyncEvent event) {
+                }
+
+                @Override
+                public void onStartAsync(AsyncEvent event) {
+                }
+            });
+            return;
+        }
+        countingResponse.writeCount();
+        check(request, counter, properties.onViolation());
+    }
+
+    private void check(HttpServletRequest request, SqlStatementCounter counter, OnViolation onViolation) {
+        String endpoint = endpoint(request);
+        int count = counter.count();
+        log.debug("{} ran {} SQL statement(s)", endpoint, count);
+
+        List<String> violations = new ArrayList<>();
+        int budget = properties.budgetFor(endpoint);
+        if (budget > 0 && count > budget) {
+            violations.add(count + " statements over a budget of " + budget);
+        }
+        for (Map.Entry<String, Integer> repeated : counter.repeatedSelects(properties.repeatedSelectThreshold()).entrySet()) {
+            violations.add("possible N+1, " + repeated.getValue() + " x " + repeated.getKey());
+        }
+        if (violations.isEmpty()) {
+            return;
+        }
+
+        String message = "SQL budget violated by " + endpoint + ": " + String.join("; ", violations);
+        if (onViolation == OnViolation.FAIL) {
+            throw new SqlBudgetExceededException(message);
+        }
+        log.warn(message);
+    }
+
+    private static String endpoint(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return request.getMethod() + " " + (pattern != null ? pattern : request.getRequestURI());
+    }
+
+    /** Sets the count header while it can still be sent: before the body is written, or at the end. */
+    private static class CountHeaderResponse extends HttpServletResponseWrapper {
+
+        private final SqlStatementCounter counter;
+
+        CountHeaderResponse(HttpServletResponse response, SqlStatementCounter counter) {
+            super(response);
+            this.counter = counter;
+        }
+
+        void writeCount() {
+            if (!isCommitted()) {
+                setHeader(STATEMENT_COUNT_HEADER, String.valueOf(counter.count()));
+            }
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            writeCount();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            writeCount();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            writeCount();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            writeCount();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            writeCount();
+            super.sendError(sc);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.project.gamereviewer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+
+/**
+ * Boots the application against one embedded PostgreSQL loaded with docker/postgres/init.sql and shared
+ * by every subclass, so tests insert the rows they assert on under names of their own.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+public abstract class PostgresIntegrationTest {
+
+    private static final Path SCHEMA = Path.of("../docker/postgres/init.sql");
+    private static final EmbeddedPostgres POSTGRES = start();
+
+    @Autowired
+    protected MockMvc mockMvc;
+
+    @Autowired
+    protected JdbcTemplate jdbcTemplate;
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> POSTGRES.getJdbcUrl("postgres", "postgres"));
+        registry.add("spring.datasource.username", () -> "postgres");
+        registry.add("spring.datasource.password", () -> "");
+    }
+
+    protected int insertGame(String title, Integer releaseYear) {
+        return jdbcTemplate.queryForObject(
+            "INSERT INTO games (title, release_year) VALUES (?, ?) RETURNING id", Integer.class, title, releaseYear);
+    }
+
+    protected int insertMediaOutlet(String name) {
+        return jdbcTemplate.queryForObject(
+            "INSERT INTO media_outlets (name) VALUES (?) RETURNING id", Integer.class, name);
+    }
+
+    private static EmbeddedPostgres start() {
+        try {
+            EmbeddedPostgres postgres = EmbeddedPostgres.builder().start();
+            try (Connection connection = postgres.getPostgresDatabase().getConnection();
+                 Statement statement = connection.createStatement()) {
+                statement.execute(Files.readString(SCHEMA));
+            }
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                try {
+                    postgres.close();
+                } catch (IOException ignored) {
+                    // the JVM is exiting
+                }
+            }));
+            return postgres;
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        } catch (SQLException ex) {
+            throw new IllegalStateException("Could not load " + SCHEMA, ex);
+        }
+    }
+}
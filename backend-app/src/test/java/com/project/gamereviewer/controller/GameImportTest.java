@@ -0,0 +1,107 @@
+package com.project.gamereviewer.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.startsWith;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.ResultActions;
+
+import com.jayway.jsonpath.JsonPath;
+import com.project.gamereviewer.PostgresIntegrationTest;
+import com.project.gamereviewer.constant.ApiConstants;
+import com.project.gamereviewer.entity.Game;
+import com.project.gamereviewer.service.GameImportService;
+
+/**
+ * Imports enough games to span several pooled id blocks, with rows that fail validation, the in-chunk
+ * checks and the database itself; the last makes the whole chunk fall back to row-by-row inserts.
+ */
+class GameImportTest extends PostgresIntegrationTest {
+
+    private static final int ROWS = 120;
+
+    @Test
+    void failingRowInChunkIsReportedAloneAndOtherRowsArePersisted() throws Exception {
+        String prefix = "Game Import Fallback ";
+        List<String> records = new ArrayList<>();
+        for (int record = 1; record <= ROWS; record++) {
+            records.add(switch (record) {
+                case 30 -> game(prefix + record, 1900);
+                // PostgreSQL rejects NUL in text, which only shows up when the batch is executed
+                case 60 -> game(prefix + record + "\\u0000", 2000);
+                case 90 -> game(prefix + 10, 2000);
+                default -> game(prefix + record, 2000);
+            });
+        }
+
+        importGames(String.join("\n", records))
+            .andExpect(jsonPath("$.imported").value(ROWS - 3))
+            .andExpect(jsonPath("$.failed").value(3))
+            .andExpect(jsonPath("$.errors[*].record", contains(30, 60, 90)))
+            .andExpect(jsonPath("$.errors[0].message").value("Release year must be at least 1950"))
+            .andExpect(jsonPath("$.errors[1].title").value(prefix + 60 + "\u0000"))
+            .andExpect(jsonPath("$.errors[2].message").value(startsWith("Game with title '" + prefix + 10 + "'")));
+
+        Set<String> expected = IntStream.rangeClosed(1, ROWS)
+            .filter(record -> record != 30 && record != 60 && record != 90)
+            .mapToObj(record -> prefix + record)
+            .collect(Collectors.toSet());
+        assertThat(jdbcTemplate.queryForList("SELECT title FROM games WHERE title LIKE ?", String.class, prefix + "%"))
+            .containsExactlyInAnyOrderElementsOf(expected);
+        assertThat(jdbcTemplate.queryForObject("""
+                SELECT COUNT(*) FROM games g JOIN game_rating_stats s ON s.game_id = g.id
+                WHERE g.title LIKE ? AND s.review_count = 0
+                """, Integer.class, prefix + "%"))
+            .isEqualTo(ROWS - 3);
+    }
+
+    @Test
+    void pooledIdsDoNotCollideWithOtherInserts() throws Exception {
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT increment_by FROM pg_sequences WHERE sequencename = 'games_id_seq'", Long.class))
+            .isEqualTo(Game.ID_ALLOCATION_SIZE);
+
+        Set<Integer> ids = new HashSet<>(importBatch("Game Import Ids First "));
+        ids.add(insertGame("Game Import Ids Plain", 2000));
+        ids.add(JsonPath.<Integer>read(mockMvc.perform(post(ApiConstants.GAMES)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(game("Game Import Ids Api", 2000)))
+            .andExpect(status().isCreated())
+            .andReturn().getResponse().getContentAsString(), "$.id"));
+        ids.addAll(importBatch("Game Import Ids Second "));
+
+        assertThat(ids).hasSize(2 * ROWS + 2);
+    }
+
+    private List<Integer> importBatch(String prefix) throws Exception {
+        importGames(IntStream.rangeClosed(1, ROWS)
+                .mapToObj(record -> game(prefix + record, 2000))
+                .collect(Collectors.joining("\n")))
+            .andExpect(jsonPath("$.imported").value(ROWS))
+            .andExpect(jsonPath("$.failed").value(0));
+        return jdbcTemplate.queryForList("SELECT id FROM games WHERE title LIKE ?", Integer.class, prefix + "%");
+    }
+
+    private ResultActions importGames(String feed) throws Exception {
+        return mockMvc.perform(post(ApiConstants.GAMES + "/import")
+                .contentType(ApiConstants.NDJSON_MEDIA_TYPE)
+                .content(feed))
+            .andExpect(status().isOk());
+    }
+
+    private static String game(String title, int releaseYear) {
+        return "{\"title\": \"%s\", \"releaseYear\": %d}".formatted(title, releaseYear);
+    }
+}
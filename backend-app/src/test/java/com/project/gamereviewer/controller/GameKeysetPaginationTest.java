@@ -0,0 +1,159 @@
+package com.project.gamereviewer.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.data.domain.Sort;
+
+import com.jayway.jsonpath.JsonPath;
+import com.project.gamereviewer.PostgresIntegrationTest;
+import com.project.gamereviewer.constant.ApiConstants;
+import com.project.gamereviewer.pagination.KeysetCursor;
+import com.project.gamereviewer.pagination.KeysetRequest;
+
+/**
+ * Walks every keyset page of the game list and compares the ids seen with the same ordering done by
+ * PostgreSQL, so a seek predicate that skips or repeats rows around NULL or duplicate keys fails.
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class GameKeysetPaginationTest extends PostgresIntegrationTest {
+
+    private static final int PAGE_SIZE = 3;
+
+    /** Title, release year and average rating; NULL ratings have no stats row. */
+    private static final Object[][] CATALOG = {
+        {"Keyset Walk A", null, null},
+        {"Keyset Walk A", null, 75.0},
+        {"Keyset Walk A", 1999, 75.0},
+        {"Keyset Walk B", 1999, null},
+        {"Keyset Walk B", 2001, 75.0},
+        {"Keyset Walk C", 1999, 50.5},
+        {"Keyset Walk C", null, 50.5},
+        {"Keyset Walk D", 2001, null},
+        {"Keyset Walk E", 2001, 0.0},
+        {"Keyset Walk F", null, null},
+        {"Keyset Walk G", 1999, 75.0},
+    };
+
+    @BeforeAll
+    void insertCatalog() {
+        for (Object[] game : CATALOG) {
+            int id = insertGame((String) game[0], (Integer) game[1]);
+            if (game[2] != null) {
+                jdbcTemplate.update("""
+                    INSERT INTO game_rating_stats (game_id, review_count, score_sum, average_rating)
+                    VALUES (?, 0, 0, ?)
+                    """, id, game[2]);
+            }
+        }
+    }
+
+    static Stream<Arguments> sorts() {
+        return Stream.of("id", "title", "releaseYear", "averageRating")
+            .flatMap(sortBy -> Stream.of(Sort.Direction.values()).map(direction -> Arguments.of(sortBy, direction)));
+    }
+
+    @ParameterizedTest
+    @MethodSource("sorts")
+    void walkingAllPagesVisitsEveryGameOnceInOrder(String sortBy, Sort.Direction direction) throws Exception {
+        List<Integer> expected = jdbcTemplate.queryForList("""
+            SELECT g.id
+            FROM games g
+            LEFT JOIN game_rating_stats s ON s.game_id = g.id
+            ORDER BY %s %s NULLS %s, g.id %s
+            """.formatted(column(sortBy), direction, direction.isAscending() ? "LAST" : "FIRST", direction),
+            Integer.class);
+
+        List<Integer> walked = new ArrayList<>();
+        String cursor = "";
+        for (int page = 0; cursor != null; page++) {
+            assertThat(page).as("pages walked").isLessThanOrEqualTo(expected.size() / PAGE_SIZE + 1);
+            String body = mockMvc.perform(get(ApiConstants.GAMES)
+                    .param("cursor", cursor)
+                    .param("size", String.valueOf(PAGE_SIZE))
+                    .param("sortBy", sortBy)
+                    .param("sortDirection", direction.name()))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+            walked.addAll(JsonPath.read(body, "$.content[*].id"));
+            cursor = JsonPath.<Boolean>read(body, "$.last") ? null : JsonPath.read(body, "$.nextCursor");
+        }
+
+        assertThat(walked).containsExactlyElementsOf(expected);
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        ApiConstants.GAMES + ", developer",
+        ApiConstants.REVIEWS + ", mediaOutlet",
+        ApiConstants.SYSTEM_REQUIREMENTS + ", game",
+    })
+    void unknownSortFieldIsBadRequest(String path, String sortBy) throws Exception {
+        mockMvc.perform(get(path)
+                .param("cursor", "")
+                .param("sortBy", sortBy))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.message").value(containsString(sortBy)));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "not a cursor!",
+        "releaseYear",
+        "releaseYear:ASC:1",
+        "releaseYear:ASC:one:v1999",
+        "releaseYear:SIDEWAYS:1:v1999",
+        "releaseYear:ASC:1:vnineteen",
+    })
+    void tamperedCursorIsBadRequest(String raw) throws Exception {
+        String cursor = raw.contains(" ") ? raw : encode(raw);
+        mockMvc.perform(get(ApiConstants.GAMES)
+                .param("cursor", cursor)
+                .param("sortBy", "releaseYear"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.message").value(KeysetCursor.INVALID_CURSOR_EXCEPTION_MESSAGE));
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "title:ASC:1:vKeyset Walk A, releaseYear, ASC",
+        "releaseYear:DESC:1:v1999, releaseYear, ASC",
+    })
+    void cursorForAnotherSortIsBadRequest(String raw, String sortBy, String direction) throws Exception {
+        mockMvc.perform(get(ApiConstants.GAMES)
+                .param("cursor", encode(raw))
+                .param("sortBy", sortBy)
+                .param("sortDirection", direction))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.message").value(KeysetRequest.CURSOR_SORT_MISMATCH_EXCEPTION_MESSAGE));
+    }
+
+    private static String column(String sortBy) {
+        return switch (sortBy) {
+            case "title" -> "g.title";
+            case "releaseYear" -> "g.release_year";
+            case "averageRating" -> "s.average_rating";
+            default -> "g.id";
+        };
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,99 @@
+package com.project.gamereviewer.controller;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.project.gamereviewer.constant.ApiConstants;
+import com.project.gamereviewer.sql.SqlStatementFilter;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+
+/**
+ * The game list and SQL filter pages take a fixed number of statements whatever their size: the page,
+ * its count and one genre-name query. A per-row association load makes the larger page fail.
+ */
+@SpringBootTest(properties = "app.sql-inspection.on-violation=fail")
+@AutoConfigureMockMvc
+class GameListStatementCountTest {
+
+    private static final Path SCHEMA = Path.of("../docker/postgres/init.sql");
+    private static final int CATALOG_GAMES = 40;
+    private static final String LIST_STATEMENTS = "3";
+
+    private static EmbeddedPostgres postgres;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) throws IOException, SQLException {
+        postgres = EmbeddedPostgres.builder().start();
+        try (Connection connection = postgres.getPostgresDatabase().getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute(Files.readString(SCHEMA));
+            statement.execute("""
+                INSERT INTO games (title, release_year, developer_id, publisher_id)
+                SELECT 'Statement Count ' || n, 2000 + n %% 20,
+                       (SELECT MIN(id) FROM production_companies), (SELECT MAX(id) FROM production_companies)
+                FROM generate_series(1, %d) n
+                """.formatted(CATALOG_GAMES));
+            statement.execute("""
+                INSERT INTO games_genres (game_id, genre_id)
+                SELECT g.id, genre.id
+                FROM games g
+                CROSS JOIN (SELECT id FROM genres ORDER BY id LIMIT 2) genre
+                WHERE g.title LIKE 'Statement Count %'
+                """);
+        }
+        registry.add("spring.datasource.url", () -> postgres.getJdbcUrl("postgres", "postgres"));
+        registry.add("spring.datasource.username", () -> "postgres");
+        registry.add("spring.datasource.password", () -> "");
+    }
+
+    @AfterAll
+    static void stopDatabase() throws IOException {
+        postgres.close();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {5, 25})
+    void listPageStatementCountDoesNotGrowWithPageSize(int size) throws Exception {
+        mockMvc.perform(get(ApiConstants.GAMES)
+                .param("size", String.valueOf(size)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content.length()").value(size))
+            .andExpect(header().string(SqlStatementFilter.STATEMENT_COUNT_HEADER, LIST_STATEMENTS));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {5, 25})
+    void filterPageStatementCountDoesNotGrowWithPageSize(int size) throws Exception {
+        mockMvc.perform(get(ApiConstants.GAMES + "/filter")
+                .param("yearFrom", "2000")
+                .param("developerId", "1")
+                .param("useIndex", "false")
+                .param("size", String.valueOf(size)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content.length()").value(size))
+            .andExpect(header().string(SqlStatementFilter.STATEMENT_COUNT_HEADER, LIST_STATEMENTS));
+    }
+}
@@ -0,0 +1,66 @@
+package com.project.gamereviewer.controller;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+
+import com.project.gamereviewer.PostgresIntegrationTest;
+import com.project.gamereviewer.constant.ApiConstants;
+
+/**
+ * Deleting a media outlet cascades into its reviews inside the database; the reviewed games' rating
+ * stats, and the filter index built from them, must follow right away rather than at the next repair.
+ */
+class MediaOutletDeleteTest extends PostgresIntegrationTest {
+
+    private static final int RELEASE_YEAR = 1951;
+
+    @Test
+    void deletingOutletRecountsRatingStatsOfReviewedGames() throws Exception {
+        int gameId = insertGame("Outlet Delete", RELEASE_YEAR);
+        int deletedOutletId = insertMediaOutlet("Outlet Delete Gone");
+        int keptOutletId = insertMediaOutlet("Outlet Delete Kept");
+        postReview(gameId, deletedOutletId, 80);
+        postReview(gameId, keptOutletId, 60);
+
+        mockMvc.perform(get(ApiConstants.GAMES + "/" + gameId))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.reviewCount").value(2))
+            .andExpect(jsonPath("$.averageRating").value(70.0));
+        expectFilterMatches(1);
+
+        mockMvc.perform(delete(ApiConstants.MEDIA_OUTLETS + "/" + deletedOutletId))
+            .andExpect(status().isNoContent());
+
+        mockMvc.perform(get(ApiConstants.GAMES + "/" + gameId))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.reviewCount").value(1))
+            .andExpect(jsonPath("$.averageRating").value(60.0))
+            .andExpect(jsonPath("$.reviews.length()").value(1));
+        expectFilterMatches(0);
+    }
+
+    private void postReview(int gameId, int mediaOutletId, int score) throws Exception {
+        mockMvc.perform(post(ApiConstants.REVIEWS)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                    {"gameId": %d, "mediaOutletId": %d, "score": %d}
+                    """.formatted(gameId, mediaOutletId, score)))
+            .andExpect(status().isCreated());
+    }
+
+    private void expectFilterMatches(int games) throws Exception {
+        mockMvc.perform(get(ApiConstants.GAMES + "/filter")
+                .param("yearFrom", String.valueOf(RELEASE_YEAR))
+                .param("yearTo", String.valueOf(RELEASE_YEAR))
+                .param("ratingFrom", "65")
+                .param("useIndex", "true"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content.length()").value(games));
+    }
+}
@@ -0,0 +1,146 @@
+package com.project.gamereviewer.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.ResultActions;
+
+import com.project.gamereviewer.PostgresIntegrationTest;
+import com.project.gamereviewer.constant.ApiConstants;
+import com.project.gamereviewer.service.GameService;
+import com.project.gamereviewer.service.MediaOutletService;
+import com.project.gamereviewer.service.ReviewIngestionService;
+
+/**
+ * Runs feeds through the COPY, rejection and merge statements of the review import and checks the
+ * reported counts and errors together with the rating stats recalculated for the touched games.
+ */
+class ReviewImportTest extends PostgresIntegrationTest {
+
+    private static final int MISSING_ID = Integer.MAX_VALUE;
+
+    @Test
+    void importMergesLastRecordPerPairAndReportsRejections() throws Exception {
+        int firstGameId = insertGame("Review Import First", 2010);
+        int secondGameId = insertGame("Review Import Second", 2010);
+        int outletId = insertMediaOutlet("Review Import Outlet");
+        int otherOutletId = insertMediaOutlet("Review Import Other Outlet");
+        postReview(firstGameId, outletId, 50);
+        postReview(firstGameId, otherOutletId, 70);
+
+        String feed = String.join("\n",
+            review(firstGameId, outletId, "90"),
+            review(secondGameId, outletId, "40"),
+            review(MISSING_ID, outletId, "50"),
+            review(firstGameId, outletId, "80"),
+            review(secondGameId, MISSING_ID, "60"),
+            review(secondGameId, otherOutletId, "101"),
+            review(firstGameId, otherOutletId, "70"),
+            review(secondGameId, otherOutletId, "\"eighty\""),
+            review(secondGameId, otherOutletId, "-1"),
+            review(secondGameId, otherOutletId, "20"),
+            "{\"mediaOutletId\": %d, \"score\": 10}".formatted(outletId)
+        );
+
+        importFeed(ApiConstants.NDJSON_MEDIA_TYPE, feed)
+            .andExpect(jsonPath("$.received").value(11))
+            .andExpect(jsonPath("$.inserted").value(2))
+            .andExpect(jsonPath("$.updated").value(1))
+            .andExpect(jsonPath("$.unchanged").value(1))
+            .andExpect(jsonPath("$.rejected").value(7))
+            .andExpect(jsonPath("$.errorsTruncated").value(false))
+            .andExpect(jsonPath("$.errors[*].record", contains(1, 3, 5, 6, 8, 9, 11)))
+            .andExpect(jsonPath("$.errors[0].message").value(
+                ReviewIngestionService.SUPERSEDED_EXCEPTION_MESSAGE.formatted(firstGameId, outletId)))
+            .andExpect(jsonPath("$.errors[1].message").value(
+                ReviewIngestionService.RESOURCE_NOT_FOUND_EXCEPTION_MESSAGE.formatted(GameService.RESOURSE_NAME, MISSING_ID)))
+            .andExpect(jsonPath("$.errors[2].message").value(
+                ReviewIngestionService.RESOURCE_NOT_FOUND_EXCEPTION_MESSAGE.formatted(MediaOutletService.RESOURSE_NAME, MISSING_ID)))
+            .andExpect(jsonPath("$.errors[3].message").value("Score must not exceed 100"))
+            .andExpect(jsonPath("$.errors[5].message").value("Score must be at least 0"))
+            .andExpect(jsonPath("$.errors[6].message").value("Game ID is required"));
+
+        assertThat(scores(firstGameId)).containsExactly(80, 70);
+        assertThat(scores(secondGameId)).containsExactly(40, 20);
+        assertStats(firstGameId, 2, 150, 75.0, 70, 80);
+        assertStats(secondGameId, 2, 60, 30.0, 20, 40);
+    }
+
+    @Test
+    void csvSummariesKeepQuotesAndCommas() throws Exception {
+        int gameId = insertGame("Review Import Csv", 2011);
+        int outletId = insertMediaOutlet("Review Import Csv Outlet");
+
+        importFeed(ApiConstants.CSV_MEDIA_TYPE, """
+                gameId,mediaOutletId,score,summary
+                %d,%d,65,"Tight, ""punchy"" combat"
+                """.formatted(gameId, outletId))
+            .andExpect(jsonPath("$.inserted").value(1))
+            .andExpect(jsonPath("$.rejected").value(0));
+
+        assertThat(jdbcTemplate.queryForObject("SELECT summary FROM reviews WHERE game_id = ?", String.class, gameId))
+            .isEqualTo("Tight, \"punchy\" combat");
+        assertStats(gameId, 1, 65, 65.0, 65, 65);
+    }
+
+    @Test
+    void malformedRecordStopsTheFeedButKeepsEarlierRecords() throws Exception {
+        int gameId = insertGame("Review Import Malformed", 2012);
+        int outletId = insertMediaOutlet("Review Import Malformed Outlet");
+        int otherOutletId = insertMediaOutlet("Review Import Malformed Other Outlet");
+
+        importFeed(ApiConstants.NDJSON_MEDIA_TYPE, String.join("\n",
+                review(gameId, outletId, "60"),
+                "{\"gameId\": " + gameId + ", \"mediaOutletId\": ",
+                review(gameId, otherOutletId, "90")))
+            .andExpect(jsonPath("$.received").value(2))
+            .andExpect(jsonPath("$.inserted").value(1))
+            .andExpect(jsonPath("$.rejected").value(1))
+            .andExpect(jsonPath("$.errors[0].record").value(2));
+
+        assertThat(scores(gameId)).containsExactly(60);
+        assertStats(gameId, 1, 60, 60.0, 60, 60);
+    }
+
+    private ResultActions importFeed(String contentType, String feed) throws Exception {
+        return mockMvc.perform(post(ApiConstants.REVIEWS + "/import")
+                .contentType(contentType)
+                .content(feed))
+            .andExpect(status().isOk());
+    }
+
+    private void postReview(int gameId, int mediaOutletId, int score) throws Exception {
+        mockMvc.perform(post(ApiConstants.REVIEWS)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(review(gameId, mediaOutletId, String.valueOf(score))))
+            .andExpect(status().isCreated());
+    }
+
+    private static String review(int gameId, int mediaOutletId, String score) {
+        return "{\"gameId\": %d, \"mediaOutletId\": %d, \"score\": %s}".formatted(gameId, mediaOutletId, score);
+    }
+
+    /** Scores of the game's reviews in media outlet id order. */
+    private List<Integer> scores(int gameId) {
+        return jdbcTemplate.queryForList(
+            "SELECT score FROM reviews WHERE game_id = ? ORDER BY media_outlet_id", Integer.class, gameId);
+    }
+
+    private void assertStats(int gameId, int reviewCount, long scoreSum, double averageRating, int minScore, int maxScore) {
+        Map<String, Object> stats = jdbcTemplate.queryForMap("SELECT * FROM game_rating_stats WHERE game_id = ?", gameId);
+        assertThat(stats)
+            .containsEntry("review_count", reviewCount)
+            .containsEntry("score_sum", scoreSum)
+            .containsEntry("average_rating", averageRating)
+            .containsEntry("min_score", minScore)
+            .containsEntry("max_score", maxScore);
+    }
+}
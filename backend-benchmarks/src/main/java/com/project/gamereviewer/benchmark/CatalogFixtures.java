@@ -0,0 +1,159 @@
+package com.project.gamereviewer.benchmark;
+
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.util.ReflectionUtils;
+
+import com.project.gamereviewer.entity.CompanyType;
+import com.project.gamereviewer.entity.Game;
+import com.project.gamereviewer.entity.GameListItem;
+import com.project.gamereviewer.entity.Genre;
+import com.project.gamereviewer.entity.MediaOutlet;
+import com.project.gamereviewer.entity.ProductionCompany;
+import com.project.gamereviewer.entity.Review;
+import com.project.gamereviewer.entity.SystemRequirement;
+import com.project.gamereviewer.entity.SystemRequirementType;
+import com.project.gamereviewer.repository.GameListItemRepository.GameGenreName;
+
+/**
+ * Detached entities shaped like the seeded catalog: three genres per game, a developer and a
+ * publisher, the top five reviews and a minimum and recommended system requirement.
+ */
+final class CatalogFixtures {
+
+    static final int GENRES_PER_GAME = 3;
+    static final int REVIEWS_PER_GAME = 5;
+
+    private static final String[] GENRE_NAMES = {
+        "Action", "Adventure", "RPG", "Strategy", "Shooter", "Simulation", "Sports", "Puzzle"
+    };
+
+    private CatalogFixtures() {
+    }
+
+    record GenreName(Integer gameId, String genreName) implements GameGenreName {
+
+        @Override
+        public Integer getGameId() {
+            return gameId;
+        }
+
+        @Override
+        public String getGenreName() {
+            return genreName;
+        }
+    }
+
+    static List<GameListItem> gameListItems(int count) {
+        List<GameListItem> games = new ArrayList<>(count);
+        for (int id = 1; id <= count; id++) {
+            GameListItem game = new GameListItem();
+            set(game, "id", id);
+            set(game, "title", "Game title number " + id);
+            set(game, "releaseYear", 1990 + id % 35);
+            set(game, "developerName", "Developer studio " + id % 40);
+            set(game, "publisherName", "Publisher house " + id % 15);
+            set(game, "version", (long) id);
+            set(game, "averageRating", 40.0 + id % 60);
+            set(game, "reviewCount", 3 + id % 20);
+            games.add(game);
+        }
+        return games;
+    }
+
+    /**
+     * Rows as {@code GameListItemRepository.findGenreNamesByGameIds} returns them, ordered by genre name.
+     */
+    static List<GameGenreName> genreNames(List<GameListItem> games) {
+        List<GameGenreName> rows = new ArrayList<>(games.size() * GENRES_PER_GAME);
+        for (int genre = 0; genre < GENRE_NAMES.length; genre++) {
+            for (GameListItem game : games) {
+                if (Math.floorMod(genre - game.getId(), GENRE_NAMES.length) < GENRES_PER_GAME) {
+                    rows.add(new GenreName(game.getId(), GENRE_NAMES[genre]));
+                }
+            }
+        }
+        return rows;
+    }
+
+    static Game game(int id) {
+        CompanyType studio = new CompanyType(1, "Developer");
+        Game game = new Game();
+        game.setId(id);
+        game.setTitle("Game title number " + id);
+        game.setReleaseYear(2015);
+        game.setDescription("An open-world action role-playing game set in a war-torn fantasy land, "
+            + "with a branching story, dozens of side quests and a day and night cycle. ".repeat(4));
+        game.setDeveloper(new ProductionCompany(1, "Developer studio", 1994, "https://developer.example.com",
+            "Jane Doe", studio, 1L));
+        game.setPublisher(new ProductionCompany(2, "Publisher house", 1981, "https://publisher.example.com",
+            "John Doe", studio, 1L));
+        game.setVersion(1L);
+        game.setAverageRating(87.4);
+        game.setReviewCount(42);
+        return game;
+    }
+
+    static List<Genre> genres() {
+        List<Genre> genres = new ArrayList<>(GENRES_PER_GAME);
+        for (int i = 0; i < GENRES_PER_GAME; i++) {
+            Genre genre = new Genre();
+            genre.setId(i + 1);
+            genre.setName(GENRE_NAMES[i]);
+            genres.add(genre);
+        }
+        return genres;
+    }
+
+    static List<SystemRequirement> systemRequirements(Game game) {
+        SystemRequirement minimum = new SystemRequirement();
+        minimum.setId(1);
+        minimum.setGame(game);
+        minimum.setSystemRequirementType(new SystemRequirementType(1, "Minimum"));
+        minimum.setStorageGb(50);
+        minimum.setRamGb(8);
+        minimum.setCpuGhz(new BigDecimal("3.2"));
+        minimum.setGpuTflops(new BigDecimal("4.20"));
+        minimum.setVramGb(4);
+
+        SystemRequirement recommended = new SystemRequirement();
+        recommended.setId(2);
+        recommended.setGame(game);
+        recommended.setSystemRequirementType(new SystemRequirementType(2, "Recommended"));
+        recommended.setStorageGb(50);
+        recommended.setRamGb(16);
+        recommended.setCpuGhz(new BigDecimal("3.8"));
+        recommended.setGpuTflops(new BigDecimal("10.50"));
+        recommended.setVramGb(8);
+        return List.of(minimum, recommended);
+    }
+
+    static List<Review> reviews(Game game) {
+        List<Review> reviews = new ArrayList<>(REVIEWS_PER_GAME);
+        for (int i = 1; i <= REVIEWS_PER_GAME; i++) {
+            MediaOutlet outlet = new MediaOutlet();
+            outlet.setId(i);
+            outlet.setName("Media outlet " + i);
+            outlet.setWebsiteUrl("https://outlet" + i + ".example.com");
+            outlet.setFoundedYear(1990 + i);
+
+            Review review = new Review();
+            review.setId(i);
+            review.setGame(game);
+            review.setMediaOutlet(outlet);
+            review.setScore(100 - i * 3);
+            review.setSummary("A sprawling, confident sequel that rewards patience. ".repeat(3));
+            reviews.add(review);
+        }
+        return reviews;
+    }
+
+    private static void set(Object target, String fieldName, Object value) {
+        Field field = ReflectionUtils.findField(target.getClass(), fieldName);
+        ReflectionUtils.makeAccessible(field);
+        ReflectionUtils.setField(field, target, value);
+    }
+}
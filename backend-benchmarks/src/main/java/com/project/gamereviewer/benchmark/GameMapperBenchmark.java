@@ -0,0 +1,96 @@
+package com.project.gamereviewer.benchmark;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.project.gamereviewer.dto.response.GameDetailResponse;
+import com.project.gamereviewer.dto.response.GameListResponse;
+import com.project.gamereviewer.entity.Game;
+import com.project.gamereviewer.entity.GameListItem;
+import com.project.gamereviewer.entity.Genre;
+import com.project.gamereviewer.entity.Review;
+import com.project.gamereviewer.entity.SystemRequirement;
+import com.project.gamereviewer.repository.GameListItemRepository.GameGenreName;
+import com.project.gamereviewer.service.GameService;
+
+/**
+ * The in-JVM part of a games page and a game detail: grouping genre name rows per game, mapping a
+ * page of list items and assembling a detail the way {@code GameService} and
+ * {@code GameDetailService} do.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GameMapperBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Page {
+
+        @Param({"20", "100"})
+        int pageSize;
+
+        List<GameListItem> games;
+        List<GameGenreName> genreNameRows;
+        Map<Integer, List<String>> genreNames;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            games = CatalogFixtures.gameListItems(pageSize);
+            genreNameRows = CatalogFixtures.genreNames(games);
+            genreNames = GameService.groupGenreNames(genreNameRows);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Detail {
+
+        Game game;
+        List<Genre> genres;
+        List<SystemRequirement> systemRequirements;
+        List<Review> reviews;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            game = CatalogFixtures.game(1);
+            genres = CatalogFixtures.genres();
+            systemRequirements = CatalogFixtures.systemRequirements(game);
+            reviews = CatalogFixtures.reviews(game);
+        }
+    }
+
+    @Benchmark
+    public Map<Integer, List<String>> groupGenreNames(Page page) {
+        return GameService.groupGenreNames(page.genreNameRows);
+    }
+
+    @Benchmark
+    public List<GameListResponse> toListResponse(Mappers mappers, Page page) {
+        return mappers.toListResponses(page.games, page.genreNames);
+    }
+
+    @Benchmark
+    public List<GameListResponse> groupAndMapPage(Mappers mappers, Page page) {
+        return mappers.toListResponses(page.games, GameService.groupGenreNames(page.genreNameRows));
+    }
+
+    @Benchmark
+    public GameDetailResponse toDetailResponse(Mappers mappers, Detail detail) {
+        return mappers.toDetailResponse(detail.game, detail.genres, detail.systemRequirements, detail.reviews);
+    }
+}
@@ -0,0 +1,107 @@
+package com.project.gamereviewer.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.project.gamereviewer.dto.filter.GameFilterDto;
+import com.project.gamereviewer.entity.CompanyType;
+import com.project.gamereviewer.entity.Game;
+import com.project.gamereviewer.entity.GameListItem;
+import com.project.gamereviewer.entity.GameRatingStats;
+import com.project.gamereviewer.entity.Genre;
+import com.project.gamereviewer.entity.MediaOutlet;
+import com.project.gamereviewer.entity.ProductionCompany;
+import com.project.gamereviewer.entity.Review;
+import com.project.gamereviewer.entity.SystemRequirement;
+import com.project.gamereviewer.entity.SystemRequirementType;
+import com.project.gamereviewer.specification.GameSpecification;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+
+/**
+ * Criteria construction for the games filter, as Spring Data does it for every page and count query.
+ * Hibernate is bootstrapped from the entity mappings alone; no database is needed.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GameSpecificationBenchmark {
+
+    private static final List<Class<?>> ENTITIES = List.of(
+        CompanyType.class, ProductionCompany.class, MediaOutlet.class, Genre.class, Game.class,
+        GameListItem.class, GameRatingStats.class, Review.class, SystemRequirementType.class,
+        SystemRequirement.class
+    );
+
+    // Hibernate 6.4 has no public constant for it; keeps the bootstrap from opening a connection
+    private static final String USE_JDBC_METADATA_DEFAULTS = "hibernate.temp.use_jdbc_metadata_defaults";
+
+    @Param({"empty", "title", "genres", "all"})
+    String filter;
+
+    private StandardServiceRegistry registry;
+    private SessionFactory sessionFactory;
+    private CriteriaBuilder criteriaBuilder;
+    private GameFilterDto filterDto;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        registry = new StandardServiceRegistryBuilder()
+            .applySetting(AvailableSettings.DIALECT, PostgreSQLDialect.class.getName())
+            .applySetting(USE_JDBC_METADATA_DEFAULTS, false)
+            .applySetting(AvailableSettings.USE_SECOND_LEVEL_CACHE, false)
+            .build();
+        MetadataSources sources = new MetadataSources(registry);
+        ENTITIES.forEach(sources::addAnnotatedClass);
+        sessionFactory = sources.buildMetadata().buildSessionFactory();
+        criteriaBuilder = sessionFactory.getCriteriaBuilder();
+
+        filterDto = switch (filter) {
+            case "empty" -> new GameFilterDto(null, null, null, null, null, null, null, null);
+            case "title" -> new GameFilterDto("witcher", null, null, null, null, null, null, null);
+            case "genres" -> new GameFilterDto(null, null, null, List.of(1, 3), null, null, null, null);
+            case "all" -> new GameFilterDto("witcher", 2010, 2020, List.of(1, 3), 1, 1, 70.0, 100.0);
+            default -> throw new IllegalArgumentException(filter);
+        };
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        sessionFactory.close();
+        StandardServiceRegistryBuilder.destroy(registry);
+    }
+
+    @Benchmark
+    public CriteriaQuery<GameListItem> withFilters() {
+        Specification<GameListItem> spec = GameSpecification.withFilters(filterDto);
+        CriteriaQuery<GameListItem> query = criteriaBuilder.createQuery(GameListItem.class);
+        Root<GameListItem> root = query.from(GameListItem.class);
+        return query.where(spec.toPredicate(root, query, criteriaBuilder));
+    }
+}
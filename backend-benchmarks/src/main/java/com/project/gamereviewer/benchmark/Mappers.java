@@ -0,0 +1,82 @@
+package com.project.gamereviewer.benchmark;
+
+import java.util.List;
+import java.util.Map;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import com.project.gamereviewer.constant.ApiConstants;
+import com.project.gamereviewer.dto.response.GameDetailResponse;
+import com.project.gamereviewer.dto.response.GameListResponse;
+import com.project.gamereviewer.entity.Game;
+import com.project.gamereviewer.entity.GameListItem;
+import com.project.gamereviewer.entity.Genre;
+import com.project.gamereviewer.entity.Review;
+import com.project.gamereviewer.entity.SystemRequirement;
+import com.project.gamereviewer.fields.FieldSet;
+import com.project.gamereviewer.mapper.GameMapper;
+import com.project.gamereviewer.mapper.GenreMapper;
+import com.project.gamereviewer.mapper.ProductionCompanyMapper;
+import com.project.gamereviewer.mapper.ReviewMapper;
+import com.project.gamereviewer.mapper.SystemRequirementMapper;
+import com.project.gamereviewer.service.GameService;
+
+/**
+ * The generated mappers, wired by Spring since they inject each other. List rows go through
+ * {@link GameService#listResponseMapper} itself; the detail is assembled the way {@code GameDetailService} does.
+ */
+@State(Scope.Benchmark)
+public class Mappers {
+
+    private AnnotationConfigApplicationContext context;
+    private GameMapper gameMapper;
+    private GenreMapper genreMapper;
+    private ProductionCompanyMapper productionCompanyMapper;
+    private SystemRequirementMapper systemRequirementMapper;
+    private ReviewMapper reviewMapper;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new AnnotationConfigApplicationContext(GameMapper.class.getPackageName());
+        gameMapper = context.getBean(GameMapper.class);
+        genreMapper = context.getBean(GenreMapper.class);
+        productionCompanyMapper = context.getBean(ProductionCompanyMapper.class);
+        systemRequirementMapper = context.getBean(SystemRequirementMapper.class);
+        reviewMapper = context.getBean(ReviewMapper.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    List<GameListResponse> toListResponses(List<GameListItem> games, Map<Integer, List<String>> genreNames) {
+        return games.stream()
+            .map(GameService.listResponseMapper(gameMapper, genreNames, FieldSet.all(GameListResponse.class)))
+            .toList();
+    }
+
+    GameDetailResponse toDetailResponse(
+            Game game,
+            List<Genre> genres,
+            List<SystemRequirement> systemRequirements,
+            List<Review> reviews
+    ) {
+        return gameMapper.toDetailResponse(
+            game,
+            productionCompanyMapper.toResponse(game.getDeveloper()),
+            productionCompanyMapper.toResponse(game.getPublisher()),
+            genres.stream().map(genreMapper::toResponse).toList(),
+            systemRequirements.stream().map(systemRequirementMapper::toResponse).toList(),
+            reviews.stream()
+                .map(review -> reviewMapper.toResponse(review, game.getId(), game.getTitle()))
+                .toList(),
+            ApiConstants.REVIEWS + "/game/" + game.getId()
+        );
+    }
+}
@@ -0,0 +1,56 @@
+package com.project.gamereviewer.benchmark;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Prints the size of the {@link SerializationBenchmark} responses in each encoding, as written and
+ * gzipped the way {@code server.compression} would send it. Run with
+ * {@code java -cp benchmarks.jar com.project.gamereviewer.benchmark.PayloadSizes}.
+ */
+public final class PayloadSizes {
+
+    private static final List<String> ENCODINGS = List.of("indented-json", "json", "smile", "cbor", "columnar-json");
+    private static final List<Integer> PAGE_SIZES = List.of(20, 100);
+
+    private PayloadSizes() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        Mappers mappers = new Mappers();
+        mappers.setUp();
+        try {
+            SerializationBenchmark.Detail detail = new SerializationBenchmark.Detail();
+            detail.setUp(mappers);
+
+            System.out.printf("%-24s %-14s %10s %10s%n", "response", "encoding", "bytes", "gzipped");
+            for (int pageSize : PAGE_SIZES) {
+                SerializationBenchmark.Page page = new SerializationBenchmark.Page();
+                page.pageSize = pageSize;
+                page.setUp(mappers);
+                print("gameListPage(" + pageSize + ")", page.response);
+            }
+            print("gameDetail", detail.response);
+        } finally {
+            mappers.tearDown();
+        }
+    }
+
+    private static void print(String response, Object value) throws IOException {
+        for (String encoding : ENCODINGS) {
+            ObjectMapper objectMapper = SerializationBenchmark.objectMapper(encoding);
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            SerializationBenchmark.writeResponse(objectMapper, encoding.equals("columnar-json"), value, bytes);
+
+            ByteArrayOutputStream gzipped = new ByteArrayOutputStream();
+            try (GZIPOutputStream gzip = new GZIPOutputStream(gzipped)) {
+                bytes.writeTo(gzip);
+            }
+            System.out.printf("%-24s %-14s %10d %10d%n", response, encoding, bytes.size(), gzipped.size());
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.project.gamereviewer.benchmark;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.project.gamereviewer.dto.response.GameDetailResponse;
+import com.project.gamereviewer.dto.response.GameListResponse;
+import com.project.gamereviewer.dto.response.PageResponse;
+import com.project.gamereviewer.entity.Game;
+import com.project.gamereviewer.entity.GameListItem;
+import com.project.gamereviewer.pagination.ColumnarPage;
+import com.project.gamereviewer.service.GameService;
+
+/**
+ * Response serialization with an {@code ObjectMapper} configured like {@code spring.jackson} in
+ * {@code application.yml}, written through a generator to a discarding stream the way the message
+ * converter writes the servlet response.
+ * {@code encoding} compares the response encodings: pretty-printed JSON (the former default), compact
+ * JSON, Smile, CBOR and columnar JSON, which like the API only changes list pages. {@link PayloadSizes}
+ * reports the bytes each one sends.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SerializationBenchmark {
+
+    private static final long TOTAL_GAMES = 5000;
+
+    @State(Scope.Benchmark)
+    public static class Json {
+
+        @Param({"indented-json", "json", "smile", "cbor", "columnar-json"})
+        String encoding;
+
+        ObjectMapper objectMapper;
+        boolean columnar;
+        OutputStream output;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            objectMapper = objectMapper(encoding);
+            columnar = encoding.equals("columnar-json");
+            output = OutputStream.nullOutputStream();
+        }
+
+        void write(Object value) throws IOException {
+            writeResponse(objectMapper, columnar, value, output);
+        }
+    }
+
+    static ObjectMapper objectMapper(String encoding) {
+        Jackson2ObjectMapperBuilder builder = switch (encoding) {
+            case "indented-json" -> Jackson2ObjectMapperBuilder.json().indentOutput(true);
+            case "json", "columnar-json" -> Jackson2ObjectMapperBuilder.json();
+            case "smile" -> Jackson2ObjectMapperBuilder.smile();
+            case "cbor" -> Jackson2ObjectMapperBuilder.cbor();
+            default -> throw new IllegalArgumentException("Unknown encoding " + encoding);
+        };
+        return builder
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS,
+                DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .serializationInclusion(JsonInclude.Include.NON_NULL)
+            .timeZone(TimeZone.getTimeZone("UTC"))
+            .build();
+    }
+
+    static void writeResponse(ObjectMapper objectMapper, boolean columnar, Object value, OutputStream output) throws IOException {
+        // as MappingJackson2HttpMessageConverter does; writeValue(OutputStream) would close the stream
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(output, JsonEncoding.UTF8);
+        if (columnar && value instanceof PageResponse<?> page) {
+            // as ColumnarPageHttpMessageConverter does
+            objectMapper.getSerializationConfig().initialize(generator);
+            ColumnarPage.write(page, generator, objectMapper);
+        } else {
+            objectMapper.writeValue(generator, value);
+        }
+        generator.flush();
+    }
+
+    @State(Scope.Benchmark)
+    public static class Page {
+
+        @Param({"20", "100"})
+        int pageSize;
+
+        PageResponse<GameListResponse> response;
+
+        @Setup(Level.Trial)
+        public void setUp(Mappers mappers) {
+            List<GameListItem> games = CatalogFixtures.gameListItems(pageSize);
+            List<GameListResponse> content = mappers.toListResponses(
+                games, GameService.groupGenreNames(CatalogFixtures.genreNames(games)));
+            int totalPages = (int) ((TOTAL_GAMES + pageSize - 1) / pageSize);
+            response = new PageResponse<>(content, 0, pageSize, TOTAL_GAMES, totalPages, null, true, false, null);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Detail {
+
+        GameDetailResponse response;
+
+        @Setup(Level.Trial)
+        public void setUp(Mappers mappers) {
+            Game game = CatalogFixtures.game(1);
+            response = mappers.toDetailResponse(
+                game,
+                CatalogFixtures.genres(),
+                CatalogFixtures.systemRequirements(game),
+                CatalogFixtures.reviews(game)
+            );
+        }
+    }
+
+    @Benchmark
+    public void gameListPage(Json json, Page page) throws IOException {
+        json.write(page.response);
+    }
+
+    @Benchmark
+    public void gameDetail(Json json, Detail detail) throws IOException {
+        json.write(detail.response);
+    }
+}
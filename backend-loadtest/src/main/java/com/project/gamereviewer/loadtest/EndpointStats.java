@@ -0,0 +1,94 @@
+package com.project.gamereviewer.loadtest;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * Latencies and outcomes of one endpoint during the measured phase. Latency runs from the scheduled
+ * arrival time to the end of the response body, so time a request spent waiting for the client or the
+ * server to catch up is included (no coordinated omission).
+ */
+final class EndpointStats {
+
+    record Summary(
+        String endpoint,
+        double targetRate,
+        long requests,
+        long errors,
+        long dropped,
+        double throughput,
+        double p50Millis,
+        double p90Millis,
+        double p99Millis,
+        double p999Millis,
+        double maxMillis
+    ) {
+
+        double errorRate() {
+            return requests == 0 ? 0 : (double) errors / requests;
+        }
+    }
+
+    private final String endpoint;
+    private final double targetRate;
+
+    private long[] latencies = new long[1024];
+    private int count;
+    private long errors;
+    private long dropped;
+
+    EndpointStats(String endpoint, double targetRate) {
+        this.endpoint = endpoint;
+        this.targetRate = targetRate;
+    }
+
+    synchronized void success(long latencyNanos) {
+        add(latencyNanos);
+    }
+
+    /** A non-2xx status, a timeout or an I/O error. */
+    synchronized void error(long latencyNanos) {
+        add(latencyNanos);
+        errors++;
+    }
+
+    /** An arrival the client could not send because {@code --max-in-flight} requests were outstanding. */
+    synchronized void dropped() {
+        errors++;
+        dropped++;
+    }
+
+    synchronized Summary summarize(Duration measured) {
+        long[] sorted = Arrays.copyOf(latencies, count);
+        Arrays.sort(sorted);
+        long requests = count + dropped;
+        return new Summary(
+            endpoint,
+            targetRate,
+            requests,
+            errors,
+            dropped,
+            (requests - errors) / (measured.toNanos() / 1e9),
+            percentile(sorted, 0.50),
+            percentile(sorted, 0.90),
+            percentile(sorted, 0.99),
+            percentile(sorted, 0.999),
+            sorted.length == 0 ? 0 : sorted[sorted.length - 1] / 1e6
+        );
+    }
+
+    private void add(long latencyNanos) {
+        if (count == latencies.length) {
+            latencies = Arrays.copyOf(latencies, count * 2);
+        }
+        latencies[count++] = latencyNanos;
+    }
+
+    private static double percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(quantile * sorted.length);
+        return sorted[Math.max(0, rank - 1)] / 1e6;
+    }
+}
@@ -0,0 +1,116 @@
+package com.project.gamereviewer.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import com.project.gamereviewer.loadtest.TrafficMix.Endpoint;
+
+/**
+ * Open-model traffic: every endpoint gets arrivals at a fixed interval derived from its share of the total
+ * rate, whether or not earlier requests have completed. A single thread dispatches the schedule and sends
+ * asynchronously, so a slow server shows up as latency and errors instead of a lower arrival rate.
+ */
+final class LoadGenerator {
+
+    static final String ALL_ENDPOINTS = "all";
+
+    private record Arrival(long dueNanos, long intervalNanos, Endpoint endpoint) {
+    }
+
+    private final HttpClient client;
+    private final URI baseUri;
+    private final TrafficMix mix;
+    private final LoadTestOptions options;
+    private final Random random;
+    private final Semaphore inFlight;
+
+    LoadGenerator(URI baseUri, TrafficMix mix, LoadTestOptions options) {
+        this.client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(options.timeout())
+            .build();
+        this.baseUri = baseUri;
+        this.mix = mix;
+        this.options = options;
+        this.random = new Random(options.seed());
+        this.inFlight = new Semaphore(options.maxInFlight());
+    }
+
+    /** Runs the mix for the given time and returns per-endpoint results followed by the {@code all} row. */
+    List<EndpointStats.Summary> run(Duration duration) throws InterruptedException {
+        Map<String, EndpointStats> stats = new LinkedHashMap<>();
+        PriorityQueue<Arrival> schedule = new PriorityQueue<>(Comparator.comparingLong(Arrival::dueNanos));
+        long start = System.nanoTime();
+        for (Endpoint endpoint : mix.endpoints()) {
+            double rate = mix.rate(endpoint, options.rate());
+            long interval = (long) (TimeUnit.SECONDS.toNanos(1) / rate);
+            stats.put(endpoint.name(), new EndpointStats(endpoint.name(), rate));
+            // random phase, so endpoints with the same rate do not arrive together
+            schedule.add(new Arrival(start + (long) (random.nextDouble() * interval), interval, endpoint));
+        }
+        EndpointStats all = new EndpointStats(ALL_ENDPOINTS, options.rate());
+
+        long end = start + duration.toNanos();
+        while (schedule.peek().dueNanos() < end) {
+            Arrival arrival = schedule.poll();
+            schedule.add(new Arrival(arrival.dueNanos() + arrival.intervalNanos(), arrival.intervalNanos(),
+                arrival.endpoint()));
+            long wait = arrival.dueNanos() - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            send(arrival, stats.get(arrival.endpoint().name()), all);
+        }
+
+        // let outstanding requests finish or time out before the results are read
+        if (!inFlight.tryAcquire(options.maxInFlight(), options.timeout().plusSeconds(5).toMillis(),
+                TimeUnit.MILLISECONDS)) {
+            throw new IllegalStateException("Requests still outstanding after the timeout");
+        }
+        inFlight.release(options.maxInFlight());
+
+        List<EndpointStats.Summary> summaries = new ArrayList<>();
+        stats.values().forEach(endpointStats -> summaries.add(endpointStats.summarize(duration)));
+        summaries.add(all.summarize(duration));
+        return summaries;
+    }
+
+    private void send(Arrival arrival, EndpointStats stats, EndpointStats all) {
+        if (!inFlight.tryAcquire()) {
+            stats.dropped();
+            all.dropped();
+            return;
+        }
+        HttpRequest request = HttpRequest.newBuilder(baseUri.resolve(arrival.endpoint().path().apply(random)))
+            .timeout(options.timeout())
+            .header("Accept", "application/json")
+            .header("Accept-Encoding", "gzip")
+            .GET()
+            .build();
+        client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+            .whenComplete((response, failure) -> {
+                long latency = System.nanoTime() - arrival.dueNanos();
+                if (failure == null && response.statusCode() / 100 == 2) {
+                    stats.success(latency);
+                    all.success(latency);
+                } else {
+                    stats.error(latency);
+                    all.error(latency);
+                }
+                inFlight.release();
+            });
+    }
+}
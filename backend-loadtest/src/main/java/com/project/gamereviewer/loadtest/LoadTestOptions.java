@@ -0,0 +1,130 @@
+package com.project.gamereviewer.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Command line of the load test. Options are {@code --name=value}; any argument whose name contains a dot
+ * ({@code --spring.profiles.active=prod,virtual-threads}, {@code --app.game-index.enabled=false}) is passed
+ * to the application unchanged.
+ */
+record LoadTestOptions(
+    int games,
+    int reviews,
+    int genres,
+    int companies,
+    int outlets,
+    long seed,
+    double rate,
+    Duration warmup,
+    Duration duration,
+    Duration timeout,
+    int maxInFlight,
+    Map<String, Integer> mix,
+    String label,
+    Path report,
+    List<String> appArgs
+) {
+
+    static final String USAGE = """
+        Options (defaults in brackets):
+          --games=N            synthetic games [10000]
+          --reviews=N          reviews, at most games * outlets [50000]
+          --genres=N           genres, at least 3 [12]
+          --companies=N        production companies [200]
+          --outlets=N          media outlets [50]
+          --seed=N             seed of the dataset and of the request parameters [42]
+          --rate=R             total arrival rate in requests per second [100]
+          --warmup=S           warm-up seconds at the same rate, not reported [15]
+          --duration=S         measured seconds [60]
+          --timeout=S          per-request timeout in seconds [10]
+          --max-in-flight=N    requests outstanding before new arrivals count as dropped [1000]
+          --mix=a:w,b:w        weights for the named endpoints, 0 disables one (see TrafficMix)
+          --label=TEXT         label of this run in the report, e.g. a commit id
+          --report=FILE        append the results as CSV rows to FILE
+          --some.property=V    passed to the application (default --spring.profiles.active=prod)
+        """;
+
+    static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new LinkedHashMap<>();
+        List<String> appArgs = new ArrayList<>();
+        for (String arg : args) {
+            int eq = arg.indexOf('=');
+            if (!arg.startsWith("--") || eq < 0) {
+                throw new IllegalArgumentException("Expected --name=value but got '" + arg + "'");
+            }
+            String name = arg.substring(2, eq);
+            if (name.contains(".")) {
+                appArgs.add(arg);
+            } else {
+                values.put(name, arg.substring(eq + 1));
+            }
+        }
+
+        LoadTestOptions options = new LoadTestOptions(
+            intValue(values, "games", 10_000),
+            intValue(values, "reviews", 50_000),
+            intValue(values, "genres", 12),
+            intValue(values, "companies", 200),
+            intValue(values, "outlets", 50),
+            Long.parseLong(stringValue(values, "seed", "42")),
+            Double.parseDouble(stringValue(values, "rate", "100")),
+            Duration.ofSeconds(intValue(values, "warmup", 15)),
+            Duration.ofSeconds(intValue(values, "duration", 60)),
+            Duration.ofSeconds(intValue(values, "timeout", 10)),
+            intValue(values, "max-in-flight", 1000),
+            mix(stringValue(values, "mix", "")),
+            stringValue(values, "label", ""),
+            values.containsKey("report") ? Path.of(values.remove("report")) : null,
+            List.copyOf(appArgs)
+        );
+        if (!values.isEmpty()) {
+            throw new IllegalArgumentException("Unknown options " + values.keySet());
+        }
+        options.validate();
+        return options;
+    }
+
+    private void validate() {
+        if (games < 1 || companies < 1 || outlets < 1 || reviews < 0) {
+            throw new IllegalArgumentException("games, companies and outlets must be positive");
+        }
+        if (genres < 3) {
+            throw new IllegalArgumentException("genres must be at least 3");
+        }
+        if ((long) games * outlets < reviews) {
+            throw new IllegalArgumentException("reviews must not exceed games * outlets (one review per outlet and game)");
+        }
+        if (rate <= 0 || duration.isZero() || maxInFlight < 1) {
+            throw new IllegalArgumentException("rate, duration and max-in-flight must be positive");
+        }
+    }
+
+    private static String stringValue(Map<String, String> values, String name, String defaultValue) {
+        String value = values.remove(name);
+        return value == null ? defaultValue : value;
+    }
+
+    private static int intValue(Map<String, String> values, String name, int defaultValue) {
+        return Integer.parseInt(stringValue(values, name, String.valueOf(defaultValue)));
+    }
+
+    private static Map<String, Integer> mix(String value) {
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        if (value.isBlank()) {
+            return weights;
+        }
+        for (String entry : value.split(",")) {
+            String[] parts = entry.split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Expected endpoint:weight in --mix but got '" + entry + "'");
+            }
+            weights.put(parts[0].trim(), Integer.parseInt(parts[1].trim()));
+        }
+        return weights;
+    }
+}
@@ -0,0 +1,61 @@
+package com.project.gamereviewer.loadtest;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Prints the results as a table and appends them to the {@code --report} CSV, one row per endpoint and run,
+ * so runs of different commits can be compared by label.
+ */
+final class LoadTestReport {
+
+    private static final String ROW = "%-30s %8.1f %9d %7d %6.2f %9.1f %8.1f %8.1f %8.1f %8.1f %8.1f%n";
+    private static final String HEADER = "%-30s %8s %9s %7s %6s %9s %8s %8s %8s %8s %8s%n";
+
+    private static final String CSV_HEADER = "label,timestamp,games,reviews,rate,duration_s,endpoint,target_rate,"
+        + "requests,errors,dropped,error_rate,throughput,p50_ms,p90_ms,p99_ms,p999_ms,max_ms";
+
+    private LoadTestReport() {
+    }
+
+    static void print(PrintStream out, LoadTestOptions options, List<EndpointStats.Summary> results) {
+        out.printf(Locale.ROOT, "%nLoad test%s: %d games, %d reviews, %.1f req/s for %ds%n",
+            options.label().isEmpty() ? "" : " '" + options.label() + "'", options.games(), options.reviews(),
+            options.rate(), options.duration().toSeconds());
+        out.printf(Locale.ROOT, HEADER, "endpoint", "rate/s", "requests", "errors", "err%", "thrpt/s",
+            "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        for (EndpointStats.Summary result : results) {
+            out.printf(Locale.ROOT, ROW, result.endpoint(), result.targetRate(), result.requests(), result.errors(),
+                result.errorRate() * 100, result.throughput(), result.p50Millis(), result.p90Millis(),
+                result.p99Millis(), result.p999Millis(), result.maxMillis());
+        }
+    }
+
+    static void append(Path file, LoadTestOptions options, List<EndpointStats.Summary> results) throws IOException {
+        List<String> lines = new ArrayList<>();
+        if (!Files.exists(file)) {
+            lines.add(CSV_HEADER);
+        }
+        String run = String.format(Locale.ROOT, "%s,%s,%d,%d,%s,%d", csv(options.label()), Instant.now(),
+            options.games(), options.reviews(), options.rate(), options.duration().toSeconds());
+        for (EndpointStats.Summary result : results) {
+            lines.add(String.format(Locale.ROOT, "%s,%s,%.2f,%d,%d,%d,%.5f,%.2f,%.3f,%.3f,%.3f,%.3f,%.3f",
+                run, result.endpoint(), result.targetRate(), result.requests(), result.errors(), result.dropped(),
+                result.errorRate(), result.throughput(), result.p50Millis(), result.p90Millis(), result.p99Millis(),
+                result.p999Millis(), result.maxMillis()));
+        }
+        Files.write(file, lines, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    private static String csv(String value) {
+        return value.contains(",") || value.contains("\"") ? "\"" + value.replace("\"", "\"\"") + "\"" : value;
+    }
+}
@@ -0,0 +1,114 @@
+package com.project.gamereviewer.loadtest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.project.gamereviewer.GameReviewerApplication;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+
+/**
+ * Entry point of {@code loadtest.jar}: starts an embedded PostgreSQL with the schema of
+ * {@code docker/postgres/init.sql}, seeds a synthetic catalog, boots the application on a random port with
+ * the {@code prod} profile and drives the {@link TrafficMix} at a fixed arrival rate. The warm-up runs the
+ * same traffic and is not reported.
+ */
+public final class LoadTestRunner {
+
+    private static final String SCHEMA = "/schema/init.sql";
+
+    private LoadTestRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options;
+        TrafficMix mix;
+        try {
+            options = LoadTestOptions.parse(args);
+            mix = new TrafficMix(options);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(LoadTestOptions.USAGE);
+            System.exit(2);
+            return;
+        }
+
+        try (EmbeddedPostgres postgres = EmbeddedPostgres.builder()
+                .setServerConfig("max_connections", "200")
+                .start()) {
+            seed(postgres.getPostgresDatabase(), options);
+
+            try (ConfigurableApplicationContext context = SpringApplication.run(
+                    GameReviewerApplication.class, applicationArgs(postgres, options))) {
+                int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+                LoadGenerator generator = new LoadGenerator(URI.create("http://localhost:" + port), mix, options);
+
+                if (!options.warmup().isZero()) {
+                    System.out.printf("Warming up for %ds%n", options.warmup().toSeconds());
+                    generator.run(options.warmup());
+                }
+                System.out.printf("Measuring for %ds%n", options.duration().toSeconds());
+                List<EndpointStats.Summary> results = generator.run(options.duration());
+
+                LoadTestReport.print(System.out, options, results);
+                if (options.report() != null) {
+                    LoadTestReport.append(options.report(), options, results);
+                }
+            }
+        }
+    }
+
+    private static void seed(DataSource dataSource, LoadTestOptions options) throws SQLException, IOException {
+        long start = System.nanoTime();
+        try (Connection connection = dataSource.getConnection()) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute(schema());
+            }
+            new SyntheticCatalog(options).seed(connection);
+        }
+        System.out.printf("Seeded %d games, %d reviews, %d genres, %d companies and %d outlets in %dms%n",
+            options.games(), options.reviews(), options.genres(), options.companies(), options.outlets(),
+            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    private static String schema() throws IOException {
+        try (InputStream in = LoadTestRunner.class.getResourceAsStream(SCHEMA)) {
+            if (in == null) {
+                throw new IllegalStateException(SCHEMA + " is missing from the classpath");
+            }
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    // repeated command line options are joined into a list by Spring, so overrides replace the defaults here
+    private static String[] applicationArgs(EmbeddedPostgres postgres, LoadTestOptions options) {
+        Map<String, String> properties = new LinkedHashMap<>();
+        properties.put("spring.profiles.active", "prod");
+        properties.put("spring.datasource.url", postgres.getJdbcUrl("postgres", "postgres"));
+        properties.put("spring.datasource.username", "postgres");
+        properties.put("spring.datasource.password", "");
+        properties.put("server.port", "0");
+        for (String arg : options.appArgs()) {
+            int eq = arg.indexOf('=');
+            properties.put(arg.substring(2, eq), arg.substring(eq + 1));
+        }
+        return properties.entrySet().stream()
+            .map(property -> "--" + property.getKey() + "=" + property.getValue())
+            .toArray(String[]::new);
+    }
+}
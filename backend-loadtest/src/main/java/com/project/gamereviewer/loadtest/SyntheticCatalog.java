@@ -0,0 +1,170 @@
+package com.project.gamereviewer.loadtest;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Replaces the sample rows of the schema script with a synthetic catalog of the requested size. Rows are
+ * generated server side with {@code generate_series} and a seeded {@code random()}, so the same options
+ * give the same dataset. Every row satisfies the constraints of the schema: unique names and titles per
+ * year, year checks, one review per outlet and game, one system requirement per type and game, and rating
+ * stats that agree with the reviews.
+ */
+final class SyntheticCatalog {
+
+    /** Title words; {@link TrafficMix} searches for them so title filters match. */
+    static final List<String> TITLE_ADJECTIVES = List.of(
+        "Shadow", "Iron", "Crimson", "Lost", "Eternal", "Silent", "Frozen", "Hollow", "Radiant", "Broken",
+        "Ancient", "Neon"
+    );
+    static final List<String> TITLE_NOUNS = List.of(
+        "Legends", "Kingdom", "Frontier", "Protocol", "Odyssey", "Dominion", "Echoes", "Horizon", "Tactics",
+        "Chronicles", "Rebellion", "Depths"
+    );
+
+    private static final String TRUNCATE = """
+        TRUNCATE company_types, production_companies, media_outlets, genres, games, games_genres, reviews,
+                 system_requirement_types, system_requirements, game_rating_stats
+        RESTART IDENTITY CASCADE
+        """;
+
+    private static final String INSERT_REFERENCE_DATA = """
+        INSERT INTO company_types (name) VALUES ('Developer'), ('Publisher'), ('Hybrid');
+        INSERT INTO system_requirement_types (name) VALUES ('low'), ('medium'), ('high');
+        """;
+
+    private static final String INSERT_GENRES = """
+        INSERT INTO genres (name)
+        SELECT COALESCE((ARRAY['RPG', 'Action', 'Shooter', 'Strategy', 'Adventure', 'Simulation', 'Puzzle',
+                               'Racing', 'Sports', 'Horror', 'Platformer', 'Fighting'])[i], 'Genre ' || i)
+        FROM generate_series(1, ?) i
+        """;
+
+    private static final String INSERT_COMPANIES = """
+        INSERT INTO production_companies (name, founded_year, website_url, ceo, company_type_id)
+        SELECT 'Studio ' || i, 1950 + (random() * 70)::int, 'https://studio' || i || '.example.com',
+               'CEO ' || i, 1 + i % 3
+        FROM generate_series(1, ?) i
+        """;
+
+    private static final String INSERT_OUTLETS = """
+        INSERT INTO media_outlets (name, website_url, founded_year)
+        SELECT 'Outlet ' || i, 'https://outlet' || i || '.example.com', 1980 + (random() * 40)::int
+        FROM generate_series(1, ?) i
+        """;
+
+    // explicit ids: games_id_seq is incremented in blocks for Hibernate and is set past them below
+    private static final String INSERT_GAMES = """
+        INSERT INTO games (id, title, release_year, description, developer_id, publisher_id)
+        SELECT i,
+               (?::text[])[1 + i % ?] || ' ' || (?::text[])[1 + (i / ?) % ?] || ' ' || i,
+               1980 + (random() * 45)::int,
+               'Synthetic game ' || i || '. ' || repeat('Explore, fight and build. ', 1 + (random() * 6)::int),
+               1 + (random() * (? - 1))::int,
+               1 + (random() * (? - 1))::int
+        FROM generate_series(1, ?) i
+        """;
+
+    private static final String SET_GAMES_SEQUENCE = "SELECT setval('games_id_seq', ?)";
+
+    // one to three distinct genres per game; the LIMIT depends on the game, so the subquery runs per row
+    private static final String INSERT_GAME_GENRES = """
+        INSERT INTO games_genres (game_id, genre_id)
+        SELECT g.id, pick.id
+        FROM games g
+        CROSS JOIN LATERAL (SELECT id FROM genres ORDER BY random() LIMIT 1 + g.id % 3) pick
+        """;
+
+    // review i goes to game i % games; the k-th review of a game gets outlet (k + game) % outlets, so outlets
+    // never repeat for a game as long as reviews <= games * outlets. Scores centre on a per-game quality.
+    private static final String INSERT_REVIEWS = """
+        INSERT INTO reviews (game_id, media_outlet_id, score, summary)
+        SELECT 1 + i % ?,
+               1 + (i / ? + i % ?) % ?,
+               GREATEST(0, LEAST(100, 45 + ((1 + i % ?) * 37) % 45 + (random() * 20)::int - 10)),
+               repeat('A solid entry with a few rough edges. ', 1 + (random() * 8)::int)
+        FROM generate_series(0, ? - 1) i
+        """;
+
+    private static final String INSERT_SYSTEM_REQUIREMENTS = """
+        INSERT INTO system_requirements (game_id, system_requirement_type_id, storage_gb, ram_gb, cpu_ghz,
+                                         gpu_tflops, vram_gb)
+        SELECT g.id, t.id, 10 + (random() * 140)::int, 4 * t.id + 4, round((2.0 + t.id * 0.5 + random())::numeric, 1),
+               round((1 + t.id * 3 + random() * 5)::numeric, 2), 2 * t.id
+        FROM games g
+        CROSS JOIN system_requirement_types t
+        """;
+
+    private static final String INSERT_RATING_STATS = """
+        INSERT INTO game_rating_stats (game_id, review_count, score_sum, average_rating, min_score, max_score)
+        SELECT g.id, COUNT(r.id), COALESCE(SUM(r.score), 0), COALESCE(AVG(r.score), 0.0), MIN(r.score), MAX(r.score)
+        FROM games g
+        LEFT JOIN reviews r ON r.game_id = g.id
+        GROUP BY g.id
+        """;
+
+    private final LoadTestOptions options;
+
+    SyntheticCatalog(LoadTestOptions options) {
+        this.options = options;
+    }
+
+    void seed(Connection connection) throws SQLException {
+        connection.setAutoCommit(false);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(TRUNCATE);
+            statement.execute(INSERT_REFERENCE_DATA);
+        }
+        try (PreparedStatement statement = connection.prepareStatement("SELECT setseed(?)")) {
+            statement.setDouble(1, new Random(options.seed()).nextDouble() * 2 - 1);
+            statement.execute();
+        }
+
+        update(connection, INSERT_GENRES, options.genres());
+        update(connection, INSERT_COMPANIES, options.companies());
+        update(connection, INSERT_OUTLETS, options.outlets());
+
+        String[] adjectives = TITLE_ADJECTIVES.toArray(String[]::new);
+        String[] nouns = TITLE_NOUNS.toArray(String[]::new);
+        try (PreparedStatement statement = connection.prepareStatement(INSERT_GAMES)) {
+            statement.setArray(1, connection.createArrayOf("text", adjectives));
+            statement.setInt(2, adjectives.length);
+            statement.setArray(3, connection.createArrayOf("text", nouns));
+            statement.setInt(4, adjectives.length);
+            statement.setInt(5, nouns.length);
+            statement.setInt(6, options.companies());
+            statement.setInt(7, options.companies());
+            statement.setInt(8, options.games());
+            statement.executeUpdate();
+        }
+        try (PreparedStatement statement = connection.prepareStatement(SET_GAMES_SEQUENCE)) {
+            statement.setInt(1, options.games());
+            statement.execute();
+        }
+
+        update(connection, INSERT_GAME_GENRES);
+        update(connection, INSERT_REVIEWS, options.games(), options.games(), options.games(), options.outlets(),
+            options.games(), options.reviews());
+        update(connection, INSERT_SYSTEM_REQUIREMENTS);
+        update(connection, INSERT_RATING_STATS);
+        connection.commit();
+
+        connection.setAutoCommit(true);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ANALYZE");
+        }
+    }
+
+    private static void update(Connection connection, String sql, int... parameters) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (int i = 0; i < parameters.length; i++) {
+                statement.setInt(i + 1, parameters[i]);
+            }
+            statement.executeUpdate();
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.project.gamereviewer.loadtest;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Function;
+
+import com.project.gamereviewer.constant.ApiConstants;
+
+/**
+ * The read endpoints of the eight resource controllers with their default share of the traffic, weighted
+ * towards the catalog pages clients open most. Path and query parameters are drawn from the synthetic
+ * catalog, so every request addresses an existing row.
+ */
+final class TrafficMix {
+
+    record Endpoint(String name, int weight, Function<Random, String> path) {
+    }
+
+    private final List<Endpoint> endpoints;
+
+    TrafficMix(LoadTestOptions options) {
+        List<Endpoint> defaults = defaults(options);
+        Set<String> unknown = new HashSet<>(options.mix().keySet());
+        List<Endpoint> weighted = new ArrayList<>();
+        for (Endpoint endpoint : defaults) {
+            unknown.remove(endpoint.name());
+            int weight = options.mix().getOrDefault(endpoint.name(), endpoint.weight());
+            if (weight > 0) {
+                weighted.add(new Endpoint(endpoint.name(), weight, endpoint.path()));
+            }
+        }
+        if (!unknown.isEmpty()) {
+            throw new IllegalArgumentException("Unknown endpoints in --mix " + unknown + ", expected one of "
+                + defaults.stream().map(Endpoint::name).toList());
+        }
+        if (weighted.isEmpty()) {
+            throw new IllegalArgumentException("--mix disables every endpoint");
+        }
+        this.endpoints = List.copyOf(weighted);
+    }
+
+    List<Endpoint> endpoints() {
+        return endpoints;
+    }
+
+    /** Arrivals per second of one endpoint at the given total rate. */
+    double rate(Endpoint endpoint, double totalRate) {
+        int totalWeight = endpoints.stream().mapToInt(Endpoint::weight).sum();
+        return totalRate * endpoint.weight() / totalWeight;
+    }
+
+    private static List<Endpoint> defaults(LoadTestOptions options) {
+        int games = options.games();
+        int reviews = options.reviews();
+        int companies = options.companies();
+        int outlets = options.outlets();
+        int genres = options.genres();
+        return List.of(
+            new Endpoint("games.list", 12, random -> ApiConstants.GAMES
+                + "?page=" + random.nextInt(Math.max(1, Math.min(games / 20, 50))) + "&size=20"
+                + "&sortBy=" + pick(random, List.of("id", "title", "releaseYear", "averageRating"))
+                + "&sortDirection=" + pick(random, List.of("ASC", "DESC"))),
+            new Endpoint("games.filter", 14, random -> ApiConstants.GAMES + "/filter"
+                + "?title=" + pick(random, SyntheticCatalog.TITLE_NOUNS).toLowerCase(Locale.ROOT)
+                + "&genreIds=" + (1 + random.nextInt(genres))
+                + "&yearFrom=" + (1980 + random.nextInt(30))
+                + "&size=20&sortBy=averageRating&sortDirection=DESC"),
+            new Endpoint("games.facets", 4, random -> ApiConstants.GAMES + "/facets"
+                + "?genreIds=" + (1 + random.nextInt(genres))),
+            new Endpoint("games.detail", 20, random -> ApiConstants.GAMES + "/" + (1 + random.nextInt(games))),
+            new Endpoint("reviews.list", 4, random -> ApiConstants.REVIEWS
+                + "?page=" + random.nextInt(50) + "&size=20"),
+            new Endpoint("reviews.byGame", 10, random -> ApiConstants.REVIEWS + "/game/" + (1 + random.nextInt(games))),
+            new Endpoint("reviews.detail", 4, random -> reviews == 0
+                ? ApiConstants.REVIEWS
+                : ApiConstants.REVIEWS + "/" + (1 + random.nextInt(reviews))),
+            new Endpoint("system-requirements.byGame", 8, random -> ApiConstants.SYSTEM_REQUIREMENTS
+                + "/game/" + (1 + random.nextInt(games))),
+            new Endpoint("system-requirements.detail", 2, random -> ApiConstants.SYSTEM_REQUIREMENTS
+                + "/" + (1 + random.nextInt(games * 3))),
+            new Endpoint("genres.list", 6, random -> ApiConstants.GENRES),
+            new Endpoint("genres.detail", 2, random -> ApiConstants.GENRES + "/" + (1 + random.nextInt(genres))),
+            new Endpoint("production-companies.list", 3, random -> ApiConstants.PRODUCTION_COMPANIES
+                + "?page=" + random.nextInt(Math.max(1, companies / 20)) + "&size=20"),
+            new Endpoint("production-companies.detail", 3, random -> ApiConstants.PRODUCTION_COMPANIES
+                + "/" + (1 + random.nextInt(companies))),
+            new Endpoint("media-outlets.list", 2, random -> ApiConstants.MEDIA_OUTLETS
+                + "?page=" + random.nextInt(Math.max(1, outlets / 20)) + "&size=20"),
+            new Endpoint("media-outlets.detail", 2, random -> ApiConstants.MEDIA_OUTLETS
+                + "/" + (1 + random.nextInt(outlets))),
+            new Endpoint("company-types.list", 2, random -> ApiConstants.COMPANY_TYPES),
+            new Endpoint("system-requirement-types.list", 2, random -> ApiConstants.SYSTEM_REQUIREMENT_TYPES)
+        );
+    }
+
+    private static String pick(Random random, List<String> values) {
+        return values.get(random.nextInt(values.size()));
+    }
+}
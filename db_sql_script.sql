@@ -1,3 +1,5 @@
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
 CREATE TABLE company_types (
     id SERIAL PRIMARY KEY,
     name VARCHAR2(50) NOT NULL UNIQUE
@@ -9,19 +11,22 @@ CREATE TABLE production_companies (
     founded_year INT CHECK (founded_year >= 1900),
     website_url VARCHAR2(255),
     ceo VARCHAR2(100),
-    company_type_id INT REFERENCES company_types(id) ON DELETE SET NULL
+    company_type_id INT REFERENCES company_types(id) ON DELETE SET NULL,
+    version BIGINT NOT NULL DEFAULT 0
 );
 
 CREATE TABLE media_outlets (
     id SERIAL PRIMARY KEY,
     name VARCHAR2(100) NOT NULL UNIQUE,
     website_url VARCHAR2(255),
-    founded_year INT CHECK (founded_year >= 1900)
+    founded_year INT CHECK (founded_year >= 1900),
+    version BIGINT NOT NULL DEFAULT 0
 );
 
 CREATE TABLE genres (
     id SERIAL PRIMARY KEY,
-    name VARCHAR2(50) NOT NULL UNIQUE
+    name VARCHAR2(50) NOT NULL UNIQUE,
+    version BIGINT NOT NULL DEFAULT 0
 );
 
 CREATE TABLE games (
@@ -31,6 +36,7 @@ CREATE TABLE games (
     description TEXT,
     developer_id INT REFERENCES production_companies(id) ON DELETE SET NULL,
     publisher_id INT REFERENCES production_companies(id) ON DELETE SET NULL,
+    version BIGINT NOT NULL DEFAULT 0,
     CONSTRAINT uq_game_title_year UNIQUE (title, release_year)
 );
 
@@ -66,9 +72,19 @@ CREATE TABLE system_requirements (
     CONSTRAINT uq_game_requirement_type UNIQUE (game_id, system_requirement_type_id)
 );
 
+CREATE TABLE game_rating_stats (
+    game_id INT PRIMARY KEY REFERENCES games(id) ON DELETE CASCADE,
+    review_count INT NOT NULL DEFAULT 0 CHECK (review_count >= 0),
+    score_sum BIGINT NOT NULL DEFAULT 0,
+    average_rating DOUBLE PRECISION NOT NULL DEFAULT 0.0,
+    min_score INT,
+    max_score INT
+);
+
 CREATE INDEX idx_games_developer_id ON games(developer_id);
 CREATE INDEX idx_games_publisher_id ON games(publisher_id);
 CREATE INDEX idx_games_title ON games(title);
+CREATE INDEX idx_games_title_trgm ON games USING GIN (lower(title) gin_trgm_ops);
 CREATE INDEX idx_games_release_year ON games(release_year);
 
 CREATE INDEX idx_reviews_game_id ON reviews(game_id);
@@ -77,6 +93,8 @@ CREATE INDEX idx_reviews_score ON reviews(score);
 
 CREATE INDEX idx_system_requirements_game_id ON system_requirements(game_id);
 
+CREATE INDEX idx_game_rating_stats_average_rating ON game_rating_stats(average_rating, game_id);
+
 
 
 
@@ -131,4 +149,13 @@ INSERT INTO reviews (game_id, media_outlet_id, score, summary) VALUES
 ((SELECT id FROM games WHERE title = 'The Witcher 3: Wild Hunt'), (SELECT id FROM media_outlets WHERE name = 'PC Gamer'), 92, 'One of the best PC games ever.'),
 ((SELECT id FROM games WHERE title = 'Grand Theft Auto V'), (SELECT id FROM media_outlets WHERE name = 'IGN'), 100, 'A masterpiece.'),
 ((SELECT id FROM games WHERE title = 'Elden Ring'), (SELECT id FROM media_outlets WHERE name = 'GameSpot'), 100, 'FromSoftware best work.'),
-((SELECT id FROM games WHERE title = 'Elden Ring'), (SELECT id FROM media_outlets WHERE name = 'IGN'), 100, 'Simply incredible.');
\ No newline at end of file
+((SELECT id FROM games WHERE title = 'Elden Ring'), (SELECT id FROM media_outlets WHERE name = 'IGN'), 100, 'Simply incredible.');
+
+INSERT INTO game_rating_stats (game_id, review_count, score_sum, average_rating, min_score, max_score)
+SELECT g.id, COUNT(r.id), COALESCE(SUM(r.score), 0), COALESCE(AVG(r.score), 0.0), MIN(r.score), MAX(r.score)
+FROM games g
+LEFT JOIN reviews r ON r.game_id = g.id
+GROUP BY g.id;
+
+-- Game ids are allocated by Hibernate in pooled blocks (Game.ID_ALLOCATION_SIZE) so inserts can be batched.
+ALTER SEQUENCE games_id_seq INCREMENT BY 50;
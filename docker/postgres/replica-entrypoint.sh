@@ -0,0 +1,14 @@
+#!/bin/sh
+# Clones the primary into an empty data directory as a hot standby, then runs it.
+set -e
+if [ ! -s "$PGDATA/PG_VERSION" ]; then
+    mkdir -p "$PGDATA"
+    chown postgres:postgres "$PGDATA"
+    chmod 700 "$PGDATA"
+    until PGPASSWORD="$POSTGRES_PASSWORD" su-exec postgres \
+        pg_basebackup -h db -U "$POSTGRES_USER" -D "$PGDATA" -R -X stream; do
+        echo "Waiting for the primary"
+        sleep 2
+    done
+fi
+exec su-exec postgres postgres